@@ -8,20 +8,13 @@ import {
 } from 'lucide-react';
 import { useAuth } from '../../hooks/useAuth';
 import apiClient from '../../services/api';
-import { CurrentStock, ProductionRequest, ProductionBatch, WasteEvent } from '../../types/api';
+import { DashboardSummary } from '../../types/api';
 import styles from './DashboardPage.module.css';
 import globals from '../../styles/globals.module.css';
 
-interface DashboardData {
-  lowStockItems: CurrentStock[];
-  openRequests: ProductionRequest[];
-  todaysBatches: ProductionBatch[];
-  recentWaste: WasteEvent[];
-}
-
 export default function DashboardPage() {
   const { user } = useAuth();
-  const [data, setData] = useState<DashboardData | null>(null);
+  const [data, setData] = useState<DashboardSummary | null>(null);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState('');
 
@@ -32,7 +25,7 @@ export default function DashboardPage() {
   const loadDashboardData = async () => {
     try {
       setLoading(true);
-      const dashboardData = await apiClient.getDashboardData();
+      const dashboardData = await apiClient.getDashboardSummary();
       setData(dashboardData);
     } catch (err: any) {
       setError('Failed to load dashboard data');
@@ -88,28 +81,28 @@ export default function DashboardPage() {
       <div className={styles.statsGrid}>
         <StatsCard
           title="Low Stock Items"
-          value={data?.lowStockItems.length || 0}
+          value={data?.belowParStock.count || 0}
           icon={AlertTriangle}
           color="warning"
           subtitle="Need attention"
         />
         <StatsCard
           title="Open Requests"
-          value={data?.openRequests.length || 0}
+          value={data?.openRequests.count || 0}
           icon={Clock}
           color="info"
           subtitle="Production pending"
         />
         <StatsCard
           title="Today's Batches"
-          value={data?.todaysBatches.length || 0}
+          value={data?.todaysBatches.count || 0}
           icon={Factory}
           color="success"
           subtitle="Completed today"
         />
         <StatsCard
           title="Recent Waste"
-          value={data?.recentWaste.length || 0}
+          value={data?.recentWaste.count || 0}
           icon={Package}
           color="danger"
           subtitle="This week"
@@ -125,14 +118,14 @@ export default function DashboardPage() {
             <AlertTriangle size={20} className={styles.warningIcon} />
           </div>
           <div className={styles.cardContent}>
-            {data?.lowStockItems.length === 0 ? (
+            {data?.belowParStock.count === 0 ? (
               <div className={styles.emptyState}>
                 <Package size={32} />
                 <p>All items are well stocked!</p>
               </div>
             ) : (
               <div className={styles.itemList}>
-                {data?.lowStockItems.slice(0, 5).map((stock) => (
+                {data?.belowParStock.items.slice(0, 5).map((stock) => (
                   <div key={stock.id} className={styles.stockItem}>
                     <div className={styles.stockInfo}>
                       <span className={styles.itemName}>
@@ -159,14 +152,14 @@ export default function DashboardPage() {
             <Clock size={20} className={styles.infoIcon} />
           </div>
           <div className={styles.cardContent}>
-            {data?.openRequests.length === 0 ? (
+            {data?.openRequests.count === 0 ? (
               <div className={styles.emptyState}>
                 <Factory size={32} />
                 <p>No pending production requests</p>
               </div>
             ) : (
               <div className={styles.itemList}>
-                {data?.openRequests.slice(0, 5).map((request) => (
+                {data?.openRequests.items.slice(0, 5).map((request) => (
                   <div key={request.id} className={styles.requestItem}>
                     <div className={styles.requestInfo}>
                       <span className={styles.itemName}>
@@ -193,14 +186,14 @@ export default function DashboardPage() {
             <TrendingUp size={20} className={styles.successIcon} />
           </div>
           <div className={styles.cardContent}>
-            {data?.todaysBatches.length === 0 ? (
+            {data?.todaysBatches.count === 0 ? (
               <div className={styles.emptyState}>
                 <Factory size={32} />
                 <p>No batches completed today</p>
               </div>
             ) : (
               <div className={styles.itemList}>
-                {data?.todaysBatches.slice(0, 5).map((batch) => (
+                {data?.todaysBatches.items.slice(0, 5).map((batch) => (
                   <div key={batch.id} className={styles.batchItem}>
                     <div className={styles.batchInfo}>
                       <span className={styles.itemName}>
@@ -1,12 +1,14 @@
 import React, { useEffect, useState } from 'react';
 import { Trash2, Plus, AlertTriangle, Calendar, User, Package, Factory, X } from 'lucide-react';
 import apiClient from '../../services/api';
-import { WasteEvent, InventoryItem, ProductionBatch, RecordWasteRequest, WasteReason } from '../../types/api';
-import { format } from 'date-fns';
+import { WasteEvent, InventoryItem, ProductionBatch, RecordWasteRequest, WasteReason, WasteReportRow } from '../../types/api';
+import { format, subDays } from 'date-fns';
 import globals from '../../styles/globals.module.css';
 
 export default function WasteTrackingPage() {
   const [wasteEvents, setWasteEvents] = useState<WasteEvent[]>([]);
+  const [wasteByReason, setWasteByReason] = useState<WasteReportRow[]>([]);
+  const [wasteThisWeek, setWasteThisWeek] = useState<WasteReportRow[]>([]);
   const [items, setItems] = useState<InventoryItem[]>([]);
   const [batches, setBatches] = useState<ProductionBatch[]>([]);
   const [loading, setLoading] = useState(true);
@@ -23,7 +25,8 @@ export default function WasteTrackingPage() {
       const [wasteData, itemsData, batchesData] = await Promise.all([
         apiClient.getWasteEvents(),
         apiClient.getInventoryItems(),
-        apiClient.getProductionBatches()
+        apiClient.getProductionBatches(),
+        loadReports()
       ]);
       setWasteEvents(wasteData);
       setItems(itemsData);
@@ -37,11 +40,22 @@ export default function WasteTrackingPage() {
     }
   };
 
+  // Summary cards come from the server-side rollups rather than from summing events here
+  const loadReports = async () => {
+    const [byReason, thisWeek] = await Promise.all([
+      apiClient.getWasteReport('REASON'),
+      apiClient.getWasteReport('DAY', format(subDays(new Date(), 6), 'yyyy-MM-dd'))
+    ]);
+    setWasteByReason(byReason);
+    setWasteThisWeek(thisWeek);
+  };
+
   const handleRecordWaste = async (data: RecordWasteRequest) => {
     try {
       const newWaste = await apiClient.recordWaste(data);
       setWasteEvents(prev => [newWaste, ...prev]);
       setShowWasteForm(false);
+      loadReports().catch(err => console.error('Error loading waste report:', err));
     } catch (err) {
       console.error('Error recording waste:', err);
       setError('Failed to record waste event');
@@ -72,11 +86,10 @@ export default function WasteTrackingPage() {
     return groups;
   }, {} as Record<string, WasteEvent[]>);
 
-  const totalWasteValue = wasteEvents.reduce((sum, event) => sum + event.quantity, 0);
-  const wasteByReason = wasteEvents.reduce((counts, event) => {
-    counts[event.reason] = (counts[event.reason] || 0) + event.quantity;
-    return counts;
-  }, {} as Record<WasteReason, number>);
+  const totalWasteValue = wasteByReason.reduce((sum, row) => sum + row.quantity, 0);
+  const totalWasteCost = wasteByReason.reduce((sum, row) => sum + row.totalCost, 0);
+  const topWasteReason = wasteByReason[0];
+  const eventsThisWeek = wasteThisWeek.reduce((sum, row) => sum + row.eventCount, 0);
 
   if (loading) {
     return (
@@ -137,7 +150,7 @@ export default function WasteTrackingPage() {
             {totalWasteValue.toFixed(1)} units
           </p>
           <p className={`${globals.textSm} ${globals.textMuted}`}>
-            Across all items and batches
+            ${totalWasteCost.toFixed(2)} over the last 90 days
           </p>
         </div>
 
@@ -146,13 +159,13 @@ export default function WasteTrackingPage() {
             <AlertTriangle size={24} className={`${globals.textWarning}`} />
             <h2 className={`${globals.textXl} ${globals.fontSemibold}`}>Top Waste Reason</h2>
           </div>
-          {Object.keys(wasteByReason).length > 0 ? (
+          {topWasteReason ? (
             <>
               <p className={`${globals.text3xl} ${globals.fontBold} ${globals.textWarning}`}>
-                {Object.entries(wasteByReason).sort(([,a], [,b]) => b - a)[0]?.[0] || 'None'}
+                {topWasteReason.group || 'None'}
               </p>
               <p className={`${globals.textSm} ${globals.textMuted}`}>
-                {Object.entries(wasteByReason).sort(([,a], [,b]) => b - a)[0]?.[1]?.toFixed(1) || '0'} units wasted
+                {topWasteReason.quantity.toFixed(1)} units wasted (${topWasteReason.totalCost.toFixed(2)})
               </p>
             </>
           ) : (
@@ -169,12 +182,7 @@ export default function WasteTrackingPage() {
             <h2 className={`${globals.textXl} ${globals.fontSemibold}`}>This Week</h2>
           </div>
           <p className={`${globals.text3xl} ${globals.fontBold} ${globals.textInfo}`}>
-            {wasteEvents.filter(e => {
-              const eventDate = new Date(e.recordedAt);
-              const weekAgo = new Date();
-              weekAgo.setDate(weekAgo.getDate() - 7);
-              return eventDate > weekAgo;
-            }).length}
+            {eventsThisWeek}
           </p>
           <p className={`${globals.textSm} ${globals.textMuted}`}>
             Waste events recorded
@@ -16,9 +16,14 @@ import {
   CreateProductionRequestRequest,
   UpdateRequestStatusRequest,
   ProductionBatch,
+  ProductionBatchQuery,
+  CursorPage,
+  DashboardSummary,
   CreateBatchRequest,
   RecordWasteRequest,
   WasteEvent,
+  WasteReportGroupBy,
+  WasteReportRow,
   UserRole
 } from '../types/api';
 
@@ -217,12 +222,17 @@ class ApiClient {
   }
 
   // Production Batch endpoints
-  async getProductionBatches(status?: string): Promise<ProductionBatch[]> {
-    const params = status ? { status } : {};
-    const response: AxiosResponse<ProductionBatch[]> = await this.client.get('/production/batches', { params });
+  async getProductionBatchPage(params: ProductionBatchQuery = {}): Promise<CursorPage<ProductionBatch>> {
+    const response: AxiosResponse<CursorPage<ProductionBatch>> = await this.client.get('/production/batches', { params });
     return response.data;
   }
 
+  // Newest page only; use getProductionBatchPage with nextCursor to read further back
+  async getProductionBatches(status?: string): Promise<ProductionBatch[]> {
+    const page = await this.getProductionBatchPage(status ? { status } : {});
+    return page.items;
+  }
+
   async getProductionBatch(id: string): Promise<ProductionBatch> {
     const response: AxiosResponse<ProductionBatch> = await this.client.get(`/production/batches/${id}`);
     return response.data;
@@ -257,31 +267,19 @@ class ApiClient {
     return response.data;
   }
 
+  async getWasteReport(groupBy: WasteReportGroupBy, from?: string, to?: string, locationId?: string): Promise<WasteReportRow[]> {
+    const params: any = { groupBy };
+    if (from) params.from = from;
+    if (to) params.to = to;
+    if (locationId) params.locationId = locationId;
+    const response: AxiosResponse<WasteReportRow[]> = await this.client.get('/production/waste/report', { params });
+    return response.data;
+  }
+
   // Dashboard endpoints
-  async getDashboardData(): Promise<{
-    lowStockItems: CurrentStock[];
-    openRequests: ProductionRequest[];
-    todaysBatches: ProductionBatch[];
-    recentWaste: WasteEvent[];
-  }> {
-    const [lowStock, openRequests, batches, waste] = await Promise.all([
-      this.getCurrentStock().then(items => items.filter(item => 
-        item.item && item.quantity < item.item.parStockLevel
-      )),
-      this.getProductionRequests('OPEN'),
-      this.getProductionBatches(),
-      this.getWasteEvents()
-    ]);
-
-    return {
-      lowStockItems: lowStock,
-      openRequests: openRequests,
-      todaysBatches: batches.filter(batch => {
-        const today = new Date().toISOString().split('T')[0];
-        return batch.createdAt.startsWith(today);
-      }),
-      recentWaste: waste.slice(0, 10)
-    };
+  async getDashboardSummary(): Promise<DashboardSummary> {
+    const response: AxiosResponse<DashboardSummary> = await this.client.get('/dashboard/summary');
+    return response.data;
   }
 }
 
@@ -119,6 +119,37 @@ export interface ProductionBatch {
 
 export type ProductionBatchStatus = 'IN_PROGRESS' | 'COMPLETED' | 'RUN_OUT';
 
+export interface ProductionBatchQuery {
+  status?: string;
+  productItemId?: string;
+  storageLocationId?: string;
+  from?: string;
+  to?: string;
+  cursor?: string;
+  limit?: number;
+}
+
+export interface CursorPage<T> {
+  items: T[];
+  nextCursor?: string | null;
+}
+
+export interface DashboardSection<T> {
+  count: number;
+  items: T[];
+}
+
+export interface DashboardSummary {
+  locationIds?: string[] | null;
+  generatedAt: string;
+  belowParStock: DashboardSection<CurrentStock>;
+  openRequests: DashboardSection<ProductionRequest>;
+  overdueRequests: DashboardSection<ProductionRequest>;
+  inProgressBatches: DashboardSection<ProductionBatch>;
+  todaysBatches: DashboardSection<ProductionBatch>;
+  recentWaste: DashboardSection<WasteEvent>;
+}
+
 export interface WasteEvent {
   id: string;
   batchId?: string;
@@ -136,6 +167,15 @@ export interface WasteEvent {
 
 export type WasteReason = 'SPOILAGE' | 'TEMPERATURE_EXCURSION' | 'QA_FAILURE' | 'ACCIDENT' | 'OTHER';
 
+export type WasteReportGroupBy = 'REASON' | 'ITEM' | 'LOCATION' | 'DAY' | 'MONTH';
+
+export interface WasteReportRow {
+  group: string | null;
+  eventCount: number;
+  quantity: number;
+  totalCost: number;
+}
+
 // Recipe and Production Item types
 export interface Recipe {
   id: string;
@@ -0,0 +1,30 @@
+package com.iowaicecreamconcepts.api;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Starts the full application on a private in-memory H2 database, for benchmarks that need the real
+ * services, repositories and transaction boundaries. DataInitializer seeds the usual locations, users
+ * and sample items; background jobs that would compete with the measured code are pushed out.
+ */
+public final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    public static ConfigurableApplicationContext start(String databaseName) {
+        return new SpringApplicationBuilder(ApiApplication.class)
+                .profiles("test")
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1",
+                        "spring.main.banner-mode=off",
+                        "spring.h2.console.enabled=false",
+                        "server.port=0",
+                        "management.server.port=-1",
+                        "logging.level.root=WARN",
+                        "app.outbox.pollMs=3600000",
+                        "app.schedule.resyncMs=3600000")
+                .run();
+    }
+}
@@ -0,0 +1,55 @@
+package com.iowaicecreamconcepts.api.auth.model;
+
+import com.iowaicecreamconcepts.api.auth.service.PermissionService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning a user's permission strings into something checks can use, paid once per
+ * authenticated request when the principal is built from the token.
+ *
+ * <p>{@code parseEach} parses every string into a {@link Permission}; {@code permissionSet} builds the
+ * {@link PermissionSet} bitsets the evaluator actually uses. {@code requiredPermission} is the
+ * per-expression compile step the evaluator caches.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PermissionParseBenchmark {
+
+    @Param({"ADMIN", "SHIFT_LEAD"})
+    private User.Role role;
+
+    private Set<String> permissions;
+
+    @Setup
+    public void setUp() {
+        permissions = new PermissionService().getDefaultPermissionsForRole(role);
+    }
+
+    @Benchmark
+    public List<Permission> parseEach() {
+        List<Permission> parsed = new ArrayList<>(permissions.size());
+        for (String permission : permissions) {
+            parsed.add(Permission.parse(permission));
+        }
+        return parsed;
+    }
+
+    @Benchmark
+    public PermissionSet permissionSet() {
+        return PermissionSet.of(permissions);
+    }
+
+    @Benchmark
+    public RequiredPermission requiredPermission() {
+        return RequiredPermission.parse("inventory:session:rw");
+    }
+}
@@ -0,0 +1,57 @@
+package com.iowaicecreamconcepts.api.auth.service;
+
+import com.iowaicecreamconcepts.api.auth.model.Permission;
+import com.iowaicecreamconcepts.api.auth.model.RequiredPermission;
+import com.iowaicecreamconcepts.api.auth.model.User;
+import com.iowaicecreamconcepts.api.auth.security.AuthenticatedUser;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one {@code @PreAuthorize("hasPermission(null, 'inventory:session:rw')")} check.
+ *
+ * <p>{@code stringPath} replays the evaluator before bitsets: split the expression, then parse every
+ * permission string of the principal and test {@code implies}. {@code bitsetPath} is the current
+ * path with the expression already compiled by the evaluator. Run with {@code -prof gc} to see the
+ * allocation difference as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PermissionServiceBenchmark {
+
+    private static final String EXPRESSION = "inventory:session:rw";
+
+    private PermissionService permissionService;
+    private AuthenticatedUser user;
+    private RequiredPermission required;
+
+    @Setup
+    public void setUp() {
+        permissionService = new PermissionService();
+        Set<String> permissions = permissionService.getDefaultPermissionsForRole(User.Role.PRODUCTION_LEAD);
+        user = new AuthenticatedUser(UUID.randomUUID(), "bench@sweetswirls.com",
+                User.Role.PRODUCTION_LEAD, permissions, Set.of());
+        required = RequiredPermission.parse(EXPRESSION);
+    }
+
+    @Benchmark
+    public boolean stringPath() {
+        String[] parts = EXPRESSION.split(":");
+        Permission requiredPermission = Permission.of(parts[0] + ":" + parts[1], parts[2]);
+        return user.getPermissions().stream()
+                .map(Permission::parse)
+                .anyMatch(userPermission -> userPermission.implies(requiredPermission));
+    }
+
+    @Benchmark
+    public boolean bitsetPath() {
+        return permissionService.hasPermission(user, required);
+    }
+}
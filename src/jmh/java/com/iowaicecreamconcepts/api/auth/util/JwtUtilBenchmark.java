@@ -0,0 +1,68 @@
+package com.iowaicecreamconcepts.api.auth.util;
+
+import com.iowaicecreamconcepts.api.auth.model.User;
+import com.iowaicecreamconcepts.api.auth.security.VerifiedClaims;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.SecretKey;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request token handling cost of the JWT filter.
+ *
+ * <p>{@code legacyFilterPath} replays what the filter did before parse-once: rebuild the key and
+ * verify the HMAC for {@code isTokenValid}, {@code getUsernameFromToken} and {@code getRoleFromToken}.
+ * {@code parseOnce} is the current path. Multiply the difference by the peak request rate to get
+ * the CPU time saved per second of traffic.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET = "benchmarkjwtkeythatisatleast256bitslong!!forsweetswirlsbenchmarks";
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET, 86400000);
+        User user = User.builder()
+                .id(UUID.randomUUID())
+                .email("bench@sweetswirls.com")
+                .role(User.Role.SHIFT_LEAD)
+                .build();
+        token = jwtUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public void legacyFilterPath(Blackhole blackhole) {
+        blackhole.consume(legacyClaims().getExpiration());
+        blackhole.consume(legacyClaims().getSubject());
+        blackhole.consume(legacyClaims().get("role", String.class));
+    }
+
+    @Benchmark
+    public Optional<VerifiedClaims> parseOnce() {
+        return jwtUtil.parseToken(token);
+    }
+
+    private Claims legacyClaims() {
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        return Jwts.parser()
+                .verifyWith(key)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
@@ -0,0 +1,78 @@
+package com.iowaicecreamconcepts.api.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.iowaicecreamconcepts.api.inventory.model.CurrentStock;
+import com.iowaicecreamconcepts.api.production.model.ProductionBatch;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response serialization for the two largest list payloads: current stock for a location (polled by
+ * the shop tablets) and the batch list. The mapper is built the way Spring Boot builds the one behind
+ * the message converters, so java.time values go through the same modules.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<CurrentStock> stock;
+    private List<ProductionBatch> batches;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        UUID locationId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+
+        stock = new ArrayList<>(size);
+        batches = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            stock.add(CurrentStock.builder()
+                    .id(UUID.randomUUID())
+                    .itemId(UUID.randomUUID())
+                    .locationId(locationId)
+                    .quantity(i * 0.5)
+                    .lastUpdated(now)
+                    .build());
+            batches.add(ProductionBatch.builder()
+                    .id(UUID.randomUUID())
+                    .productItemId(UUID.randomUUID())
+                    .quantityMade(12.0)
+                    .unit("tub")
+                    .storageLocationId(locationId)
+                    .madeBy(UUID.randomUUID())
+                    .startedAt(now.minusHours(2))
+                    .finishedAt(now.minusHours(1))
+                    .lotCode(String.format("20260101-%03d", i))
+                    .status(ProductionBatch.Status.COMPLETED)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public byte[] currentStock() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(stock);
+    }
+
+    @Benchmark
+    public byte[] productionBatches() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(batches);
+    }
+}
@@ -0,0 +1,104 @@
+package com.iowaicecreamconcepts.api.inventory.repository;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Below-par listing against an in-memory H2 database with {@code itemCount × locationCount} stock rows
+ * (50,000 × 200 = 10M by default; setup takes a while and needs the enlarged heap below).
+ *
+ * <p>{@code joinQuery*} is the old listing that joins all stock to all items; {@code materialized*}
+ * reads below_par_stock. {@code incrementalRefresh} is the write-side price paid per stock change.
+ * About 1% of rows are below par.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class BelowParStockBenchmark {
+
+    private static final String JOIN_QUERY = "SELECT cs.id, cs.item_id, cs.location_id, cs.quantity, cs.last_updated "
+            + "FROM current_stock cs JOIN inventory_items ii ON ii.id = cs.item_id WHERE cs.quantity < ii.par_stock_level";
+
+    private static final String MATERIALIZED_QUERY = "SELECT id, item_id, location_id, quantity, last_updated FROM below_par_stock";
+
+    @Param({"50000"})
+    private int itemCount;
+
+    @Param({"200"})
+    private int locationCount;
+
+    private JdbcTemplate jdbcTemplate;
+    private BelowParStockRepositoryImpl repository;
+    private List<UUID> itemIds;
+    private List<UUID> locationIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:below-par;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        repository = new BelowParStockRepositoryImpl(jdbcTemplate);
+
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        jdbcTemplate.execute("CREATE TABLE inventory_items (id UUID PRIMARY KEY, par_stock_level DOUBLE PRECISION NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE locations (id UUID PRIMARY KEY)");
+        jdbcTemplate.execute("CREATE TABLE current_stock (id UUID PRIMARY KEY, item_id UUID NOT NULL, "
+                + "location_id UUID NOT NULL, quantity DOUBLE PRECISION NOT NULL, last_updated TIMESTAMP NOT NULL, "
+                + "CONSTRAINT uk_current_stock_item_location UNIQUE (item_id, location_id))");
+        jdbcTemplate.execute("CREATE TABLE below_par_stock (id UUID PRIMARY KEY, item_id UUID NOT NULL, "
+                + "location_id UUID NOT NULL, quantity DOUBLE PRECISION NOT NULL, par_stock_level DOUBLE PRECISION NOT NULL, "
+                + "last_updated TIMESTAMP NOT NULL)");
+        jdbcTemplate.execute("CREATE INDEX idx_below_par_location ON below_par_stock (location_id)");
+        jdbcTemplate.execute("CREATE INDEX idx_below_par_item ON below_par_stock (item_id)");
+
+        jdbcTemplate.update("INSERT INTO inventory_items SELECT RANDOM_UUID(), 100 FROM SYSTEM_RANGE(1, ?)", itemCount);
+        jdbcTemplate.update("INSERT INTO locations SELECT RANDOM_UUID() FROM SYSTEM_RANGE(1, ?)", locationCount);
+        jdbcTemplate.update("INSERT INTO current_stock SELECT RANDOM_UUID(), ii.id, l.id, "
+                + "CASE WHEN RAND() < 0.01 THEN 50 ELSE 150 END, CURRENT_TIMESTAMP "
+                + "FROM inventory_items ii CROSS JOIN locations l");
+        repository.rebuild();
+
+        itemIds = jdbcTemplate.queryForList("SELECT id FROM inventory_items", UUID.class);
+        locationIds = jdbcTemplate.queryForList("SELECT id FROM locations", UUID.class);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> joinQueryAllLocations() {
+        return jdbcTemplate.queryForList(JOIN_QUERY);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> materializedAllLocations() {
+        return jdbcTemplate.queryForList(MATERIALIZED_QUERY);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> joinQueryOneLocation() {
+        return jdbcTemplate.queryForList(JOIN_QUERY + " AND cs.location_id = ?", randomLocation());
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> materializedOneLocation() {
+        return jdbcTemplate.queryForList(MATERIALIZED_QUERY + " WHERE location_id = ?", randomLocation());
+    }
+
+    @Benchmark
+    public void incrementalRefresh() {
+        UUID itemId = itemIds.get(ThreadLocalRandom.current().nextInt(itemIds.size()));
+        repository.refresh(randomLocation(), List.of(itemId));
+    }
+
+    private UUID randomLocation() {
+        return locationIds.get(ThreadLocalRandom.current().nextInt(locationIds.size()));
+    }
+}
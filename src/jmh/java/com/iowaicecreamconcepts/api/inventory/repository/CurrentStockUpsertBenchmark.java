@@ -0,0 +1,99 @@
+package com.iowaicecreamconcepts.api.inventory.repository;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stock reconciliation cost of closing an inventory session, against an in-memory H2 database.
+ *
+ * <p>{@code perLine} replays the old close path (a lookup and a write per line, in one transaction);
+ * {@code merge} is {@link CurrentStockRepositoryImpl#upsertQuantities}. Half of the items are seeded
+ * up front, so the first invocation mixes inserts and updates and later ones are updates only, which
+ * is the steady state for a location that is counted every day.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CurrentStockUpsertBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int lineCount;
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private CurrentStockRepositoryImpl repository;
+    private UUID locationId;
+    private Map<UUID, Double> quantities;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:stock-" + lineCount + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        repository = new CurrentStockRepositoryImpl(jdbcTemplate, transactionManager);
+
+        jdbcTemplate.execute("DROP TABLE IF EXISTS current_stock");
+        jdbcTemplate.execute("CREATE TABLE current_stock ("
+                + "id UUID PRIMARY KEY, item_id UUID NOT NULL, location_id UUID NOT NULL, "
+                + "quantity DOUBLE PRECISION NOT NULL, last_updated TIMESTAMP NOT NULL, "
+                + "CONSTRAINT uk_current_stock_item_location UNIQUE (item_id, location_id))");
+
+        locationId = UUID.randomUUID();
+        quantities = new LinkedHashMap<>();
+        for (int i = 0; i < lineCount; i++) {
+            quantities.put(UUID.randomUUID(), (double) i);
+        }
+
+        List<Object[]> seed = quantities.keySet().stream()
+                .limit(lineCount / 2)
+                .map(itemId -> new Object[]{UUID.randomUUID(), itemId, locationId, 0.0, LocalDateTime.now()})
+                .toList();
+        jdbcTemplate.batchUpdate("INSERT INTO current_stock VALUES (?, ?, ?, ?, ?)", seed);
+    }
+
+    @Setup(Level.Invocation)
+    public void recount() {
+        quantities.replaceAll((itemId, quantity) -> ThreadLocalRandom.current().nextDouble(100));
+    }
+
+    @Benchmark
+    public Integer perLine() {
+        return transactionTemplate.execute(status -> {
+            int written = 0;
+            for (Map.Entry<UUID, Double> entry : quantities.entrySet()) {
+                List<UUID> ids = jdbcTemplate.queryForList(
+                        "SELECT id FROM current_stock WHERE item_id = ? AND location_id = ?",
+                        UUID.class, entry.getKey(), locationId);
+                if (ids.isEmpty()) {
+                    written += jdbcTemplate.update("INSERT INTO current_stock VALUES (?, ?, ?, ?, ?)",
+                            UUID.randomUUID(), entry.getKey(), locationId, entry.getValue(), LocalDateTime.now());
+                } else {
+                    written += jdbcTemplate.update("UPDATE current_stock SET quantity = ?, last_updated = ? WHERE id = ?",
+                            entry.getValue(), LocalDateTime.now(), ids.getFirst());
+                }
+            }
+            return written;
+        });
+    }
+
+    @Benchmark
+    public Integer merge() {
+        return transactionTemplate.execute(status -> repository.upsertQuantities(locationId, quantities));
+    }
+}
@@ -0,0 +1,90 @@
+package com.iowaicecreamconcepts.api.inventory.service;
+
+import com.iowaicecreamconcepts.api.BenchmarkApplication;
+import com.iowaicecreamconcepts.api.auth.repository.UserRepository;
+import com.iowaicecreamconcepts.api.common.repository.LocationRepository;
+import com.iowaicecreamconcepts.api.inventory.model.InventoryItem;
+import com.iowaicecreamconcepts.api.inventory.model.InventorySession;
+import com.iowaicecreamconcepts.api.inventory.model.InventorySessionLine;
+import com.iowaicecreamconcepts.api.inventory.repository.InventoryItemRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end cost of {@link InventorySessionService#closeSession} against the application's H2
+ * database: the session and line reads, the stock upsert, the ledger entries, the outbox event and
+ * the change notification, all in the service's own transaction.
+ *
+ * <p>Each invocation closes a fresh draft session that counts every seeded item once. The first
+ * invocation inserts the stock rows; later ones update them, which is the steady state.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InventorySessionCloseBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int lineCount;
+
+    private ConfigurableApplicationContext context;
+    private InventorySessionService sessionService;
+    private UUID locationId;
+    private UUID userId;
+    private List<UUID> itemIds;
+    private UUID sessionId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("session-close-" + lineCount);
+        sessionService = context.getBean(InventorySessionService.class);
+        locationId = context.getBean(LocationRepository.class).findAll().getFirst().getId();
+        userId = context.getBean(UserRepository.class).findAll().getFirst().getId();
+
+        List<InventoryItem> items = new ArrayList<>(lineCount);
+        for (int i = 0; i < lineCount; i++) {
+            items.add(InventoryItem.builder()
+                    .name("Benchmark item " + i)
+                    .category(InventoryItem.Category.BASE)
+                    .unit("tub")
+                    .parStockLevel(5.0)
+                    .isActive(true)
+                    .build());
+        }
+        itemIds = context.getBean(InventoryItemRepository.class).saveAll(items).stream()
+                .map(InventoryItem::getId)
+                .toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Setup(Level.Invocation)
+    public void openSession() {
+        sessionId = sessionService.createSession(locationId, userId).getId();
+        List<InventorySessionLine> lines = new ArrayList<>(lineCount);
+        for (UUID itemId : itemIds) {
+            lines.add(InventorySessionLine.builder()
+                    .itemId(itemId)
+                    .count((double) ThreadLocalRandom.current().nextInt(20))
+                    .unit("tub")
+                    .build());
+        }
+        sessionService.addSessionLines(sessionId, lines);
+    }
+
+    @Benchmark
+    public InventorySession closeSession() {
+        return sessionService.closeSession(sessionId, userId);
+    }
+}
@@ -0,0 +1,121 @@
+package com.iowaicecreamconcepts.api.production.service;
+
+import com.iowaicecreamconcepts.api.inventory.model.CurrentStock;
+import com.iowaicecreamconcepts.api.production.dto.ProductionPlan;
+import com.iowaicecreamconcepts.api.production.dto.RecipeIngredientView;
+import com.iowaicecreamconcepts.api.production.dto.RecipeView;
+import com.iowaicecreamconcepts.api.production.model.ProductionRequest;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Planning a week of requests across all locations, excluding the database reads.
+ *
+ * <p>{@code productCount} products each have a recipe of {@code ingredientsPerRecipe} lines drawn from
+ * {@code ingredientCount} inventory items, and one in ten products also uses another product as a
+ * sub-recipe. Every location places {@code requestsPerLocationPerDay} requests a day for seven days
+ * and holds stock of every ingredient. {@code buildAndPlan} includes indexing the recipes, which the
+ * planning endpoint does on every call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductionPlannerBenchmark {
+
+    @Param({"200"})
+    private int productCount;
+
+    @Param({"1000"})
+    private int ingredientCount;
+
+    @Param({"8"})
+    private int ingredientsPerRecipe;
+
+    @Param({"50"})
+    private int locationCount;
+
+    @Param({"20"})
+    private int requestsPerLocationPerDay;
+
+    private Map<UUID, RecipeView> recipesByProduct;
+    private List<ProductionRequest> requests;
+    private List<CurrentStock> stock;
+    private ProductionPlanner planner;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        List<UUID> ingredients = new ArrayList<>(ingredientCount);
+        for (int i = 0; i < ingredientCount; i++) {
+            ingredients.add(UUID.randomUUID());
+        }
+        List<UUID> products = new ArrayList<>(productCount);
+        for (int p = 0; p < productCount; p++) {
+            products.add(UUID.randomUUID());
+        }
+
+        recipesByProduct = new HashMap<>();
+        for (int p = 0; p < productCount; p++) {
+            RecipeView recipe = new RecipeView(UUID.randomUUID(), "Recipe " + p, products.get(p), 10.0, "unit",
+                    BigDecimal.ZERO, BigDecimal.ZERO);
+            for (int line = 0; line < ingredientsPerRecipe; line++) {
+                recipe.getIngredients().add(ingredient(ingredients.get(random.nextInt(ingredientCount)), random));
+            }
+            // Sub-recipes only point at earlier products so the catalog has no cycles
+            if (p > 0 && p % 10 == 0) {
+                recipe.getIngredients().add(ingredient(products.get(random.nextInt(p)), random));
+            }
+            recipesByProduct.put(products.get(p), recipe);
+        }
+
+        LocalDateTime start = LocalDateTime.of(2025, 9, 1, 6, 0);
+        requests = new ArrayList<>();
+        stock = new ArrayList<>();
+        for (int l = 0; l < locationCount; l++) {
+            UUID locationId = UUID.randomUUID();
+            for (int day = 0; day < 7; day++) {
+                for (int r = 0; r < requestsPerLocationPerDay; r++) {
+                    requests.add(ProductionRequest.builder()
+                            .id(UUID.randomUUID())
+                            .productItemId(products.get(random.nextInt(productCount)))
+                            .locationId(locationId)
+                            .targetQuantity(5.0 + random.nextInt(20))
+                            .neededBy(start.plusDays(day).plusMinutes(random.nextInt(600)))
+                            .build());
+                }
+            }
+            for (UUID ingredient : ingredients) {
+                stock.add(CurrentStock.builder().itemId(ingredient).locationId(locationId).quantity(random.nextDouble() * 50).build());
+            }
+        }
+        requests.sort(Comparator.comparing(ProductionRequest::getNeededBy));
+        planner = new ProductionPlanner(recipesByProduct);
+    }
+
+    @Benchmark
+    public ProductionPlan plan() {
+        return planner.plan(requests, stock);
+    }
+
+    @Benchmark
+    public ProductionPlan buildAndPlan() {
+        return new ProductionPlanner(recipesByProduct).plan(requests, stock);
+    }
+
+    private static RecipeIngredientView ingredient(UUID itemId, Random random) {
+        return new RecipeIngredientView(null, UUID.randomUUID(), itemId, itemId.toString(), 0.5 + random.nextInt(4), "unit", null, null);
+    }
+}
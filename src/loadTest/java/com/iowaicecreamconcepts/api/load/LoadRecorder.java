@@ -0,0 +1,130 @@
+package com.iowaicecreamconcepts.api.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint latency histograms and error counts. Requests only count while recording is on, so
+ * warm-up traffic and the setup calls stay out of the results.
+ */
+final class LoadRecorder {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+    private volatile boolean recording;
+    private long startedNanos;
+    private long stoppedNanos;
+
+    void start() {
+        startedNanos = System.nanoTime();
+        recording = true;
+    }
+
+    void stop() {
+        recording = false;
+        stoppedNanos = System.nanoTime();
+    }
+
+    void record(String endpoint, long elapsedNanos, boolean success) {
+        if (!recording) {
+            return;
+        }
+        EndpointStats stats = endpoints.computeIfAbsent(endpoint, name -> new EndpointStats());
+        stats.latency.record(TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+        if (!success) {
+            stats.errors.increment();
+        }
+    }
+
+    double elapsedSeconds() {
+        return (stoppedNanos - startedNanos) / 1e9;
+    }
+
+    void print(PrintStream out) {
+        double seconds = elapsedSeconds();
+        out.printf("%-48s %8s %7s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        long totalCount = 0;
+        long totalErrors = 0;
+        for (Map.Entry<String, EndpointStats> entry : new TreeMap<>(endpoints).entrySet()) {
+            LatencyHistogram latency = entry.getValue().latency;
+            long errors = entry.getValue().errors.sum();
+            out.printf("%-48s %8d %7d %9.1f", entry.getKey(), latency.count(), errors, latency.count() / seconds);
+            for (double percentile : PERCENTILES) {
+                out.printf(" %9.1f", latency.percentileMicros(percentile) / 1000.0);
+            }
+            out.printf(" %9.1f%n", latency.maxMicros() / 1000.0);
+            totalCount += latency.count();
+            totalErrors += errors;
+        }
+        out.printf("%-48s %8d %7d %9.1f%n", "total", totalCount, totalErrors, totalCount / seconds);
+    }
+
+    void writeJson(ObjectMapper objectMapper, ObjectNode run, Path file) throws IOException {
+        double seconds = elapsedSeconds();
+        run.put("measuredSeconds", seconds);
+        ObjectNode results = run.putObject("endpoints");
+        for (Map.Entry<String, EndpointStats> entry : new TreeMap<>(endpoints).entrySet()) {
+            LatencyHistogram latency = entry.getValue().latency;
+            ObjectNode endpoint = results.putObject(entry.getKey());
+            endpoint.put("count", latency.count());
+            endpoint.put("errors", entry.getValue().errors.sum());
+            endpoint.put("throughput", latency.count() / seconds);
+            endpoint.put("meanMs", latency.meanMicros() / 1000.0);
+            for (double percentile : PERCENTILES) {
+                endpoint.put("p" + formatPercentile(percentile) + "Ms", latency.percentileMicros(percentile) / 1000.0);
+            }
+            endpoint.put("maxMs", latency.maxMicros() / 1000.0);
+            ArrayNode histogram = endpoint.putArray("histogram");
+            latency.buckets().forEach((upToMicros, count) -> histogram.addObject()
+                    .put("upToMs", upToMicros / 1000.0)
+                    .put("count", count));
+        }
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), run);
+    }
+
+    /**
+     * Throughput and p99 of this run next to a previous results file, e.g. the other thread model.
+     */
+    void printComparison(JsonNode baseline, PrintStream out) {
+        JsonNode baselineEndpoints = baseline.path("endpoints");
+        out.printf("%nCompared with %s%n", baseline.path("label").asText("baseline"));
+        out.printf("%-48s %20s %20s %8s%n", "endpoint", "req/s", "p99 ms", "p99 chg");
+        double seconds = elapsedSeconds();
+        for (Map.Entry<String, EndpointStats> entry : new TreeMap<>(endpoints).entrySet()) {
+            JsonNode before = baselineEndpoints.path(entry.getKey());
+            if (before.isMissingNode()) {
+                continue;
+            }
+            LatencyHistogram latency = entry.getValue().latency;
+            double p99 = latency.percentileMicros(99) / 1000.0;
+            double baselineP99 = before.path("p99Ms").asDouble();
+            out.printf("%-48s %9.1f -> %7.1f %9.1f -> %7.1f %+7.0f%%%n", entry.getKey(),
+                    before.path("throughput").asDouble(), latency.count() / seconds,
+                    baselineP99, p99, baselineP99 > 0 ? (p99 - baselineP99) / baselineP99 * 100 : 0);
+        }
+    }
+
+    private static String formatPercentile(double percentile) {
+        return percentile == Math.rint(percentile) ? Integer.toString((int) percentile) : Double.toString(percentile).replace('.', '_');
+    }
+
+    private static final class EndpointStats {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+    }
+}
@@ -0,0 +1,104 @@
+package com.iowaicecreamconcepts.api.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.NullNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * Thin JSON client for the shop API that times every call under an endpoint name such as
+ * {@code POST /api/inventory/sessions/{id}/lines}, so calls for different ids land in one histogram.
+ *
+ * <p>Failed calls are recorded as errors and return null; simulated users carry on with their next step.
+ */
+final class ShopClient {
+
+    private final HttpClient httpClient;
+    private final URI baseUrl;
+    private final Duration timeout;
+    private final ObjectMapper objectMapper;
+    private final LoadRecorder recorder;
+
+    ShopClient(URI baseUrl, Duration timeout, ObjectMapper objectMapper, LoadRecorder recorder) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(timeout)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        this.baseUrl = baseUrl;
+        this.timeout = timeout;
+        this.objectMapper = objectMapper;
+        this.recorder = recorder;
+    }
+
+    /**
+     * Logs in and returns the login response with the token and user id.
+     */
+    JsonNode login(String email, String password) {
+        JsonNode response = post("POST /api/auth/login", "/api/auth/login", null,
+                Map.of("email", email, "password", password));
+        if (response == null || !response.hasNonNull("token")) {
+            throw new IllegalStateException("Login failed for " + email);
+        }
+        return response;
+    }
+
+    JsonNode get(String endpoint, String path, String token) {
+        return send(endpoint, request(path, token).GET().build());
+    }
+
+    JsonNode post(String endpoint, String path, String token, Object body) {
+        try {
+            HttpRequest request = request(path, token)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+            return send(endpoint, request);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot serialize request body for " + endpoint, e);
+        }
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUrl.resolve(path))
+                .timeout(timeout)
+                .header("Accept", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private JsonNode send(String endpoint, HttpRequest request) {
+        long start = System.nanoTime();
+        HttpResponse<byte[]> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            recorder.record(endpoint, System.nanoTime() - start, false);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+
+        boolean success = response.statusCode() < 400;
+        recorder.record(endpoint, System.nanoTime() - start, success);
+        if (!success || response.body().length == 0) {
+            return success ? NullNode.getInstance() : null;
+        }
+        try {
+            return objectMapper.readTree(response.body());
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,312 @@
+package com.iowaicecreamconcepts.api.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays an opening-season shop day against a running instance (H2 or Postgres) and reports
+ * per-endpoint throughput and latency histograms.
+ *
+ * <p>Every simulated user is a virtual thread looping over its role's routine with think time:
+ * <ul>
+ *   <li>tablets poll current stock for their location,</li>
+ *   <li>shift leads open a count session, post lines one by one and close it,</li>
+ *   <li>production leads make and complete batches and record waste against some of them,</li>
+ *   <li>admins cycle through the dashboard, the waste report, the shortage plan and the batch list.</li>
+ * </ul>
+ * Users log in as the accounts DataInitializer seeds. Options are {@code --name=value}; see
+ * {@link Options} for names and defaults. Pass {@code --baseline=<results.json>} to print the change
+ * against an earlier run, e.g. the default thread model against the virtual-threads profile.
+ */
+public final class ShopLoadTest {
+
+    private static final int LINES_PER_SESSION = 20;
+    private static final String[] ADMIN_REPORTS = {
+            "/api/dashboard/summary",
+            "/api/production/waste/report?groupBy=REASON",
+            "/api/production/requests/plan",
+            "/api/production/batches?limit=50",
+            "/api/inventory/current/below-par"
+    };
+
+    private final Options options;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LoadRecorder recorder = new LoadRecorder();
+    private final ShopClient client;
+
+    private long deadlineNanos;
+    private List<UUID> locationIds;
+    private List<JsonNode> items;
+
+    private ShopLoadTest(Options options) {
+        this.options = options;
+        this.client = new ShopClient(options.baseUrl, options.timeout, objectMapper, recorder);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new ShopLoadTest(Options.parse(args)).run();
+    }
+
+    private void run() throws Exception {
+        Session admin = login("admin@sweetswirls.com", "admin123");
+        Session productionLead = login("production@sweetswirls.com", "production123");
+        Session shiftLead = login("shift@sweetswirls.com", "shift123");
+        Session teamMember = login("team@sweetswirls.com", "team123");
+
+        locationIds = new ArrayList<>();
+        items = new ArrayList<>();
+        JsonNode locations = client.get("GET /api/locations", "/api/locations", admin.token());
+        JsonNode inventory = client.get("GET /api/inventory", "/api/inventory", admin.token());
+        if (locations != null && inventory != null) {
+            locations.forEach(location -> locationIds.add(UUID.fromString(location.get("id").asText())));
+            inventory.forEach(items::add);
+        }
+        if (locationIds.isEmpty() || items.isEmpty()) {
+            throw new IllegalStateException("The target has no locations or inventory items to work with");
+        }
+
+        System.out.printf("Running %d tablets, %d shift leads, %d production leads and %d admins against %s for %ds after %ds warm-up%n",
+                options.tablets, options.shiftLeads, options.productionLeads, options.admins, options.baseUrl,
+                options.duration.toSeconds(), options.warmup.toSeconds());
+
+        long startNanos = System.nanoTime();
+        deadlineNanos = startNanos + options.warmup.toNanos() + options.duration.toNanos();
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.tablets; i++) {
+                UUID locationId = locationIds.get(i % locationIds.size());
+                users.execute(() -> tablet(teamMember, locationId));
+            }
+            for (int i = 0; i < options.shiftLeads; i++) {
+                UUID locationId = locationIds.get(i % locationIds.size());
+                users.execute(() -> shiftLead(shiftLead, locationId));
+            }
+            for (int i = 0; i < options.productionLeads; i++) {
+                users.execute(() -> productionLead(productionLead));
+            }
+            for (int i = 0; i < options.admins; i++) {
+                users.execute(() -> admin(admin));
+            }
+
+            sleepUntil(startNanos + options.warmup.toNanos());
+            recorder.start();
+            sleepUntil(deadlineNanos);
+            recorder.stop();
+        }
+
+        recorder.print(System.out);
+        writeResults();
+    }
+
+    private void tablet(Session user, UUID locationId) {
+        String path = "/api/inventory/current?locationId=" + locationId;
+        pause(ThreadLocalRandom.current().nextLong(options.pollInterval.toMillis() + 1));
+        while (running()) {
+            client.get("GET /api/inventory/current", path, user.token());
+            pause(jitter(options.pollInterval.toMillis()));
+        }
+    }
+
+    private void shiftLead(Session user, UUID locationId) {
+        while (running()) {
+            JsonNode session = client.post("POST /api/inventory/sessions", "/api/inventory/sessions", user.token(),
+                    Map.of("locationId", locationId, "startedBy", user.userId()));
+            if (session == null) {
+                pause(jitter(options.thinkTime.toMillis()));
+                continue;
+            }
+            String sessionPath = "/api/inventory/sessions/" + session.get("id").asText();
+
+            for (int line = 0; line < LINES_PER_SESSION && running(); line++) {
+                JsonNode item = randomItem();
+                client.post("POST /api/inventory/sessions/{id}/lines", sessionPath + "/lines", user.token(),
+                        Map.of("itemId", item.get("id").asText(),
+                                "count", ThreadLocalRandom.current().nextInt(30),
+                                "unit", item.get("unit").asText()));
+                pause(jitter(options.thinkTime.toMillis()));
+            }
+
+            client.post("POST /api/inventory/sessions/{id}/close", sessionPath + "/close", user.token(),
+                    Map.of("closedBy", user.userId()));
+            pause(jitter(options.thinkTime.toMillis() * 5));
+        }
+    }
+
+    private void productionLead(Session user) {
+        while (running()) {
+            JsonNode item = randomItem();
+            UUID locationId = locationIds.get(ThreadLocalRandom.current().nextInt(locationIds.size()));
+            JsonNode batch = client.post("POST /api/production/batches", "/api/production/batches", user.token(),
+                    Map.of("productItemId", item.get("id").asText(),
+                            "quantityMade", 4.0 + ThreadLocalRandom.current().nextInt(8),
+                            "unit", item.get("unit").asText(),
+                            "storageLocationId", locationId,
+                            "madeBy", user.userId()));
+            pause(jitter(options.thinkTime.toMillis()));
+
+            if (batch != null) {
+                String batchPath = "/api/production/batches/" + batch.get("id").asText();
+                client.post("POST /api/production/batches/{id}/complete", batchPath + "/complete", user.token(), Map.of());
+                if (ThreadLocalRandom.current().nextInt(3) == 0) {
+                    client.post("POST /api/production/batches/{id}/waste", batchPath + "/waste", user.token(),
+                            Map.of("itemId", item.get("id").asText(),
+                                    "quantity", 0.5,
+                                    "unit", item.get("unit").asText(),
+                                    "reason", "SPOILAGE",
+                                    "recordedBy", user.userId()));
+                }
+            }
+            pause(jitter(options.thinkTime.toMillis() * 5));
+        }
+    }
+
+    private void admin(Session user) {
+        int next = ThreadLocalRandom.current().nextInt(ADMIN_REPORTS.length);
+        while (running()) {
+            String path = ADMIN_REPORTS[next++ % ADMIN_REPORTS.length];
+            int query = path.indexOf('?');
+            client.get("GET " + (query < 0 ? path : path.substring(0, query)), path, user.token());
+            pause(jitter(options.thinkTime.toMillis() * 10));
+        }
+    }
+
+    private void writeResults() throws Exception {
+        // Read first: the baseline may be the results file this run is about to replace
+        JsonNode baseline = options.baseline != null ? objectMapper.readTree(options.baseline.toFile()) : null;
+
+        ObjectNode run = objectMapper.createObjectNode();
+        run.put("label", options.label);
+        run.put("baseUrl", options.baseUrl.toString());
+        run.put("finishedAt", Instant.now().toString());
+        ObjectNode users = run.putObject("users");
+        users.put("tablets", options.tablets);
+        users.put("shiftLeads", options.shiftLeads);
+        users.put("productionLeads", options.productionLeads);
+        users.put("admins", options.admins);
+        recorder.writeJson(objectMapper, run, options.results);
+        System.out.printf("%nWrote %s%n", options.results.toAbsolutePath());
+
+        if (baseline != null) {
+            recorder.printComparison(baseline, System.out);
+        }
+    }
+
+    private Session login(String email, String password) {
+        JsonNode response = client.login(email, password);
+        return new Session(response.get("token").asText(), UUID.fromString(response.get("userId").asText()));
+    }
+
+    private JsonNode randomItem() {
+        return items.get(ThreadLocalRandom.current().nextInt(items.size()));
+    }
+
+    private boolean running() {
+        return System.nanoTime() < deadlineNanos && !Thread.currentThread().isInterrupted();
+    }
+
+    private static long jitter(long millis) {
+        // ±20% so simulated users do not fire in lockstep
+        return (long) (millis * (0.8 + ThreadLocalRandom.current().nextDouble(0.4)));
+    }
+
+    private void pause(long millis) {
+        long remaining = TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+        try {
+            Thread.sleep(Math.max(0, Math.min(millis, remaining)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleepUntil(long nanos) throws InterruptedException {
+        long remaining = nanos - System.nanoTime();
+        if (remaining > 0) {
+            TimeUnit.NANOSECONDS.sleep(remaining);
+        }
+    }
+
+    private record Session(String token, UUID userId) {
+    }
+
+    /**
+     * Command-line options, all {@code --name=value}.
+     */
+    static final class Options {
+        URI baseUrl = URI.create("http://localhost:8080");
+        Duration duration = Duration.ofSeconds(60);
+        Duration warmup = Duration.ofSeconds(15);
+        Duration pollInterval = Duration.ofSeconds(5);
+        Duration thinkTime = Duration.ofSeconds(1);
+        Duration timeout = Duration.ofSeconds(30);
+        int tablets = 200;
+        int shiftLeads = 10;
+        int productionLeads = 5;
+        int admins = 2;
+        String label = "run-" + LocalDate.now();
+        Path results = Path.of("build/reports/load/results.json");
+        Path baseline;
+
+        static Options parse(String[] args) {
+            Map<String, String> values = new HashMap<>();
+            for (String arg : args) {
+                if (!arg.startsWith("--") || !arg.contains("=")) {
+                    throw new IllegalArgumentException("Expected --name=value but got " + arg);
+                }
+                int separator = arg.indexOf('=');
+                values.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+
+            Options options = new Options();
+            Map<String, String> remaining = new LinkedHashMap<>(values);
+            options.baseUrl = URI.create(remaining.getOrDefault("baseUrl", options.baseUrl.toString()));
+            options.duration = seconds(remaining, "durationSeconds", options.duration);
+            options.warmup = seconds(remaining, "warmupSeconds", options.warmup);
+            options.pollInterval = millis(remaining, "pollMs", options.pollInterval);
+            options.thinkTime = millis(remaining, "thinkMs", options.thinkTime);
+            options.timeout = millis(remaining, "timeoutMs", options.timeout);
+            options.tablets = count(remaining, "tablets", options.tablets);
+            options.shiftLeads = count(remaining, "shiftLeads", options.shiftLeads);
+            options.productionLeads = count(remaining, "productionLeads", options.productionLeads);
+            options.admins = count(remaining, "admins", options.admins);
+            options.label = remaining.getOrDefault("label", options.label);
+            options.results = Path.of(remaining.getOrDefault("results", options.results.toString()));
+            options.baseline = values.containsKey("baseline") ? Path.of(values.get("baseline")) : null;
+            remaining.keySet().removeAll(List.of("baseUrl", "label", "results", "baseline"));
+            if (!remaining.isEmpty()) {
+                throw new IllegalArgumentException("Unknown options: " + remaining.keySet());
+            }
+            return options;
+        }
+
+        private static Duration seconds(Map<String, String> values, String name, Duration defaultValue) {
+            String value = values.remove(name);
+            return value != null ? Duration.ofSeconds(Long.parseLong(value)) : defaultValue;
+        }
+
+        private static Duration millis(Map<String, String> values, String name, Duration defaultValue) {
+            String value = values.remove(name);
+            return value != null ? Duration.ofMillis(Long.parseLong(value)) : defaultValue;
+        }
+
+        private static int count(Map<String, String> values, String name, int defaultValue) {
+            String value = values.remove(name);
+            return value != null ? Integer.parseInt(value) : defaultValue;
+        }
+    }
+}
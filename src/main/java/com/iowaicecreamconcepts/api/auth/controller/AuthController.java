@@ -1,8 +1,11 @@
 package com.iowaicecreamconcepts.api.auth.controller;
 
 import com.iowaicecreamconcepts.api.auth.model.User;
+import com.iowaicecreamconcepts.api.auth.security.JwtAuthenticationToken;
+import com.iowaicecreamconcepts.api.auth.security.VerifiedClaims;
 import com.iowaicecreamconcepts.api.auth.service.AuthService;
 import com.iowaicecreamconcepts.api.auth.util.JwtUtil;
+import com.iowaicecreamconcepts.api.common.cache.CacheStats;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -16,10 +19,13 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -112,6 +118,38 @@ public class AuthController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/me")
+    @Operation(
+        summary = "Get current identity",
+        description = "Return the identity carried by the caller's JWT. Served from the claims verified by the authentication filter, so the token is not parsed again."
+    )
+    @SecurityRequirement(name = "Bearer Authentication")
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Current identity returned",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = CurrentUserResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Authentication required. JWT token missing or invalid."
+        )
+    })
+    public ResponseEntity<CurrentUserResponse> getCurrentUser(JwtAuthenticationToken authentication) {
+        VerifiedClaims claims = authentication.getClaims();
+
+        CurrentUserResponse response = new CurrentUserResponse();
+        response.setUserId(claims.getUserId());
+        response.setEmail(claims.getSubject());
+        response.setRole(claims.getRole());
+        response.setExpiresAt(claims.getExpiresAt());
+
+        return ResponseEntity.ok(response);
+    }
+
     @PostMapping("/users")
     @Operation(
         summary = "Create new user", 
@@ -543,6 +581,31 @@ public class AuthController {
         return ResponseEntity.ok(user);
     }
 
+    @GetMapping("/cache/stats")
+    @PreAuthorize("hasPermission(null, 'admin:user:r')")
+    @Operation(
+        summary = "Get user cache statistics",
+        description = "Hit, miss and eviction counters for the in-process user cache used on the authentication path. Requires admin:user read permission."
+    )
+    @SecurityRequirement(name = "Bearer Authentication")
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Cache statistics retrieved successfully"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Authentication required. JWT token missing or invalid."
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Insufficient permissions. ADMIN role required."
+        )
+    })
+    public ResponseEntity<Map<String, CacheStats>> getUserCacheStats() {
+        return ResponseEntity.ok(authService.getUserCacheStats());
+    }
+
     // Request/Response DTOs
     @Setter
     @Getter
@@ -563,6 +626,16 @@ public class AuthController {
 
     }
 
+    @Setter
+    @Getter
+    public static class CurrentUserResponse {
+        private UUID userId;
+        private String email;
+        private String role;
+        private Instant expiresAt;
+
+    }
+
     @Setter
     @Getter
     public static class CreateUserRequest {
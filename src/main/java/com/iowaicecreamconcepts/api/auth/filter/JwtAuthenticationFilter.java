@@ -1,14 +1,20 @@
 package com.iowaicecreamconcepts.api.auth.filter;
 
+import com.iowaicecreamconcepts.api.auth.security.AuthenticatedUser;
+import com.iowaicecreamconcepts.api.auth.security.JwtAuthenticationToken;
+import com.iowaicecreamconcepts.api.auth.security.VerifiedClaims;
 import com.iowaicecreamconcepts.api.auth.service.AuthService;
+import com.iowaicecreamconcepts.api.auth.service.TokenVersionService;
 import com.iowaicecreamconcepts.api.auth.util.JwtUtil;
+import com.iowaicecreamconcepts.api.common.metrics.OperationMetrics;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -17,53 +23,90 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final String AUTHENTICATE = "auth.authenticate";
+
     private final JwtUtil jwtUtil;
     private final AuthService authService;
+    private final TokenVersionService tokenVersionService;
+    private final OperationMetrics operationMetrics;
+
+    @Value("${app.auth.statelessPrincipal:false}")
+    private boolean statelessPrincipal;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
+        // Only the token check is timed; the rest of the chain is the request itself
+        Timer.Sample sample = operationMetrics.start();
+        String outcome = authenticate(request);
+        operationMetrics.stop(sample, AUTHENTICATE, null, outcome);
+
+        filterChain.doFilter(request, response);
+    }
+
+    private String authenticate(HttpServletRequest request) {
         final String authorizationHeader = request.getHeader("Authorization");
 
         if (authorizationHeader == null || !authorizationHeader.startsWith("Bearer ")) {
-            filterChain.doFilter(request, response);
-            return;
+            return "anonymous";
         }
 
         final String jwt = authorizationHeader.substring(7);
 
         try {
-            if (jwtUtil.isTokenValid(jwt)) {
-                String userEmail = jwtUtil.getUsernameFromToken(jwt);
-                String userRole = jwtUtil.getRoleFromToken(jwt);
-
-                if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                    // Load full user object for permission evaluation
-                    var userOpt = authService.findByEmail(userEmail);
-                    if (userOpt.isPresent()) {
-                        var user = userOpt.get();
-                        List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_" + userRole));
-                        
-                        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                                user, null, authorities);
-                        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                        SecurityContextHolder.getContext().setAuthentication(authToken);
-                        
-                        log.debug("Authenticated user: {} with role: {}", userEmail, userRole);
-                    }
-                }
+            // Signature and expiry are verified once here; everything downstream reads the claims
+            Optional<VerifiedClaims> claimsOpt = jwtUtil.parseToken(jwt);
+            if (claimsOpt.isEmpty()) {
+                return "rejected";
+            }
+            VerifiedClaims claims = claimsOpt.get();
+            String userEmail = claims.getSubject();
+            String userRole = claims.getRole();
+
+            if (userEmail == null) {
+                return "rejected";
+            }
+            if (SecurityContextHolder.getContext().getAuthentication() != null) {
+                return "authenticated";
             }
+
+            Optional<AuthenticatedUser> principalOpt = resolvePrincipal(claims);
+            if (principalOpt.isEmpty()) {
+                return "rejected";
+            }
+            List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_" + userRole));
+
+            JwtAuthenticationToken authToken = new JwtAuthenticationToken(principalOpt.get(), claims, authorities);
+            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authToken);
+
+            log.debug("Authenticated user: {} with role: {}", userEmail, userRole);
+            return "authenticated";
         } catch (Exception e) {
             log.error("Cannot set user authentication: {}", e.getMessage());
+            return OperationMetrics.ERROR;
         }
+    }
 
-        filterChain.doFilter(request, response);
+    private Optional<AuthenticatedUser> resolvePrincipal(VerifiedClaims claims) {
+        if (statelessPrincipal) {
+            // Permissions and locations come from the token; only the revocation epoch is checked
+            if (!tokenVersionService.isCurrent(claims.getUserId(), claims.getTokenVersion())) {
+                log.debug("Rejected token with stale version for user: {}", claims.getSubject());
+                return Optional.empty();
+            }
+            return Optional.of(AuthenticatedUser.from(claims));
+        }
+
+        // Load full user object for permission evaluation
+        return authService.findByEmail(claims.getSubject()).map(AuthenticatedUser::from);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,45 @@
+package com.iowaicecreamconcepts.api.auth.model;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Fixed registry of permission scopes. Each scope owns one bit in a {@link PermissionSet}.
+ */
+public enum PermissionScope {
+    ADMIN_USER("admin:user"),
+    ADMIN_ROLE("admin:role"),
+    ADMIN_LOCATION("admin:location"),
+    INVENTORY_ITEM("inventory:item"),
+    INVENTORY_SESSION("inventory:session"),
+    PRODUCTION_BATCH("production:batch"),
+    PRODUCTION_REQUEST("production:request");
+
+    private static final Map<String, PermissionScope> BY_NAME = new HashMap<>();
+
+    static {
+        for (PermissionScope scope : values()) {
+            BY_NAME.put(scope.scopeName, scope);
+        }
+    }
+
+    private final String scopeName;
+    private final long bit;
+
+    PermissionScope(String scopeName) {
+        this.scopeName = scopeName;
+        this.bit = 1L << ordinal();
+    }
+
+    public String getScopeName() {
+        return scopeName;
+    }
+
+    public long getBit() {
+        return bit;
+    }
+
+    public static PermissionScope fromName(String scopeName) {
+        return BY_NAME.get(scopeName);
+    }
+}
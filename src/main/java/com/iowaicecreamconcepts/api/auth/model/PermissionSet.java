@@ -0,0 +1,75 @@
+package com.iowaicecreamconcepts.api.auth.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Precomputed read/write bitsets over {@link PermissionScope}. Built once per principal so an
+ * authorization check does not parse or allocate.
+ *
+ * <p>Permission strings outside the registry (unknown scopes or access levels other than
+ * {@code r}/{@code rw}) are kept as parsed {@link Permission}s and checked with
+ * {@link Permission#implies} as before.
+ */
+public class PermissionSet {
+
+    private static final PermissionSet EMPTY = new PermissionSet(0L, 0L, List.of());
+
+    private final long readBits;
+    private final long writeBits;
+    private final List<Permission> unregistered;
+
+    private PermissionSet(long readBits, long writeBits, List<Permission> unregistered) {
+        this.readBits = readBits;
+        this.writeBits = writeBits;
+        this.unregistered = unregistered;
+    }
+
+    public static PermissionSet of(Collection<String> permissionStrings) {
+        if (permissionStrings == null || permissionStrings.isEmpty()) {
+            return EMPTY;
+        }
+
+        long readBits = 0L;
+        long writeBits = 0L;
+        List<Permission> unregistered = new ArrayList<>();
+
+        for (String permissionString : permissionStrings) {
+            Permission permission;
+            try {
+                permission = Permission.parse(permissionString);
+            } catch (IllegalArgumentException e) {
+                continue; // a malformed permission can never grant anything
+            }
+
+            PermissionScope scope = PermissionScope.fromName(permission.getScope());
+            if (scope != null && "rw".equals(permission.getAccess())) {
+                readBits |= scope.getBit();
+                writeBits |= scope.getBit();
+            } else if (scope != null && "r".equals(permission.getAccess())) {
+                readBits |= scope.getBit();
+            } else {
+                unregistered.add(permission);
+            }
+        }
+
+        return new PermissionSet(readBits, writeBits, List.copyOf(unregistered));
+    }
+
+    public boolean allows(RequiredPermission required) {
+        long bits = required.isReadOnly() ? readBits : writeBits;
+        if ((bits & required.getScopeBit()) != 0) {
+            return true;
+        }
+        if (unregistered.isEmpty()) {
+            return false;
+        }
+        for (Permission permission : unregistered) {
+            if (permission.implies(required.getPermission())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
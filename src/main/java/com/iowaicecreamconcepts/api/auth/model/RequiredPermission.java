@@ -0,0 +1,43 @@
+package com.iowaicecreamconcepts.api.auth.model;
+
+import lombok.Getter;
+
+/**
+ * A permission check compiled once, e.g. from a {@code hasPermission(null, 'inventory:item:r')}
+ * expression, so evaluating it against a {@link PermissionSet} is a single bit test.
+ */
+@Getter
+public class RequiredPermission {
+
+    private static final String READ = "r";
+
+    private final Permission permission;
+    private final long scopeBit;      // 0 when the scope is not in the registry
+    private final boolean readOnly;   // "r" is satisfied by read bits; anything else needs "rw"
+
+    private RequiredPermission(Permission permission) {
+        PermissionScope scope = PermissionScope.fromName(permission.getScope());
+        this.permission = permission;
+        this.scopeBit = scope != null ? scope.getBit() : 0L;
+        this.readOnly = READ.equals(permission.getAccess());
+    }
+
+    public static RequiredPermission of(String scope, String access) {
+        return new RequiredPermission(Permission.of(scope, access));
+    }
+
+    /**
+     * Parses {@code scope:access} or {@code domain:resource:access}. Returns null for any other shape.
+     */
+    public static RequiredPermission parse(String expression) {
+        String[] parts = expression.split(":");
+        if (parts.length == 3) {
+            // Format: inventory:item:r -> scope=inventory:item, access=r
+            return of(parts[0] + ":" + parts[1], parts[2]);
+        } else if (parts.length == 2) {
+            // Format: scope:access
+            return of(parts[0], parts[1]);
+        }
+        return null;
+    }
+}
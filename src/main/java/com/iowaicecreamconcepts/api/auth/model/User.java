@@ -57,6 +57,11 @@ public class User {
     @Column(nullable = false)
     private Boolean isActive = true;
 
+    // Bumped whenever role, permissions, locations or activation change; tokens carrying an older value are rejected
+    @Builder.Default
+    @Column(nullable = false)
+    private Long tokenVersion = 0L;
+
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -2,6 +2,8 @@ package com.iowaicecreamconcepts.api.auth.repository;
 
 import com.iowaicecreamconcepts.api.auth.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -18,4 +20,7 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     List<User> findByIsActiveTrue();
     
     boolean existsByEmail(String email);
-}
\ No newline at end of file
+
+    @Query("SELECT u.tokenVersion FROM User u WHERE u.id = :userId AND u.isActive = true")
+    Optional<Long> findActiveTokenVersion(@Param("userId") UUID userId);
+}
@@ -0,0 +1,68 @@
+package com.iowaicecreamconcepts.api.auth.security;
+
+import com.iowaicecreamconcepts.api.auth.model.PermissionSet;
+import com.iowaicecreamconcepts.api.auth.model.User;
+import lombok.Getter;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Lightweight security principal. Built either from a loaded {@link User} or, in stateless mode,
+ * straight from the token claims so no user lookup is needed on the request path.
+ */
+@Getter
+public class AuthenticatedUser {
+
+    private final UUID id;
+    private final String email;
+    private final User.Role role;
+    private final Set<String> permissions;
+    private final Set<UUID> assignedLocationIds;
+    private final PermissionSet permissionSet;
+
+    public AuthenticatedUser(UUID id, String email, User.Role role, Set<String> permissions, Set<UUID> assignedLocationIds) {
+        this.id = id;
+        this.email = email;
+        this.role = role;
+        this.permissions = permissions;
+        this.assignedLocationIds = assignedLocationIds;
+        this.permissionSet = PermissionSet.of(permissions);
+    }
+
+    public static AuthenticatedUser from(User user) {
+        return new AuthenticatedUser(
+                user.getId(),
+                user.getEmail(),
+                user.getRole(),
+                user.getPermissions() != null ? Set.copyOf(user.getPermissions()) : Set.of(),
+                user.getAssignedLocationIds() != null ? Set.copyOf(user.getAssignedLocationIds()) : Set.of()
+        );
+    }
+
+    public static AuthenticatedUser from(VerifiedClaims claims) {
+        return new AuthenticatedUser(
+                claims.getUserId(),
+                claims.getSubject(),
+                User.Role.valueOf(claims.getRole()),
+                claims.getPermissions(),
+                claims.getLocationIds()
+        );
+    }
+
+    /**
+     * Locations this user may see, or null for all of them. Admins, and users without assigned
+     * locations (single-shop setups), see every location.
+     */
+    public Set<UUID> locationScope() {
+        if (role == User.Role.ADMIN || assignedLocationIds.isEmpty()) {
+            return null;
+        }
+        return assignedLocationIds;
+    }
+
+    @Override
+    public String toString() {
+        return email;
+    }
+}
@@ -1,14 +1,16 @@
 package com.iowaicecreamconcepts.api.auth.security;
 
-import com.iowaicecreamconcepts.api.auth.model.User;
+import com.iowaicecreamconcepts.api.auth.model.RequiredPermission;
 import com.iowaicecreamconcepts.api.auth.service.PermissionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.PermissionEvaluator;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
 import java.io.Serializable;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 @RequiredArgsConstructor
@@ -16,31 +18,23 @@ public class CustomPermissionEvaluator implements PermissionEvaluator {
 
     private final PermissionService permissionService;
 
+    // Keyed by the @PreAuthorize expression literal, so the map stays as small as the set of annotations
+    private final Map<String, Optional<RequiredPermission>> compiledPermissions = new ConcurrentHashMap<>();
+
     @Override
     public boolean hasPermission(Authentication authentication, Object targetDomainObject, Object permission) {
         if (authentication == null || permission == null) {
             return false;
         }
 
-        User user = getCurrentUser();
+        AuthenticatedUser user = getCurrentUser(authentication);
         if (user == null) {
             return false;
         }
 
-        String[] parts = permission.toString().split(":");
-        if (parts.length == 3) {
-            // Format: inventory:item:r -> scope=inventory:item, access=r
-            String scope = parts[0] + ":" + parts[1];
-            String access = parts[2];
-            return permissionService.hasPermission(user, scope, access);
-        } else if (parts.length == 2) {
-            // Format: scope:access
-            String scope = parts[0];
-            String access = parts[1];
-            return permissionService.hasPermission(user, scope, access);
-        }
-
-        return false;
+        Optional<RequiredPermission> required = compiledPermissions.computeIfAbsent(
+                permission.toString(), expression -> Optional.ofNullable(RequiredPermission.parse(expression)));
+        return required.isPresent() && permissionService.hasPermission(user, required.get());
     }
 
     @Override
@@ -48,10 +42,10 @@ public class CustomPermissionEvaluator implements PermissionEvaluator {
         return hasPermission(authentication, null, permission);
     }
 
-    private User getCurrentUser() {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        if (auth != null && auth.getPrincipal() instanceof User) {
-            return (User) auth.getPrincipal();
+    private AuthenticatedUser getCurrentUser(Authentication authentication) {
+        // The JWT filter already resolved the principal from the verified claims; no token re-parsing here
+        if (authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user;
         }
         return null;
     }
@@ -0,0 +1,38 @@
+package com.iowaicecreamconcepts.api.auth.security;
+
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+
+/**
+ * Authentication built by the JWT filter. The verified claims are exposed as credentials so
+ * downstream code never has to re-parse the bearer token.
+ */
+public class JwtAuthenticationToken extends AbstractAuthenticationToken {
+
+    private final Object principal;
+    private final VerifiedClaims claims;
+
+    public JwtAuthenticationToken(Object principal, VerifiedClaims claims,
+                                  Collection<? extends GrantedAuthority> authorities) {
+        super(authorities);
+        this.principal = principal;
+        this.claims = claims;
+        setAuthenticated(true);
+    }
+
+    @Override
+    public Object getPrincipal() {
+        return principal;
+    }
+
+    @Override
+    public VerifiedClaims getCredentials() {
+        return claims;
+    }
+
+    public VerifiedClaims getClaims() {
+        return claims;
+    }
+}
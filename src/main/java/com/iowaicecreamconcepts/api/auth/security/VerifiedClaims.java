@@ -0,0 +1,70 @@
+package com.iowaicecreamconcepts.api.auth.security;
+
+import io.jsonwebtoken.Claims;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Claims of a bearer token whose signature and expiry have already been checked.
+ * Parsed once per request by the JWT filter and carried on the {@link JwtAuthenticationToken}.
+ */
+@Getter
+@AllArgsConstructor
+public class VerifiedClaims {
+
+    public static final String USER_ID = "userId";
+    public static final String ROLE = "role";
+    public static final String PERMISSIONS = "perms";
+    public static final String LOCATIONS = "locs";
+    public static final String TOKEN_VERSION = "ver";
+
+    private final String subject;
+    private final UUID userId;
+    private final String role;
+    private final Set<String> permissions;
+    private final Set<UUID> locationIds;
+    private final Long tokenVersion;
+    private final Instant issuedAt;
+    private final Instant expiresAt;
+
+    public static VerifiedClaims from(Claims claims) {
+        String userId = claims.get(USER_ID, String.class);
+        Object tokenVersion = claims.get(TOKEN_VERSION);
+        return new VerifiedClaims(
+                claims.getSubject(),
+                userId != null ? UUID.fromString(userId) : null,
+                claims.get(ROLE, String.class),
+                parsePermissions(claims.get(PERMISSIONS, String.class)),
+                parseLocations(claims.get(LOCATIONS)),
+                tokenVersion instanceof Number number ? number.longValue() : null,
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null
+        );
+    }
+
+    // Permissions travel as one space-separated string, e.g. "inventory:item:r production:batch:rw"
+    public static String encodePermissions(Set<String> permissions) {
+        return permissions == null ? "" : String.join(" ", permissions);
+    }
+
+    private static Set<String> parsePermissions(String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            return Set.of();
+        }
+        return Set.copyOf(Arrays.asList(encoded.trim().split(" +")));
+    }
+
+    private static Set<UUID> parseLocations(Object encoded) {
+        if (!(encoded instanceof Collection<?> values) || values.isEmpty()) {
+            return Set.of();
+        }
+        Set<UUID> locationIds = new HashSet<>(values.size());
+        for (Object value : values) {
+            locationIds.add(UUID.fromString(value.toString()));
+        }
+        return Collections.unmodifiableSet(locationIds);
+    }
+}
@@ -2,10 +2,12 @@ package com.iowaicecreamconcepts.api.auth.service;
 
 import com.iowaicecreamconcepts.api.auth.model.User;
 import com.iowaicecreamconcepts.api.auth.repository.UserRepository;
+import com.iowaicecreamconcepts.api.common.cache.CacheStats;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -16,6 +18,8 @@ public class AuthService {
 
     private final UserRepository userRepository;
     private final PermissionService permissionService;
+    private final TokenVersionService tokenVersionService;
+    private final UserCache userCache;
 
     public User createUser(String firstName, String lastName, String email, String phone, 
                           String passwordHash, User.Role role) {
@@ -39,14 +43,18 @@ public class AuthService {
     }
 
     public Optional<User> findByEmail(String email) {
-        return userRepository.findByEmail(email);
+        return userCache.findByEmail(email, userRepository::findByEmail);
     }
 
     public User getUser(UUID userId) {
-        return userRepository.findById(userId)
+        return userCache.findById(userId, userRepository::findById)
                 .orElseThrow(() -> new RuntimeException("User not found"));
     }
 
+    public Map<String, CacheStats> getUserCacheStats() {
+        return userCache.stats();
+    }
+
     public List<User> getActiveUsers() {
         return userRepository.findByIsActiveTrue();
     }
@@ -56,34 +64,50 @@ public class AuthService {
     }
 
     public User updateUserRole(UUID userId, User.Role role) {
-        User user = getUser(userId);
+        User user = loadUserForUpdate(userId);
         user.setRole(role);
         Set<String> defaultPermissions = permissionService.getDefaultPermissionsForRole(role);
         user.setPermissions(defaultPermissions);
-        return userRepository.save(user);
+        return saveAndRevokeTokens(user);
     }
 
     public User updateUserPermissions(UUID userId, Set<String> permissions) {
-        User user = getUser(userId);
+        User user = loadUserForUpdate(userId);
         user.setPermissions(permissions);
-        return userRepository.save(user);
+        return saveAndRevokeTokens(user);
     }
 
     public User assignUserToLocations(UUID userId, Set<UUID> locationIds) {
-        User user = getUser(userId);
+        User user = loadUserForUpdate(userId);
         user.setAssignedLocationIds(locationIds);
-        return userRepository.save(user);
+        return saveAndRevokeTokens(user);
     }
 
     public User deactivateUser(UUID userId) {
-        User user = getUser(userId);
+        User user = loadUserForUpdate(userId);
         user.setIsActive(false);
-        return userRepository.save(user);
+        return saveAndRevokeTokens(user);
     }
 
     public User activateUser(UUID userId) {
-        User user = getUser(userId);
+        User user = loadUserForUpdate(userId);
         user.setIsActive(true);
-        return userRepository.save(user);
+        return saveAndRevokeTokens(user);
+    }
+
+    // Writes always start from the database copy so cached instances are never mutated in place
+    private User loadUserForUpdate(UUID userId) {
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+    }
+
+    // Every change that affects authorization invalidates previously issued tokens and cached users
+    private User saveAndRevokeTokens(User user) {
+        long currentVersion = user.getTokenVersion() != null ? user.getTokenVersion() : 0L;
+        user.setTokenVersion(currentVersion + 1);
+        User saved = userRepository.save(user);
+        userCache.invalidate(saved);
+        tokenVersionService.recordVersion(saved);
+        return saved;
     }
 }
\ No newline at end of file
@@ -1,7 +1,9 @@
 package com.iowaicecreamconcepts.api.auth.service;
 
 import com.iowaicecreamconcepts.api.auth.model.Permission;
+import com.iowaicecreamconcepts.api.auth.model.RequiredPermission;
 import com.iowaicecreamconcepts.api.auth.model.User;
+import com.iowaicecreamconcepts.api.auth.security.AuthenticatedUser;
 import org.springframework.stereotype.Service;
 
 import java.util.Set;
@@ -43,13 +45,25 @@ public class PermissionService {
     }
 
     public boolean hasPermission(User user, String scope, String access) {
-        if (user.getPermissions() == null) {
+        return hasPermission(user.getPermissions(), scope, access);
+    }
+
+    public boolean hasPermission(AuthenticatedUser user, String scope, String access) {
+        return hasPermission(user, RequiredPermission.of(scope, access));
+    }
+
+    public boolean hasPermission(AuthenticatedUser user, RequiredPermission required) {
+        return user.getPermissionSet().allows(required);
+    }
+
+    private boolean hasPermission(Set<String> permissions, String scope, String access) {
+        if (permissions == null) {
             return false;
         }
 
         Permission required = Permission.of(scope, access);
         
-        return user.getPermissions().stream()
+        return permissions.stream()
                 .map(Permission::parse)
                 .anyMatch(userPermission -> userPermission.implies(required));
     }
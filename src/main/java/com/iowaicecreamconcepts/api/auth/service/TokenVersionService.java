@@ -0,0 +1,59 @@
+package com.iowaicecreamconcepts.api.auth.service;
+
+import com.iowaicecreamconcepts.api.auth.model.User;
+import com.iowaicecreamconcepts.api.auth.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks the current token version (epoch) per user so stateless principals can be revoked.
+ * Versions are cached in-process and re-read from the database at most once per refresh interval,
+ * which bounds how long another instance keeps accepting a revoked token.
+ */
+@Service
+@RequiredArgsConstructor
+public class TokenVersionService {
+
+    private static final long REVOKED = -1L;
+
+    private final UserRepository userRepository;
+    private final Map<UUID, CachedVersion> versions = new ConcurrentHashMap<>();
+
+    @Value("${app.auth.tokenVersionRefreshMs:30000}")
+    private long refreshMs;
+
+    public boolean isCurrent(UUID userId, Long tokenVersion) {
+        if (userId == null || tokenVersion == null) {
+            return false;
+        }
+
+        long now = System.currentTimeMillis();
+        CachedVersion cached = versions.get(userId);
+        if (cached == null || now - cached.loadedAt > refreshMs) {
+            long current = userRepository.findActiveTokenVersion(userId).orElse(REVOKED);
+            cached = new CachedVersion(current, now);
+            versions.put(userId, cached);
+        }
+        return cached.version == tokenVersion;
+    }
+
+    public void recordVersion(User user) {
+        long version = Boolean.TRUE.equals(user.getIsActive()) ? user.getTokenVersion() : REVOKED;
+        versions.put(user.getId(), new CachedVersion(version, System.currentTimeMillis()));
+    }
+
+    private static final class CachedVersion {
+        private final long version;
+        private final long loadedAt;
+
+        private CachedVersion(long version, long loadedAt) {
+            this.version = version;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.iowaicecreamconcepts.api.auth.service;
+
+import com.iowaicecreamconcepts.api.auth.model.User;
+import com.iowaicecreamconcepts.api.common.cache.BoundedCache;
+import com.iowaicecreamconcepts.api.common.cache.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Caches fully loaded users (with permissions and locations) by email and by id.
+ * AuthService invalidates both keys on every write to a user.
+ */
+@Component
+public class UserCache {
+
+    private final BoundedCache<String, User> usersByEmail;
+    private final BoundedCache<UUID, User> usersById;
+
+    public UserCache(@Value("${app.auth.userCache.maxSize:1000}") int maxSize,
+                     @Value("${app.auth.userCache.ttlMs:300000}") long ttlMs) {
+        this.usersByEmail = new BoundedCache<>(maxSize, ttlMs);
+        this.usersById = new BoundedCache<>(maxSize, ttlMs);
+    }
+
+    public Optional<User> findByEmail(String email, Function<String, Optional<User>> loader) {
+        return usersByEmail.get(email, loader);
+    }
+
+    public Optional<User> findById(UUID userId, Function<UUID, Optional<User>> loader) {
+        return usersById.get(userId, loader);
+    }
+
+    public void invalidate(User user) {
+        usersById.invalidate(user.getId());
+        usersByEmail.invalidate(user.getEmail());
+    }
+
+    public Map<String, CacheStats> stats() {
+        Map<String, CacheStats> stats = new LinkedHashMap<>();
+        stats.put("usersByEmail", usersByEmail.stats());
+        stats.put("usersById", usersById.stats());
+        return stats;
+    }
+}
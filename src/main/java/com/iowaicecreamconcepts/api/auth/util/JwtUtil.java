@@ -1,6 +1,7 @@
 package com.iowaicecreamconcepts.api.auth.util;
 
 import com.iowaicecreamconcepts.api.auth.model.User;
+import com.iowaicecreamconcepts.api.auth.security.VerifiedClaims;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -11,27 +12,41 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Component
 @Slf4j
 public class JwtUtil {
 
-    @Value("${app.jwtSecret:mySecretKey}")
-    private String jwtSecret;
+    private final int jwtExpirationMs;
 
-    @Value("${app.jwtExpirationMs:86400000}") // 24 hours
-    private int jwtExpirationMs;
+    // Built once at startup; both are immutable and safe to share across request threads
+    private final SecretKey signingKey;
+    private final JwtParser jwtParser;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    public JwtUtil(@Value("${app.jwtSecret:mySecretKey}") String jwtSecret,
+                   @Value("${app.jwtExpirationMs:86400000}") int jwtExpirationMs) { // 24 hours
+        this.jwtExpirationMs = jwtExpirationMs;
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        this.jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
     }
 
     public String generateToken(User user) {
         Map<String, Object> claims = new HashMap<>();
-        claims.put("userId", user.getId().toString());
-        claims.put("role", user.getRole().toString());
+        claims.put(VerifiedClaims.USER_ID, user.getId().toString());
+        claims.put(VerifiedClaims.ROLE, user.getRole().toString());
+        // Compact authorization claims let the filter build the principal without a user lookup
+        claims.put(VerifiedClaims.PERMISSIONS, VerifiedClaims.encodePermissions(user.getPermissions()));
+        claims.put(VerifiedClaims.LOCATIONS, user.getAssignedLocationIds() != null
+                ? user.getAssignedLocationIds().stream().map(UUID::toString).toList()
+                : List.of());
+        claims.put(VerifiedClaims.TOKEN_VERSION, user.getTokenVersion() != null ? user.getTokenVersion() : 0L);
         return createToken(claims, user.getEmail());
     }
 
@@ -41,10 +56,23 @@ public class JwtUtil {
                 .subject(subject)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + jwtExpirationMs))
-                .signWith(getSigningKey(), Jwts.SIG.HS256)
+                .signWith(signingKey, Jwts.SIG.HS256)
                 .compact();
     }
 
+    /**
+     * Verifies the signature and expiry of a token exactly once and returns its claims.
+     * Returns empty for any malformed, tampered or expired token.
+     */
+    public Optional<VerifiedClaims> parseToken(String token) {
+        try {
+            return Optional.of(VerifiedClaims.from(jwtParser.parseSignedClaims(token).getPayload()));
+        } catch (JwtException | IllegalArgumentException e) {
+            log.error("JWT token is invalid: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
     public Boolean validateToken(String token, UserDetails userDetails) {
         final String username = getUsernameFromToken(token);
         return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
@@ -73,9 +101,7 @@ public class JwtUtil {
 
     private Claims getAllClaimsFromToken(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
+            return jwtParser
                     .parseSignedClaims(token)
                     .getPayload();
         } catch (JwtException e) {
@@ -90,12 +116,6 @@ public class JwtUtil {
     }
 
     public boolean isTokenValid(String token) {
-        try {
-            getAllClaimsFromToken(token);
-            return !isTokenExpired(token);
-        } catch (JwtException | IllegalArgumentException e) {
-            log.error("JWT token is invalid: {}", e.getMessage());
-            return false;
-        }
+        return parseToken(token).isPresent();
     }
-}
\ No newline at end of file
+}
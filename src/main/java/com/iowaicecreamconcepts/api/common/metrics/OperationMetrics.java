@@ -0,0 +1,129 @@
+package com.iowaicecreamconcepts.api.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+/**
+ * Times domain operations as {@code app.operation}, tagged with the operation name, the location it
+ * touched and its outcome, so the scrape shows which operations take the database time where.
+ *
+ * <p>Service methods are timed by annotating them with {@link TimedOperation}. Inside a transaction a
+ * successful operation is only recorded once the transaction completes, so its time includes the commit
+ * and a failed commit is reported as {@code rolled_back}. Exceptions thrown by the operation itself are
+ * reported as {@code error}.
+ */
+@Component
+public class OperationMetrics {
+
+    public static final String OPERATION_TIMER = "app.operation";
+    public static final String SUCCESS = "success";
+    public static final String ERROR = "error";
+    public static final String ROLLED_BACK = "rolled_back";
+
+    static final String NO_LOCATION = "none";
+
+    private final MeterRegistry registry;
+    private final ThreadLocal<LocationTag> currentOperation = new ThreadLocal<>();
+
+    public OperationMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(registry);
+    }
+
+    public void success(Timer.Sample sample, String operation, UUID locationId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            stop(sample, operation, locationId, SUCCESS);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                stop(sample, operation, locationId, status == STATUS_COMMITTED ? SUCCESS : ROLLED_BACK);
+            }
+        });
+    }
+
+    public void failure(Timer.Sample sample, String operation, UUID locationId) {
+        stop(sample, operation, locationId, ERROR);
+    }
+
+    /**
+     * Tags the {@link TimedOperation} running on this thread with the location it touched. Does nothing
+     * outside one.
+     */
+    public void tagLocation(UUID locationId) {
+        LocationTag tag = currentOperation.get();
+        if (tag != null) {
+            tag.locationId = locationId;
+        }
+    }
+
+    /**
+     * Adds to a per-location counter, e.g. the number of lines a closed session counted. Inside a
+     * transaction the amount is only added once it commits.
+     */
+    public void count(String name, UUID locationId, double amount) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            registry.counter(name, "location", locationTag(locationId)).increment(amount);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                registry.counter(name, "location", locationTag(locationId)).increment(amount);
+            }
+        });
+    }
+
+    /**
+     * Records the sample now with a caller-chosen outcome, for operations that are not simply success
+     * or failure.
+     */
+    public void stop(Timer.Sample sample, String operation, UUID locationId, String outcome) {
+        sample.stop(Timer.builder(OPERATION_TIMER)
+                .tag("operation", operation)
+                .tag("location", locationTag(locationId))
+                .tag("outcome", outcome)
+                .register(registry));
+    }
+
+    LocationTag enter() {
+        LocationTag tag = new LocationTag(currentOperation.get());
+        currentOperation.set(tag);
+        return tag;
+    }
+
+    void exit(LocationTag tag) {
+        if (tag.outer != null) {
+            currentOperation.set(tag.outer);
+        } else {
+            currentOperation.remove();
+        }
+    }
+
+    private static String locationTag(UUID locationId) {
+        return locationId != null ? locationId.toString() : NO_LOCATION;
+    }
+
+    static final class LocationTag {
+
+        private final LocationTag outer;
+        private UUID locationId;
+
+        private LocationTag(LocationTag outer) {
+            this.outer = outer;
+        }
+
+        UUID getLocationId() {
+            return locationId;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.iowaicecreamconcepts.api.common.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+
+/**
+ * Records {@link TimedOperation} methods. It runs outside the transaction advice, so the time of an
+ * operation that opens its own transaction includes the commit, and a failed commit is reported as
+ * {@code rolled_back}. An operation joining a caller's transaction is recorded when that one completes.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class OperationMetricsAspect {
+
+    private final OperationMetrics operationMetrics;
+
+    public OperationMetricsAspect(OperationMetrics operationMetrics) {
+        this.operationMetrics = operationMetrics;
+    }
+
+    @Around("@annotation(timedOperation)")
+    public Object time(ProceedingJoinPoint joinPoint, TimedOperation timedOperation) throws Throwable {
+        String operation = timedOperation.value();
+        Timer.Sample sample = operationMetrics.start();
+        OperationMetrics.LocationTag tag = operationMetrics.enter();
+        try {
+            Object result = joinPoint.proceed();
+            operationMetrics.success(sample, operation, tag.getLocationId());
+            return result;
+        } catch (TransactionException e) {
+            operationMetrics.stop(sample, operation, tag.getLocationId(), OperationMetrics.ROLLED_BACK);
+            throw e;
+        } catch (Throwable e) {
+            operationMetrics.failure(sample, operation, tag.getLocationId());
+            throw e;
+        } finally {
+            operationMetrics.exit(tag);
+        }
+    }
+}
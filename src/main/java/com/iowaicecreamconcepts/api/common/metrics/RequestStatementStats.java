@@ -0,0 +1,55 @@
+package com.iowaicecreamconcepts.api.common.metrics;
+
+/**
+ * JDBC statements, time spent executing them and rows read by the current HTTP request.
+ *
+ * <p>Bound to the request thread between {@link #begin()} and {@link #end()}. Queries the request hands
+ * to other threads (the dashboard's parallel summary queries, async exports) are not counted, and
+ * statements run outside a request, e.g. by schedulers, are not wrapped at all.
+ */
+public final class RequestStatementStats {
+
+    private static final ThreadLocal<RequestStatementStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long executionNanos;
+    private long rows;
+
+    private RequestStatementStats() {
+    }
+
+    public static RequestStatementStats begin() {
+        RequestStatementStats stats = new RequestStatementStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    static RequestStatementStats current() {
+        return CURRENT.get();
+    }
+
+    void statementExecuted(long nanos) {
+        statements++;
+        executionNanos += nanos;
+    }
+
+    void rowRead() {
+        rows++;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getExecutionNanos() {
+        return executionNanos;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+}
@@ -0,0 +1,130 @@
+package com.iowaicecreamconcepts.api.common.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts the JDBC statements, database time and rows of every HTTP request and records them as
+ * {@code app.request.statements}, {@code app.request.db.time} and {@code app.request.rows}, tagged with
+ * the method and URI template. A request running more statements than the budget is logged, which is
+ * usually an N+1 lookup inside a loop.
+ *
+ * <p>With {@code app.requestStats.headers} on (local and test profiles) the counts are also returned as
+ * {@code X-Db-Statements}, {@code X-Db-Time-Ms} and {@code X-Db-Rows}. Headers are written when the
+ * response commits, so statements run after the body has started streaming only reach the metrics.
+ * Runs ahead of Spring Security so the user lookup of the token filter is counted too.
+ */
+@Slf4j
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 1)
+public class RequestStatementStatsFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_HEADER = "X-Db-Statements";
+    public static final String DB_TIME_HEADER = "X-Db-Time-Ms";
+    public static final String ROWS_HEADER = "X-Db-Rows";
+
+    static final String STATEMENTS_SUMMARY = "app.request.statements";
+    static final String DB_TIMER = "app.request.db.time";
+    static final String ROWS_SUMMARY = "app.request.rows";
+    static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final int statementBudget;
+    private final boolean headersEnabled;
+
+    public RequestStatementStatsFilter(MeterRegistry meterRegistry,
+                                       @Value("${app.requestStats.statementBudget:30}") int statementBudget,
+                                       @Value("${app.requestStats.headers:false}") boolean headersEnabled) {
+        this.meterRegistry = meterRegistry;
+        this.statementBudget = statementBudget;
+        this.headersEnabled = headersEnabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestStatementStats stats = RequestStatementStats.begin();
+        try {
+            if (headersEnabled) {
+                filterChain.doFilter(request, new StatsHeaderResponse(response, stats));
+                if (!response.isCommitted()) {
+                    writeHeaders(response, stats);
+                }
+            } else {
+                filterChain.doFilter(request, response);
+            }
+        } finally {
+            RequestStatementStats.end();
+            record(request, response, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, RequestStatementStats stats) {
+        String method = request.getMethod();
+        String uri = uriTemplate(request);
+
+        DistributionSummary.builder(STATEMENTS_SUMMARY)
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        Timer.builder(DB_TIMER)
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.getExecutionNanos(), TimeUnit.NANOSECONDS);
+        DistributionSummary.builder(ROWS_SUMMARY)
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.getRows());
+
+        if (stats.getStatements() > statementBudget) {
+            log.warn("Statement budget exceeded: method={} uri={} path={} status={} statements={} budget={} dbTimeMs={} rows={}",
+                    method, uri, request.getRequestURI(), response.getStatus(), stats.getStatements(), statementBudget,
+                    TimeUnit.NANOSECONDS.toMillis(stats.getExecutionNanos()), stats.getRows());
+        }
+    }
+
+    private static String uriTemplate(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNKNOWN_URI;
+    }
+
+    private static void writeHeaders(HttpServletResponse response, RequestStatementStats stats) {
+        response.setHeader(STATEMENTS_HEADER, Integer.toString(stats.getStatements()));
+        response.setHeader(DB_TIME_HEADER, Long.toString(TimeUnit.NANOSECONDS.toMillis(stats.getExecutionNanos())));
+        response.setHeader(ROWS_HEADER, Long.toString(stats.getRows()));
+    }
+
+    private static final class StatsHeaderResponse extends OnCommittedResponseWrapper {
+
+        private final RequestStatementStats stats;
+
+        StatsHeaderResponse(HttpServletResponse response, RequestStatementStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            writeHeaders(this, stats);
+        }
+    }
+}
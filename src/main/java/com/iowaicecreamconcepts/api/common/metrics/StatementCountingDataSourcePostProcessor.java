@@ -0,0 +1,159 @@
+package com.iowaicecreamconcepts.api.common.metrics;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Arrays;
+
+/**
+ * Wraps the application's {@link DataSource} so statements executed during an HTTP request are counted
+ * into its {@link RequestStatementStats}: each {@code execute*} call (a whole JDBC batch counts once),
+ * the time spent in it, and every row read from its result sets.
+ *
+ * <p>Statements created outside a request are handed out unwrapped. {@code unwrap}/{@code isWrapperFor}
+ * reach the pool, so the HikariCP metrics and JMX beans still bind to it.
+ */
+@Component
+public class StatementCountingDataSourcePostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !Proxy.isProxyClass(bean.getClass())) {
+            Class<?>[] interfaces = Arrays.stream(ClassUtils.getAllInterfaces(dataSource))
+                    .filter(type -> Modifier.isPublic(type.getModifiers()))
+                    .toArray(Class<?>[]::new);
+            return proxy(interfaces, new DataSourceHandler(dataSource));
+        }
+        return bean;
+    }
+
+    private static Object proxy(Class<?>[] interfaces, InvocationHandler handler) {
+        return Proxy.newProxyInstance(StatementCountingDataSourcePostProcessor.class.getClassLoader(), interfaces, handler);
+    }
+
+    private abstract static class DelegatingHandler implements InvocationHandler {
+
+        private final Object target;
+
+        DelegatingHandler(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            return switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                default -> handle(method, args);
+            };
+        }
+
+        Object handle(Method method, Object[] args) throws Throwable {
+            return delegate(method, args);
+        }
+
+        Object delegate(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+
+    private static final class DataSourceHandler extends DelegatingHandler {
+
+        DataSourceHandler(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        Object handle(Method method, Object[] args) throws Throwable {
+            Object result = delegate(method, args);
+            if (result instanceof Connection connection) {
+                return proxy(new Class<?>[]{Connection.class}, new ConnectionHandler(connection));
+            }
+            return result;
+        }
+    }
+
+    private static final class ConnectionHandler extends DelegatingHandler {
+
+        ConnectionHandler(Connection target) {
+            super(target);
+        }
+
+        @Override
+        Object handle(Method method, Object[] args) throws Throwable {
+            Object result = delegate(method, args);
+            RequestStatementStats stats = RequestStatementStats.current();
+            if (stats == null || !(result instanceof Statement statement)) {
+                return result;
+            }
+            Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+                    : statement instanceof PreparedStatement ? PreparedStatement.class
+                    : Statement.class;
+            return proxy(new Class<?>[]{type}, new StatementHandler(statement, stats));
+        }
+    }
+
+    private static final class StatementHandler extends DelegatingHandler {
+
+        private final RequestStatementStats stats;
+
+        StatementHandler(Statement target, RequestStatementStats stats) {
+            super(target);
+            this.stats = stats;
+        }
+
+        @Override
+        Object handle(Method method, Object[] args) throws Throwable {
+            Object result;
+            if (method.getName().startsWith("execute")) {
+                long start = System.nanoTime();
+                try {
+                    result = delegate(method, args);
+                } finally {
+                    stats.statementExecuted(System.nanoTime() - start);
+                }
+            } else {
+                result = delegate(method, args);
+            }
+            if (result instanceof ResultSet resultSet) {
+                return proxy(new Class<?>[]{ResultSet.class}, new ResultSetHandler(resultSet, stats));
+            }
+            return result;
+        }
+    }
+
+    private static final class ResultSetHandler extends DelegatingHandler {
+
+        private final RequestStatementStats stats;
+
+        ResultSetHandler(ResultSet target, RequestStatementStats stats) {
+            super(target);
+            this.stats = stats;
+        }
+
+        @Override
+        Object handle(Method method, Object[] args) throws Throwable {
+            Object result = delegate(method, args);
+            if (Boolean.TRUE.equals(result) && method.getName().equals("next")) {
+                stats.rowRead();
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.iowaicecreamconcepts.api.common.metrics;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Times the annotated bean method as an {@code app.operation} with the given operation name. The method
+ * reports the location it touched with {@link OperationMetrics#tagLocation}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface TimedOperation {
+
+    String value();
+}
@@ -2,7 +2,9 @@ package com.iowaicecreamconcepts.api.config;
 
 import com.iowaicecreamconcepts.api.auth.filter.JwtAuthenticationFilter;
 import com.iowaicecreamconcepts.api.auth.security.CustomPermissionEvaluator;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.web.server.ManagementPortType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
@@ -46,10 +48,20 @@ public class SecurityConfig {
         
         // Configure authorization
         var authz = http.authorizeHttpRequests(auth -> {
+            // Streaming responses (SSE, exports) finish on an async dispatch; the original request was already authorized
+            auth.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll();
+
             auth.requestMatchers("/api/auth/login").permitAll()
                 .requestMatchers("/api/locations").permitAll()
-                .requestMatchers("/swagger-ui/**", "/swagger-ui.html", "/api-docs/**", "/v3/api-docs/**").permitAll();
-                
+                .requestMatchers("/swagger-ui/**", "/swagger-ui.html", "/api-docs/**", "/v3/api-docs/**").permitAll()
+                // Probes do not carry user tokens
+                .requestMatchers("/actuator/health").permitAll();
+
+            // Neither does the Prometheus scraper, so the scrape is only open when the actuator has its own port
+            if (ManagementPortType.get(environment) == ManagementPortType.DIFFERENT) {
+                auth.requestMatchers("/actuator/prometheus").permitAll();
+            }
+
             // Allow H2 console only in local profile
             if (isLocalProfile) {
                 auth.requestMatchers("/h2-console/**").permitAll();
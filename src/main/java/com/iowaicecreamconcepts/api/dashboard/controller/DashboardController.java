@@ -0,0 +1,24 @@
+package com.iowaicecreamconcepts.api.dashboard.controller;
+
+import com.iowaicecreamconcepts.api.auth.security.AuthenticatedUser;
+import com.iowaicecreamconcepts.api.dashboard.dto.DashboardSummary;
+import com.iowaicecreamconcepts.api.dashboard.service.DashboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    @GetMapping("/summary")
+    public ResponseEntity<DashboardSummary> getSummary(@AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(dashboardService.getSummary(user));
+    }
+}
@@ -0,0 +1,47 @@
+package com.iowaicecreamconcepts.api.dashboard.dto;
+
+import com.iowaicecreamconcepts.api.inventory.model.CurrentStock;
+import com.iowaicecreamconcepts.api.production.model.ProductionBatch;
+import com.iowaicecreamconcepts.api.production.model.ProductionRequest;
+import com.iowaicecreamconcepts.api.production.model.WasteEvent;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Everything the dashboard shows in one payload. Each section carries the full count and only the
+ * first few rows.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DashboardSummary {
+
+    private Set<UUID> locationIds;    // null when the caller sees every location
+    private LocalDateTime generatedAt;
+    private Section<CurrentStock> belowParStock;
+    private Section<ProductionRequest> openRequests;
+    private Section<ProductionRequest> overdueRequests;
+    private Section<ProductionBatch> inProgressBatches;
+    private Section<ProductionBatch> todaysBatches;
+    private Section<WasteEvent> recentWaste;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Section<T> {
+        private long count;
+        private List<T> items;
+
+        public static <T> Section<T> of(List<T> rows, int limit) {
+            return new Section<>(rows.size(), rows.size() > limit ? List.copyOf(rows.subList(0, limit)) : rows);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.iowaicecreamconcepts.api.dashboard.service;
+
+import com.iowaicecreamconcepts.api.auth.security.AuthenticatedUser;
+import com.iowaicecreamconcepts.api.dashboard.dto.DashboardSummary;
+import com.iowaicecreamconcepts.api.dashboard.dto.DashboardSummary.Section;
+import com.iowaicecreamconcepts.api.inventory.model.BelowParStock;
+import com.iowaicecreamconcepts.api.inventory.model.CurrentStock;
+import com.iowaicecreamconcepts.api.inventory.repository.BelowParStockRepository;
+import com.iowaicecreamconcepts.api.production.model.ProductionBatch;
+import com.iowaicecreamconcepts.api.production.model.ProductionRequest;
+import com.iowaicecreamconcepts.api.production.model.WasteEvent;
+import com.iowaicecreamconcepts.api.production.repository.ProductionBatchRepository;
+import com.iowaicecreamconcepts.api.production.repository.ProductionRequestRepository;
+import com.iowaicecreamconcepts.api.production.repository.WasteEventRepository;
+import com.iowaicecreamconcepts.api.production.service.ProductionSchedule;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Builds the dashboard summary. The six sections are independent read-only queries, so they run in
+ * parallel on a small dedicated pool and the request waits for the slowest one. Each running query
+ * holds a database connection, so keep {@code app.dashboard.parallelism} well below the pool size.
+ *
+ * <p>The pool is owned here rather than exposed as an Executor bean so it does not replace Spring's
+ * application task executor.
+ */
+@Service
+public class DashboardService {
+
+    static final int SECTION_LIMIT = 10;
+    static final int RECENT_WASTE_DAYS = 7;
+
+    private final BelowParStockRepository belowParStockRepository;
+    private final ProductionRequestRepository productionRequestRepository;
+    private final ProductionBatchRepository productionBatchRepository;
+    private final WasteEventRepository wasteEventRepository;
+    private final ProductionSchedule productionSchedule;
+    private final ExecutorService dashboardExecutor;
+
+    public DashboardService(BelowParStockRepository belowParStockRepository,
+                            ProductionRequestRepository productionRequestRepository,
+                            ProductionBatchRepository productionBatchRepository,
+                            WasteEventRepository wasteEventRepository,
+                            ProductionSchedule productionSchedule,
+                            @Value("${app.dashboard.parallelism:4}") int parallelism) {
+        this.belowParStockRepository = belowParStockRepository;
+        this.productionRequestRepository = productionRequestRepository;
+        this.productionBatchRepository = productionBatchRepository;
+        this.wasteEventRepository = wasteEventRepository;
+        this.productionSchedule = productionSchedule;
+
+        // Zero means one virtual thread per query, for the virtual-threads profile
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.dashboardExecutor = parallelism <= 0
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(parallelism, runnable -> {
+                    Thread thread = new Thread(runnable, "dashboard-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dashboardExecutor.shutdown();
+    }
+
+    public DashboardSummary getSummary(AuthenticatedUser user) {
+        Set<UUID> locations = user.locationScope();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime startOfToday = LocalDate.now().atStartOfDay();
+        LocalDateTime wasteSince = now.minusDays(RECENT_WASTE_DAYS);
+
+        CompletableFuture<Section<CurrentStock>> belowPar = async(() -> {
+            Section<BelowParStock> rows = locations == null
+                    ? new Section<>(belowParStockRepository.count(), belowParStockRepository.findTop10ByOrderByLastUpdatedDesc())
+                    : new Section<>(belowParStockRepository.countByLocationIdIn(locations),
+                            belowParStockRepository.findTop10ByLocationIdInOrderByLastUpdatedDesc(locations));
+            return new Section<>(rows.getCount(), rows.getItems().stream().map(BelowParStock::toCurrentStock).toList());
+        });
+
+        CompletableFuture<Section<ProductionRequest>> openRequests = async(() -> locations == null
+                ? new Section<>(productionRequestRepository.countByStatus(ProductionRequest.Status.OPEN),
+                        productionRequestRepository.findTop10ByStatusOrderByNeededByAsc(ProductionRequest.Status.OPEN))
+                : new Section<>(productionRequestRepository.countByLocationIdInAndStatus(locations, ProductionRequest.Status.OPEN),
+                        productionRequestRepository.findTop10ByLocationIdInAndStatusOrderByNeededByAsc(locations, ProductionRequest.Status.OPEN)));
+
+        // Served from the in-memory schedule, no query needed
+        Section<ProductionRequest> overdueRequests = Section.of(productionSchedule.overdue(now, locations), SECTION_LIMIT);
+
+        CompletableFuture<Section<ProductionBatch>> inProgressBatches = async(() -> locations == null
+                ? new Section<>(productionBatchRepository.countByStatus(ProductionBatch.Status.IN_PROGRESS),
+                        productionBatchRepository.findTop10ByStatusOrderByCreatedAtDesc(ProductionBatch.Status.IN_PROGRESS))
+                : new Section<>(productionBatchRepository.countByStorageLocationIdInAndStatus(locations, ProductionBatch.Status.IN_PROGRESS),
+                        productionBatchRepository.findTop10ByStorageLocationIdInAndStatusOrderByCreatedAtDesc(locations, ProductionBatch.Status.IN_PROGRESS)));
+
+        CompletableFuture<Section<ProductionBatch>> todaysBatches = async(() -> locations == null
+                ? new Section<>(productionBatchRepository.countByCreatedAtGreaterThanEqual(startOfToday),
+                        productionBatchRepository.findTop10ByCreatedAtGreaterThanEqualOrderByCreatedAtDesc(startOfToday))
+                : new Section<>(productionBatchRepository.countByStorageLocationIdInAndCreatedAtGreaterThanEqual(locations, startOfToday),
+                        productionBatchRepository.findTop10ByStorageLocationIdInAndCreatedAtGreaterThanEqualOrderByCreatedAtDesc(locations, startOfToday)));
+
+        CompletableFuture<Section<WasteEvent>> recentWaste = async(() -> {
+            PageRequest firstRows = PageRequest.of(0, SECTION_LIMIT);
+            return locations == null
+                    ? new Section<>(wasteEventRepository.countByRecordedAtGreaterThanEqual(wasteSince),
+                            wasteEventRepository.findByRecordedAtGreaterThanEqualOrderByRecordedAtDesc(wasteSince, firstRows))
+                    : new Section<>(wasteEventRepository.countRecentByLocations(wasteSince, locations),
+                            wasteEventRepository.findRecentByLocations(wasteSince, locations, firstRows));
+        });
+
+        try {
+            CompletableFuture.allOf(belowPar, openRequests, inProgressBatches, todaysBatches, recentWaste).join();
+        } catch (CompletionException e) {
+            throw new RuntimeException("Failed to load dashboard summary", e.getCause());
+        }
+
+        return DashboardSummary.builder()
+                .locationIds(locations)
+                .generatedAt(now)
+                .belowParStock(belowPar.join())
+                .openRequests(openRequests.join())
+                .overdueRequests(overdueRequests)
+                .inProgressBatches(inProgressBatches.join())
+                .todaysBatches(todaysBatches.join())
+                .recentWaste(recentWaste.join())
+                .build();
+    }
+
+    private <T> CompletableFuture<T> async(Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(supplier, dashboardExecutor);
+    }
+}
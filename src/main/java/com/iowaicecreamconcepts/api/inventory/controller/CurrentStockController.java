@@ -2,10 +2,14 @@ package com.iowaicecreamconcepts.api.inventory.controller;
 
 import com.iowaicecreamconcepts.api.inventory.model.CurrentStock;
 import com.iowaicecreamconcepts.api.inventory.repository.CurrentStockRepository;
+import com.iowaicecreamconcepts.api.inventory.service.BelowParStockService;
+import com.iowaicecreamconcepts.api.inventory.service.StockLedgerService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -15,6 +19,8 @@ import java.util.UUID;
 public class CurrentStockController {
 
     private final CurrentStockRepository currentStockRepository;
+    private final BelowParStockService belowParStockService;
+    private final StockLedgerService stockLedgerService;
 
     @GetMapping
     public ResponseEntity<List<CurrentStock>> getCurrentStock(@RequestParam(required = false) UUID locationId) {
@@ -26,14 +32,31 @@ public class CurrentStockController {
 
     @GetMapping("/below-par")
     public ResponseEntity<List<CurrentStock>> getBelowParStock(@RequestParam(required = false) UUID locationId) {
-        if (locationId != null) {
-            return ResponseEntity.ok(currentStockRepository.findBelowParStockByLocation(locationId));
-        }
-        return ResponseEntity.ok(currentStockRepository.findBelowParStock());
+        return ResponseEntity.ok(belowParStockService.getBelowParStock(locationId));
     }
 
     @GetMapping("/item/{itemId}")
     public ResponseEntity<List<CurrentStock>> getCurrentStockByItem(@PathVariable UUID itemId) {
         return ResponseEntity.ok(currentStockRepository.findByItemId(itemId));
     }
-}
\ No newline at end of file
+
+    /**
+     * Stock on hand at a past moment, read from the ledger. Pass itemId for a single item.
+     */
+    @GetMapping("/at")
+    public ResponseEntity<List<CurrentStock>> getStockAt(
+            @RequestParam UUID locationId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at,
+            @RequestParam(required = false) UUID itemId) {
+        if (itemId != null) {
+            CurrentStock stock = CurrentStock.builder()
+                    .itemId(itemId)
+                    .locationId(locationId)
+                    .quantity(stockLedgerService.quantityAt(itemId, locationId, at))
+                    .lastUpdated(at)
+                    .build();
+            return ResponseEntity.ok(List.of(stock));
+        }
+        return ResponseEntity.ok(stockLedgerService.stockAt(locationId, at));
+    }
+}
@@ -17,7 +17,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @RestController
@@ -343,6 +345,48 @@ public class InventoryController {
         return ResponseEntity.ok(service.updateItem(id, item));
     }
 
+    @PutMapping("/unit-costs")
+    @PreAuthorize("hasPermission(null, 'inventory:item:rw')")
+    @Operation(
+        summary = "Update unit costs",
+        description = "Reprice many inventory items at once. Costs of recipes using those items, and of the products they make, are recomputed in the same transaction.",
+        requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+            description = "New unit cost by inventory item id",
+            required = true,
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "reprice",
+                    summary = "Reprice two items",
+                    value = "{\"550e8400-e29b-41d4-a716-446655440000\": 4.25, \"550e8400-e29b-41d4-a716-446655440001\": 0.89}"
+                )
+            )
+        )
+    )
+    @SecurityRequirement(name = "Bearer Authentication")
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Unit costs updated successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = InventoryItem.class, type = "array")
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Unknown item or negative unit cost"
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Insufficient permissions to update inventory items"
+        )
+    })
+    public ResponseEntity<List<InventoryItem>> updateUnitCosts(
+        @RequestBody Map<UUID, BigDecimal> unitCosts) {
+        return ResponseEntity.ok(service.updateUnitCosts(unitCosts));
+    }
+
     @DeleteMapping("/{id}")
     @PreAuthorize("hasPermission(null, 'inventory:item:rw')")
     @Operation(
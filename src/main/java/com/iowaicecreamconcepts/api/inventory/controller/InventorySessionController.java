@@ -1,13 +1,23 @@
 package com.iowaicecreamconcepts.api.inventory.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.iowaicecreamconcepts.api.inventory.dto.SessionLineBatchResult;
 import com.iowaicecreamconcepts.api.inventory.model.*;
 import com.iowaicecreamconcepts.api.inventory.service.InventorySessionService;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -16,7 +26,13 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class InventorySessionController {
 
+    private static final String APPLICATION_NDJSON = "application/x-ndjson";
+
     private final InventorySessionService inventorySessionService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.inventory.maxBatchLines:2000}")
+    private int maxBatchLines;
 
     @PostMapping
     public ResponseEntity<InventorySession> createSession(@RequestBody CreateSessionRequest request) {
@@ -62,6 +78,42 @@ public class InventorySessionController {
         return ResponseEntity.ok(line);
     }
 
+    @PostMapping(value = "/{sessionId}/lines/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<SessionLineBatchResult> addSessionLines(
+            @PathVariable UUID sessionId,
+            @RequestBody List<AddSessionLineRequest> requests) {
+
+        List<InventorySessionLine> lines = requests.stream().map(this::toLine).toList();
+        return ResponseEntity.ok(inventorySessionService.addSessionLines(sessionId, lines));
+    }
+
+    @PostMapping(value = "/{sessionId}/lines/batch", consumes = APPLICATION_NDJSON)
+    public ResponseEntity<SessionLineBatchResult> addSessionLinesNdjson(
+            @PathVariable UUID sessionId,
+            InputStream body) throws IOException {
+
+        List<InventorySessionLine> lines = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        String json;
+        int lineNumber = 0;
+        while ((json = reader.readLine()) != null) {
+            lineNumber++;
+            if (json.isBlank()) {
+                continue;
+            }
+            // Reject as soon as the limit is exceeded rather than buffering the rest of the upload
+            if (lines.size() >= maxBatchLines) {
+                throw new RuntimeException("Too many session lines, maximum is " + maxBatchLines);
+            }
+            try {
+                lines.add(toLine(objectMapper.readValue(json, AddSessionLineRequest.class)));
+            } catch (IOException e) {
+                throw new RuntimeException("Malformed session line on line " + lineNumber);
+            }
+        }
+        return ResponseEntity.ok(inventorySessionService.addSessionLines(sessionId, lines));
+    }
+
     @PostMapping("/{sessionId}/close")
     public ResponseEntity<InventorySession> closeSession(
             @PathVariable UUID sessionId,
@@ -71,6 +123,19 @@ public class InventorySessionController {
         return ResponseEntity.ok(session);
     }
 
+    private InventorySessionLine toLine(AddSessionLineRequest request) {
+        if (request == null) {
+            return null;
+        }
+        return InventorySessionLine.builder()
+                .itemId(request.getItemId())
+                .count(request.getCount())
+                .unit(request.getUnit())
+                .note(request.getNote())
+                .photoUrl(request.getPhotoUrl())
+                .build();
+    }
+
     // Request DTOs
     @Setter
     @Getter
@@ -0,0 +1,42 @@
+package com.iowaicecreamconcepts.api.inventory.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SessionLineBatchResult {
+
+    private UUID sessionId;
+    private int accepted;
+    private int rejected;
+    private List<LineResult> results;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LineResult {
+
+        public enum Status {
+            CREATED, REJECTED
+        }
+
+        private int index;        // position of the line in the request body
+        private Status status;
+        private UUID lineId;
+        private String error;
+
+        public static LineResult created(int index, UUID lineId) {
+            return new LineResult(index, Status.CREATED, lineId, null);
+        }
+
+        public static LineResult rejected(int index, String error) {
+            return new LineResult(index, Status.REJECTED, null, error);
+        }
+    }
+}
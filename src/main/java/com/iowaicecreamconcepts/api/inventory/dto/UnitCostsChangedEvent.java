@@ -0,0 +1,17 @@
+package com.iowaicecreamconcepts.api.inventory.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Published inside the transaction that changed the unit cost of the given inventory items.
+ */
+@Data
+@AllArgsConstructor
+public class UnitCostsChangedEvent {
+
+    private Set<UUID> itemIds;
+}
@@ -0,0 +1,52 @@
+package com.iowaicecreamconcepts.api.inventory.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Materialized subset of {@link CurrentStock} whose quantity is below the item's par level. Rows are
+ * maintained by {@code BelowParStockService} whenever stock or par levels change, keyed by the
+ * current stock row id.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "below_par_stock", indexes = {
+        @Index(name = "idx_below_par_location", columnList = "location_id"),
+        @Index(name = "idx_below_par_item", columnList = "item_id")
+})
+public class BelowParStock {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "item_id", nullable = false)
+    private UUID itemId;
+
+    @Column(name = "location_id", nullable = false)
+    private UUID locationId;
+
+    @Column(nullable = false)
+    private Double quantity;
+
+    @Column(name = "par_stock_level", nullable = false)
+    private Double parStockLevel;
+
+    @Column(name = "last_updated", nullable = false)
+    private LocalDateTime lastUpdated;
+
+    public CurrentStock toCurrentStock() {
+        return CurrentStock.builder()
+                .id(id)
+                .itemId(itemId)
+                .locationId(locationId)
+                .quantity(quantity)
+                .lastUpdated(lastUpdated)
+                .build();
+    }
+}
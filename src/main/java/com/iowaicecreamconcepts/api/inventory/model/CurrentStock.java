@@ -11,23 +11,25 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "current_stock")
+@Table(name = "current_stock", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_current_stock_item_location", columnNames = {"item_id", "location_id"})
+})
 public class CurrentStock {
 
     @Id
     @GeneratedValue
     private UUID id;
 
-    @Column(nullable = false)
+    @Column(name = "item_id", nullable = false)
     private UUID itemId;
 
-    @Column(nullable = false)
+    @Column(name = "location_id", nullable = false)
     private UUID locationId;
 
     @Column(nullable = false)
     private Double quantity;
 
-    @Column(nullable = false)
+    @Column(name = "last_updated", nullable = false)
     private LocalDateTime lastUpdated;
 
     @PrePersist
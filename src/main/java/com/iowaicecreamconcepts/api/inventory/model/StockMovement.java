@@ -0,0 +1,74 @@
+package com.iowaicecreamconcepts.api.inventory.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One append-only entry in the stock ledger. Deltas (produced, run out, wasted) carry a signed
+ * quantity; counts and opening balances carry the absolute quantity on hand at that moment.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "stock_movements", indexes = {
+        @Index(name = "idx_stock_movements_item_location_time", columnList = "item_id, location_id, occurred_at"),
+        @Index(name = "idx_stock_movements_location_time", columnList = "location_id, occurred_at"),
+        @Index(name = "idx_stock_movements_time", columnList = "occurred_at")
+})
+public class StockMovement {
+
+    @Id
+    @GeneratedValue
+    private UUID id;
+
+    @Column(name = "item_id", nullable = false, updatable = false)
+    private UUID itemId;
+
+    @Column(name = "location_id", nullable = false, updatable = false)
+    private UUID locationId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false, length = 16)
+    private Type type;
+
+    @Column(nullable = false, updatable = false)
+    private Double quantity;
+
+    // Batch, waste event or inventory session that caused the movement
+    @Column(name = "source_id", updatable = false)
+    private UUID sourceId;
+
+    @Column(name = "occurred_at", nullable = false, updatable = false)
+    private LocalDateTime occurredAt;
+
+    @PrePersist
+    public void prePersist() {
+        if (this.occurredAt == null) {
+            this.occurredAt = LocalDateTime.now();
+        }
+    }
+
+    public boolean isAbsolute() {
+        return type == Type.COUNTED || type == Type.OPENING;
+    }
+
+    /**
+     * Applies this movement to the quantity on hand just before it.
+     */
+    public double applyTo(double quantityBefore) {
+        return isAbsolute() ? quantity : quantityBefore + quantity;
+    }
+
+    public enum Type {
+        PRODUCED,
+        RUN_OUT,
+        WASTED,
+        COUNTED,
+        OPENING
+    }
+}
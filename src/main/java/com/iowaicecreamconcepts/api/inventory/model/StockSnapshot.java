@@ -0,0 +1,42 @@
+package com.iowaicecreamconcepts.api.inventory.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Quantity on hand for one item and location at {@code takenAt}, folded from the ledger. A snapshot
+ * is written only for items that moved since the previous snapshot run, so the latest snapshot at or
+ * before a run time is exact for every item.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "stock_snapshots", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_stock_snapshots_item_location_time", columnNames = {"item_id", "location_id", "taken_at"})
+}, indexes = {
+        @Index(name = "idx_stock_snapshots_location_time", columnList = "location_id, taken_at"),
+        @Index(name = "idx_stock_snapshots_time", columnList = "taken_at")
+})
+public class StockSnapshot {
+
+    @Id
+    @GeneratedValue
+    private UUID id;
+
+    @Column(name = "item_id", nullable = false)
+    private UUID itemId;
+
+    @Column(name = "location_id", nullable = false)
+    private UUID locationId;
+
+    @Column(nullable = false)
+    private Double quantity;
+
+    @Column(name = "taken_at", nullable = false)
+    private LocalDateTime takenAt;
+}
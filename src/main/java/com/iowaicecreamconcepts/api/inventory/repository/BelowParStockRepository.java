@@ -0,0 +1,21 @@
+package com.iowaicecreamconcepts.api.inventory.repository;
+
+import com.iowaicecreamconcepts.api.inventory.model.BelowParStock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface BelowParStockRepository extends JpaRepository<BelowParStock, UUID>, BelowParStockRepositoryCustom {
+
+    List<BelowParStock> findByLocationId(UUID locationId);
+
+    long countByLocationIdIn(Collection<UUID> locationIds);
+
+    List<BelowParStock> findTop10ByOrderByLastUpdatedDesc();
+
+    List<BelowParStock> findTop10ByLocationIdInOrderByLastUpdatedDesc(Collection<UUID> locationIds);
+}
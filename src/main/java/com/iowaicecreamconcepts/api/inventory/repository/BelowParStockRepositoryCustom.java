@@ -0,0 +1,22 @@
+package com.iowaicecreamconcepts.api.inventory.repository;
+
+import java.util.Collection;
+import java.util.UUID;
+
+public interface BelowParStockRepositoryCustom {
+
+    /**
+     * Re-derives the below-par rows for the given items at one location from current_stock.
+     */
+    void refresh(UUID locationId, Collection<UUID> itemIds);
+
+    /**
+     * Re-derives the below-par rows for one item at every location, e.g. after its par level changed.
+     */
+    void refreshItem(UUID itemId);
+
+    /**
+     * Recomputes the whole table with one set-based statement.
+     */
+    int rebuild();
+}
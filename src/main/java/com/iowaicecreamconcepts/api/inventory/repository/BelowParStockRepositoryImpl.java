@@ -0,0 +1,54 @@
+package com.iowaicecreamconcepts.api.inventory.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class BelowParStockRepositoryImpl implements BelowParStockRepositoryCustom {
+
+    static final int REFRESH_CHUNK_SIZE = 500;
+
+    private static final String INSERT_BELOW_PAR = "INSERT INTO below_par_stock "
+            + "(id, item_id, location_id, quantity, par_stock_level, last_updated) "
+            + "SELECT cs.id, cs.item_id, cs.location_id, cs.quantity, ii.par_stock_level, cs.last_updated "
+            + "FROM current_stock cs JOIN inventory_items ii ON ii.id = cs.item_id "
+            + "WHERE cs.quantity < ii.par_stock_level";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void refresh(UUID locationId, Collection<UUID> itemIds) {
+        List<UUID> ids = new ArrayList<>(itemIds);
+        for (int from = 0; from < ids.size(); from += REFRESH_CHUNK_SIZE) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + REFRESH_CHUNK_SIZE, ids.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+
+            List<Object> params = new ArrayList<>(chunk.size() + 1);
+            params.add(locationId);
+            params.addAll(chunk);
+
+            jdbcTemplate.update("DELETE FROM below_par_stock WHERE location_id = ? AND item_id IN (" + placeholders + ")",
+                    params.toArray());
+            jdbcTemplate.update(INSERT_BELOW_PAR + " AND cs.location_id = ? AND cs.item_id IN (" + placeholders + ")",
+                    params.toArray());
+        }
+    }
+
+    @Override
+    public void refreshItem(UUID itemId) {
+        jdbcTemplate.update("DELETE FROM below_par_stock WHERE item_id = ?", itemId);
+        jdbcTemplate.update(INSERT_BELOW_PAR + " AND cs.item_id = ?", itemId);
+    }
+
+    @Override
+    public int rebuild() {
+        jdbcTemplate.update("DELETE FROM below_par_stock");
+        return jdbcTemplate.update(INSERT_BELOW_PAR);
+    }
+}
@@ -6,18 +6,23 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface CurrentStockRepository extends JpaRepository<CurrentStock, UUID> {
+public interface CurrentStockRepository extends JpaRepository<CurrentStock, UUID>, CurrentStockRepositoryCustom {
     
     Optional<CurrentStock> findByItemIdAndLocationId(UUID itemId, UUID locationId);
     
     List<CurrentStock> findByLocationId(UUID locationId);
+
+    List<CurrentStock> findByLocationIdIn(Collection<UUID> locationIds);
     
     List<CurrentStock> findByItemId(UUID itemId);
+
+    List<CurrentStock> findByLocationIdAndItemIdIn(UUID locationId, Collection<UUID> itemIds);
     
     @Query("SELECT cs FROM CurrentStock cs JOIN InventoryItem ii ON cs.itemId = ii.id WHERE cs.quantity < ii.parStockLevel")
     List<CurrentStock> findBelowParStock();
@@ -0,0 +1,22 @@
+package com.iowaicecreamconcepts.api.inventory.repository;
+
+import java.util.Map;
+import java.util.UUID;
+
+public interface CurrentStockRepositoryCustom {
+
+    /**
+     * Sets the on-hand quantity of every item in {@code quantitiesByItemId} at the location, creating
+     * missing rows, with one MERGE statement per chunk instead of a read and a write per item.
+     *
+     * @return number of rows inserted or updated
+     */
+    int upsertQuantities(UUID locationId, Map<UUID, Double> quantitiesByItemId);
+
+    /**
+     * Adds {@code delta} to the on-hand quantity in the database ({@code quantity = quantity + delta}),
+     * inserting the row with {@code delta} when it does not exist, in one MERGE on the caller's connection
+     * so concurrent writers never lose updates.
+     */
+    void applyDelta(UUID itemId, UUID locationId, double delta);
+}
@@ -0,0 +1,103 @@
+package com.iowaicecreamconcepts.api.inventory.repository;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * JDBC implementation of the bulk stock writes. Standard SQL MERGE is used because it runs unchanged
+ * on both H2 and PostgreSQL 15+, whereas {@code INSERT ... ON CONFLICT} is PostgreSQL only.
+ */
+public class CurrentStockRepositoryImpl implements CurrentStockRepositoryCustom {
+
+    // 4 bind parameters per row keeps each statement well under driver parameter limits
+    static final int MERGE_CHUNK_SIZE = 500;
+
+    // Explicit casts so neither database has to infer VALUES column types from bind parameters
+    private static final String ROW_TEMPLATE = "(CAST(? AS UUID), CAST(? AS UUID), CAST(? AS UUID), CAST(? AS DOUBLE PRECISION))";
+
+    private static final String APPLY_DELTA_SQL = "MERGE INTO current_stock cs "
+            + "USING (VALUES " + ROW_TEMPLATE + ") AS src (id, item_id, location_id, delta) "
+            + "ON cs.item_id = src.item_id AND cs.location_id = src.location_id "
+            + "WHEN MATCHED THEN UPDATE SET quantity = cs.quantity + src.delta, last_updated = ? "
+            + "WHEN NOT MATCHED THEN INSERT (id, item_id, location_id, quantity, last_updated) "
+            + "VALUES (src.id, src.item_id, src.location_id, src.delta, ?)";
+
+    // A concurrent first insert for the same key can still lose the race inside MERGE; one retry then matches it
+    private static final int APPLY_DELTA_ATTEMPTS = 2;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate savepoint;
+
+    public CurrentStockRepositoryImpl(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        // Nested runs on the caller's connection behind a savepoint, so a failed attempt does not abort the caller
+        this.savepoint = new TransactionTemplate(transactionManager);
+        this.savepoint.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+    }
+
+    @Override
+    public int upsertQuantities(UUID locationId, Map<UUID, Double> quantitiesByItemId) {
+        if (quantitiesByItemId.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Map.Entry<UUID, Double>> entries = new ArrayList<>(quantitiesByItemId.entrySet());
+        int updated = 0;
+        for (int from = 0; from < entries.size(); from += MERGE_CHUNK_SIZE) {
+            List<Map.Entry<UUID, Double>> chunk = entries.subList(from, Math.min(from + MERGE_CHUNK_SIZE, entries.size()));
+            updated += mergeChunk(locationId, chunk, now);
+        }
+        return updated;
+    }
+
+    @Override
+    public void applyDelta(UUID itemId, UUID locationId, double delta) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                savepoint.executeWithoutResult(status -> {
+                    LocalDateTime now = LocalDateTime.now();
+                    jdbcTemplate.update(APPLY_DELTA_SQL, UUID.randomUUID(), itemId, locationId, delta, now, now);
+                });
+                return;
+            } catch (DuplicateKeyException e) {
+                // Another transaction created the row between our MERGE's match and insert
+                if (attempt == APPLY_DELTA_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private int mergeChunk(UUID locationId, List<Map.Entry<UUID, Double>> chunk, LocalDateTime now) {
+        String rows = String.join(", ", Collections.nCopies(chunk.size(), ROW_TEMPLATE));
+        String sql = "MERGE INTO current_stock cs "
+                + "USING (VALUES " + rows + ") AS src (id, item_id, location_id, quantity) "
+                + "ON cs.item_id = src.item_id AND cs.location_id = src.location_id "
+                + "WHEN MATCHED THEN UPDATE SET quantity = src.quantity, last_updated = ? "
+                + "WHEN NOT MATCHED THEN INSERT (id, item_id, location_id, quantity, last_updated) "
+                + "VALUES (src.id, src.item_id, src.location_id, src.quantity, ?)";
+
+        List<Object> params = new ArrayList<>(chunk.size() * 4 + 2);
+        for (Map.Entry<UUID, Double> entry : chunk) {
+            params.add(UUID.randomUUID());
+            params.add(entry.getKey());
+            params.add(locationId);
+            params.add(entry.getValue());
+        }
+        params.add(now);
+        params.add(now);
+
+        return jdbcTemplate.update(sql, params.toArray());
+    }
+}
@@ -2,9 +2,13 @@ package com.iowaicecreamconcepts.api.inventory.repository;
 
 import com.iowaicecreamconcepts.api.inventory.model.InventoryItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
@@ -19,4 +23,7 @@ public interface InventoryItemRepository extends JpaRepository<InventoryItem, UU
     List<InventoryItem> findByDefaultLocationId(UUID locationId);
     
     boolean existsByName(String name);
+
+    @Query("SELECT i.id FROM InventoryItem i WHERE i.id IN :ids")
+    Set<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.iowaicecreamconcepts.api.inventory.repository;
+
+import com.iowaicecreamconcepts.api.inventory.model.CurrentStock;
+import com.iowaicecreamconcepts.api.inventory.model.StockMovement;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface StockMovementRepository extends JpaRepository<StockMovement, UUID> {
+
+    @Query("SELECT m FROM StockMovement m WHERE m.itemId = :itemId AND m.locationId = :locationId " +
+           "AND m.occurredAt > :after AND m.occurredAt <= :until ORDER BY m.occurredAt, m.id")
+    List<StockMovement> findTail(@Param("itemId") UUID itemId, @Param("locationId") UUID locationId,
+                                 @Param("after") LocalDateTime after, @Param("until") LocalDateTime until);
+
+    @Query("SELECT m FROM StockMovement m WHERE m.locationId = :locationId " +
+           "AND m.occurredAt > :after AND m.occurredAt <= :until ORDER BY m.occurredAt, m.id")
+    List<StockMovement> findLocationTail(@Param("locationId") UUID locationId,
+                                         @Param("after") LocalDateTime after, @Param("until") LocalDateTime until);
+
+    @Query("SELECT m FROM StockMovement m WHERE m.occurredAt > :after AND m.occurredAt <= :until ORDER BY m.occurredAt, m.id")
+    List<StockMovement> findBetween(@Param("after") LocalDateTime after, @Param("until") LocalDateTime until);
+
+    // Stock rows that predate the ledger and still need an opening balance
+    @Query("SELECT cs FROM CurrentStock cs WHERE NOT EXISTS " +
+           "(SELECT 1 FROM StockMovement m WHERE m.itemId = cs.itemId AND m.locationId = cs.locationId)")
+    List<CurrentStock> findStockWithoutMovements();
+}
@@ -0,0 +1,42 @@
+package com.iowaicecreamconcepts.api.inventory.repository;
+
+import com.iowaicecreamconcepts.api.inventory.model.StockSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface StockSnapshotRepository extends JpaRepository<StockSnapshot, UUID> {
+
+    @Query("SELECT MAX(s.takenAt) FROM StockSnapshot s")
+    Optional<LocalDateTime> findLatestTakenAt();
+
+    @Query("SELECT MAX(s.takenAt) FROM StockSnapshot s WHERE s.takenAt <= :at")
+    Optional<LocalDateTime> findLatestTakenAtOnOrBefore(@Param("at") LocalDateTime at);
+
+    Optional<StockSnapshot> findTopByItemIdAndLocationIdAndTakenAtLessThanEqualOrderByTakenAtDesc(
+            UUID itemId, UUID locationId, LocalDateTime at);
+
+    @Query("SELECT s FROM StockSnapshot s WHERE s.locationId = :locationId AND s.takenAt = " +
+           "(SELECT MAX(s2.takenAt) FROM StockSnapshot s2 WHERE s2.itemId = s.itemId " +
+           "AND s2.locationId = s.locationId AND s2.takenAt <= :at)")
+    List<StockSnapshot> findLatestByLocation(@Param("locationId") UUID locationId, @Param("at") LocalDateTime at);
+
+    /**
+     * Latest snapshot at or before {@code at} of every (item, location) pair drawn from the two id sets.
+     * Pairs outside the caller's key set can be returned and are for the caller to ignore.
+     */
+    @Query("SELECT s FROM StockSnapshot s WHERE s.itemId IN :itemIds AND s.locationId IN :locationIds AND s.takenAt = " +
+           "(SELECT MAX(s2.takenAt) FROM StockSnapshot s2 WHERE s2.itemId = s.itemId " +
+           "AND s2.locationId = s.locationId AND s2.takenAt <= :at)")
+    List<StockSnapshot> findLatestForItems(@Param("itemIds") Collection<UUID> itemIds,
+                                           @Param("locationIds") Collection<UUID> locationIds,
+                                           @Param("at") LocalDateTime at);
+}
@@ -0,0 +1,36 @@
+package com.iowaicecreamconcepts.api.inventory.service;
+
+import com.iowaicecreamconcepts.api.outbox.dto.StockEventPayload;
+import com.iowaicecreamconcepts.api.outbox.model.OutboxEvent;
+import com.iowaicecreamconcepts.api.outbox.service.OutboxProjection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Refreshes below-par rows for the items an event touched. The refresh re-reads current stock, so
+ * applying an event twice or out of order still converges.
+ */
+@Component
+@RequiredArgsConstructor
+public class BelowParStockProjection implements OutboxProjection {
+
+    private final BelowParStockService belowParStockService;
+
+    @Override
+    public String getName() {
+        return "below-par-stock";
+    }
+
+    @Override
+    public void apply(OutboxEvent event, StockEventPayload payload) {
+        // Waste without a batch has no location and does not move stock
+        if (event.getLocationId() != null && payload.getQuantities() != null) {
+            belowParStockService.stockChanged(event.getLocationId(), payload.getQuantities().keySet());
+        }
+    }
+
+    @Override
+    public void rebuild() {
+        belowParStockService.rebuild();
+    }
+}
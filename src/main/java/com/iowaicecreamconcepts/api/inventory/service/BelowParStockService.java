@@ -0,0 +1,53 @@
+package com.iowaicecreamconcepts.api.inventory.service;
+
+import com.iowaicecreamconcepts.api.inventory.model.BelowParStock;
+import com.iowaicecreamconcepts.api.inventory.model.CurrentStock;
+import com.iowaicecreamconcepts.api.inventory.repository.BelowParStockRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Keeps the below_par_stock table in step with current_stock so the below-par listing reads a small
+ * precomputed set instead of joining all stock to all items. Stock changes arrive through the outbox
+ * ({@link BelowParStockProjection}); par level edits call in directly. The table is rebuilt once at
+ * startup.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BelowParStockService {
+
+    private final BelowParStockRepository belowParStockRepository;
+
+    public List<CurrentStock> getBelowParStock(UUID locationId) {
+        List<BelowParStock> rows = locationId != null
+                ? belowParStockRepository.findByLocationId(locationId)
+                : belowParStockRepository.findAll();
+        return rows.stream().map(BelowParStock::toCurrentStock).toList();
+    }
+
+    public void stockChanged(UUID locationId, Collection<UUID> itemIds) {
+        if (!itemIds.isEmpty()) {
+            belowParStockRepository.refresh(locationId, itemIds);
+        }
+    }
+
+    public void parLevelChanged(UUID itemId) {
+        belowParStockRepository.refreshItem(itemId);
+    }
+
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        int rows = belowParStockRepository.rebuild();
+        log.info("Rebuilt below-par stock index with {} rows", rows);
+    }
+}
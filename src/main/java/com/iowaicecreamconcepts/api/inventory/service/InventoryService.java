@@ -1,20 +1,33 @@
 package com.iowaicecreamconcepts.api.inventory.service;
 
+import com.iowaicecreamconcepts.api.inventory.dto.UnitCostsChangedEvent;
 import com.iowaicecreamconcepts.api.inventory.model.InventoryItem;
 import com.iowaicecreamconcepts.api.inventory.repository.InventoryItemRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
 public class InventoryService {
 
     private final InventoryItemRepository repository;
+    private final BelowParStockService belowParStockService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public InventoryService(InventoryItemRepository repository) {
+    public InventoryService(InventoryItemRepository repository, BelowParStockService belowParStockService,
+                            ApplicationEventPublisher eventPublisher) {
         this.repository = repository;
+        this.belowParStockService = belowParStockService;
+        this.eventPublisher = eventPublisher;
     }
 
     public List<InventoryItem> getAllItems() {
@@ -32,9 +45,14 @@ public class InventoryService {
         return repository.save(item);
     }
 
+    @Transactional
     public InventoryItem updateItem(UUID id, InventoryItem updatedItem) {
         return repository.findById(id)
                 .map(item -> {
+                    boolean parChanged = !Objects.equals(item.getParStockLevel(), updatedItem.getParStockLevel());
+                    // The edit form does not send unitCost; only a supplied cost replaces the current one
+                    boolean costSupplied = updatedItem.getUnitCost() != null;
+                    boolean costChanged = costSupplied && !sameCost(item.getUnitCost(), updatedItem.getUnitCost());
                     item.setName(updatedItem.getName());
                     item.setCategory(updatedItem.getCategory());
                     item.setUnit(updatedItem.getUnit());
@@ -42,10 +60,49 @@ public class InventoryService {
                     item.setDefaultLocationId(updatedItem.getDefaultLocationId());
                     item.setSku(updatedItem.getSku());
                     item.setNotes(updatedItem.getNotes());
-                    return repository.save(item);
+                    if (costSupplied) {
+                        item.setUnitCost(updatedItem.getUnitCost());
+                    }
+                    InventoryItem saved = repository.saveAndFlush(item);
+                    if (parChanged) {
+                        belowParStockService.parLevelChanged(id);
+                    }
+                    if (costChanged) {
+                        eventPublisher.publishEvent(new UnitCostsChangedEvent(Set.of(id)));
+                    }
+                    return saved;
                 }).orElseThrow(() -> new RuntimeException("Item not found"));
     }
 
+    /**
+     * Reprices many items at once, e.g. from a supplier price list. Dependent recipe costs are
+     * recomputed once for the whole set rather than once per item.
+     */
+    @Transactional
+    public List<InventoryItem> updateUnitCosts(Map<UUID, BigDecimal> unitCostsByItemId) {
+        List<InventoryItem> items = repository.findAllById(unitCostsByItemId.keySet());
+        if (items.size() < unitCostsByItemId.size()) {
+            throw new RuntimeException("Item not found");
+        }
+
+        Set<UUID> changed = new HashSet<>();
+        for (InventoryItem item : items) {
+            BigDecimal unitCost = unitCostsByItemId.get(item.getId());
+            if (unitCost == null || unitCost.signum() < 0) {
+                throw new RuntimeException("Unit cost must be greater than or equal to 0");
+            }
+            if (!sameCost(item.getUnitCost(), unitCost)) {
+                item.setUnitCost(unitCost);
+                changed.add(item.getId());
+            }
+        }
+        List<InventoryItem> saved = repository.saveAllAndFlush(items);
+        if (!changed.isEmpty()) {
+            eventPublisher.publishEvent(new UnitCostsChangedEvent(changed));
+        }
+        return saved;
+    }
+
     public void deleteItem(UUID id) {
         InventoryItem item = repository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Item not found"));
@@ -60,4 +117,8 @@ public class InventoryService {
     public List<InventoryItem> getItemsByLocation(UUID locationId) {
         return repository.findByDefaultLocationId(locationId);
     }
-}
\ No newline at end of file
+
+    private static boolean sameCost(BigDecimal a, BigDecimal b) {
+        return a == null ? b == null : b != null && a.compareTo(b) == 0;
+    }
+}
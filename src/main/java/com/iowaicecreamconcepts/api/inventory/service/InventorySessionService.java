@@ -1,22 +1,42 @@
 package com.iowaicecreamconcepts.api.inventory.service;
 
+import com.iowaicecreamconcepts.api.common.metrics.OperationMetrics;
+import com.iowaicecreamconcepts.api.common.metrics.TimedOperation;
+import com.iowaicecreamconcepts.api.inventory.dto.SessionLineBatchResult;
+import com.iowaicecreamconcepts.api.inventory.dto.SessionLineBatchResult.LineResult;
 import com.iowaicecreamconcepts.api.inventory.model.*;
 import com.iowaicecreamconcepts.api.inventory.repository.*;
+import com.iowaicecreamconcepts.api.outbox.dto.StockEventPayload;
+import com.iowaicecreamconcepts.api.outbox.model.OutboxEvent;
+import com.iowaicecreamconcepts.api.outbox.service.OutboxService;
+import com.iowaicecreamconcepts.api.stream.dto.ChangeEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.UUID;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class InventorySessionService {
 
+    private static final String COUNTED_LINES = "inventory.session.lines.counted";
+
     private final InventorySessionRepository sessionRepository;
     private final InventorySessionLineRepository sessionLineRepository;
     private final CurrentStockRepository currentStockRepository;
+    private final StockLedgerService stockLedgerService;
+    private final InventoryItemRepository inventoryItemRepository;
+    private final OutboxService outboxService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OperationMetrics operationMetrics;
+
+    @Value("${app.inventory.maxBatchLines:2000}")
+    private int maxBatchLines;
 
     public InventorySession createSession(UUID locationId, UUID userId) {
         InventorySession session = InventorySession.builder()
@@ -40,9 +60,11 @@ public class InventorySessionService {
         return sessionLineRepository.findBySessionIdOrderByCreatedAt(sessionId);
     }
 
+    @TimedOperation("inventory.session.line.add")
     public InventorySessionLine addSessionLine(UUID sessionId, UUID itemId, Double count, String unit, String note, String photoUrl) {
         // Verify session exists and is in DRAFT status
         InventorySession session = getSession(sessionId);
+        operationMetrics.tagLocation(session.getLocationId());
         if (session.getStatus() != InventorySession.Status.DRAFT) {
             throw new RuntimeException("Cannot modify closed session");
         }
@@ -59,9 +81,86 @@ public class InventorySessionService {
         return sessionLineRepository.save(line);
     }
 
+    /**
+     * Adds many lines with one session check, one item lookup and batched inserts. Invalid lines are
+     * rejected individually; the valid ones are still saved.
+     */
     @Transactional
+    @TimedOperation("inventory.session.lines.add")
+    public SessionLineBatchResult addSessionLines(UUID sessionId, List<InventorySessionLine> lines) {
+        if (lines == null || lines.isEmpty()) {
+            throw new RuntimeException("No session lines provided");
+        }
+        if (lines.size() > maxBatchLines) {
+            throw new RuntimeException("Too many session lines, maximum is " + maxBatchLines);
+        }
+
+        InventorySession session = getSession(sessionId);
+        operationMetrics.tagLocation(session.getLocationId());
+        if (session.getStatus() != InventorySession.Status.DRAFT) {
+            throw new RuntimeException("Cannot modify closed session");
+        }
+
+        Set<UUID> requestedItemIds = lines.stream()
+                .map(InventorySessionLine::getItemId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<UUID> existingItemIds = requestedItemIds.isEmpty()
+                ? Set.of()
+                : inventoryItemRepository.findExistingIds(requestedItemIds);
+
+        LineResult[] results = new LineResult[lines.size()];
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        List<InventorySessionLine> accepted = new ArrayList<>();
+
+        for (int i = 0; i < lines.size(); i++) {
+            InventorySessionLine line = lines.get(i);
+            String error = validateLine(line, existingItemIds);
+            if (error != null) {
+                results[i] = LineResult.rejected(i, error);
+                continue;
+            }
+
+            line.setId(null);
+            line.setSessionId(sessionId);
+            acceptedIndexes.add(i);
+            accepted.add(line);
+        }
+
+        // Ids are generated client-side, so Hibernate groups these into JDBC batches of hibernate.jdbc.batch_size
+        List<InventorySessionLine> saved = sessionLineRepository.saveAll(accepted);
+        for (int i = 0; i < saved.size(); i++) {
+            int index = acceptedIndexes.get(i);
+            results[index] = LineResult.created(index, saved.get(i).getId());
+        }
+
+        return new SessionLineBatchResult(sessionId, saved.size(), lines.size() - saved.size(), Arrays.asList(results));
+    }
+
+    private String validateLine(InventorySessionLine line, Set<UUID> existingItemIds) {
+        if (line == null) {
+            return "Line is empty";
+        }
+        if (line.getItemId() == null) {
+            return "Item is required";
+        }
+        if (!existingItemIds.contains(line.getItemId())) {
+            return "Item not found";
+        }
+        if (line.getCount() == null || line.getCount() < 0) {
+            return "Count must be zero or positive";
+        }
+        if (line.getUnit() == null || line.getUnit().isBlank()) {
+            return "Unit is required";
+        }
+        return null;
+    }
+
+    @Transactional
+    @TimedOperation("inventory.session.close")
     public InventorySession closeSession(UUID sessionId, UUID userId) {
         InventorySession session = getSession(sessionId);
+        operationMetrics.tagLocation(session.getLocationId());
         
         if (session.getStatus() != InventorySession.Status.DRAFT) {
             throw new RuntimeException("Session is already closed");
@@ -80,23 +179,25 @@ public class InventorySessionService {
         InventorySession closedSession = sessionRepository.save(session);
 
         // Update current stock for each line item
-        updateCurrentStockFromSession(session.getLocationId(), lines);
+        Map<UUID, Double> counts = updateCurrentStockFromSession(session.getLocationId(), lines);
+        stockLedgerService.recordCounts(session.getLocationId(), counts, sessionId);
+
+        outboxService.append(OutboxEvent.Type.SESSION_CLOSED, sessionId, session.getLocationId(),
+                StockEventPayload.builder().quantities(counts).build());
+        eventPublisher.publishEvent(ChangeEvent.stock(session.getLocationId(), counts.keySet()));
 
+        // Added once the transaction commits, so rolled back closes are not counted
+        operationMetrics.count(COUNTED_LINES, session.getLocationId(), lines.size());
         return closedSession;
     }
 
-    private void updateCurrentStockFromSession(UUID locationId, List<InventorySessionLine> lines) {
+    private Map<UUID, Double> updateCurrentStockFromSession(UUID locationId, List<InventorySessionLine> lines) {
+        // Lines are ordered by creation, so a later recount of the same item wins
+        Map<UUID, Double> quantitiesByItemId = new LinkedHashMap<>();
         for (InventorySessionLine line : lines) {
-            CurrentStock currentStock = currentStockRepository
-                    .findByItemIdAndLocationId(line.getItemId(), locationId)
-                    .orElse(CurrentStock.builder()
-                            .itemId(line.getItemId())
-                            .locationId(locationId)
-                            .quantity(0.0)
-                            .build());
-
-            currentStock.setQuantity(line.getCount());
-            currentStockRepository.save(currentStock);
+            quantitiesByItemId.put(line.getItemId(), line.getCount());
         }
+        currentStockRepository.upsertQuantities(locationId, quantitiesByItemId);
+        return quantitiesByItemId;
     }
 }
\ No newline at end of file
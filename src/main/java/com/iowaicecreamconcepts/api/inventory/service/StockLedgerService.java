@@ -0,0 +1,214 @@
+package com.iowaicecreamconcepts.api.inventory.service;
+
+import com.iowaicecreamconcepts.api.inventory.model.CurrentStock;
+import com.iowaicecreamconcepts.api.inventory.model.StockMovement;
+import com.iowaicecreamconcepts.api.inventory.model.StockSnapshot;
+import com.iowaicecreamconcepts.api.inventory.repository.StockMovementRepository;
+import com.iowaicecreamconcepts.api.inventory.repository.StockSnapshotRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Append-only stock ledger. Every change to current_stock is recorded as a {@link StockMovement} in
+ * the same transaction, so current_stock is only a cached latest balance of the ledger.
+ *
+ * <p>Point-in-time reads start from the latest {@link StockSnapshot} and fold the movements after it.
+ * Snapshot runs cover contiguous time windows and snapshot every item that moved in the window, so the
+ * tail to fold never reaches further back than the last run before the requested time.
+ */
+@Slf4j
+@Service
+public class StockLedgerService {
+
+    // Lower bound for reads before the first snapshot run
+    static final LocalDateTime LEDGER_START = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    // Item ids per previous-snapshot lookup, keeping each IN list well under driver parameter limits
+    static final int SNAPSHOT_LOOKUP_CHUNK_SIZE = 1000;
+
+    private final StockMovementRepository movementRepository;
+    private final StockSnapshotRepository snapshotRepository;
+    private final long snapshotSettleMs;
+
+    public StockLedgerService(StockMovementRepository movementRepository,
+                              StockSnapshotRepository snapshotRepository,
+                              @Value("${app.stock.snapshotSettleMs:300000}") long snapshotSettleMs) {
+        this.movementRepository = movementRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.snapshotSettleMs = snapshotSettleMs;
+    }
+
+    public void recordDelta(UUID itemId, UUID locationId, StockMovement.Type type, double delta, UUID sourceId) {
+        movementRepository.save(StockMovement.builder()
+                .itemId(itemId)
+                .locationId(locationId)
+                .type(type)
+                .quantity(delta)
+                .sourceId(sourceId)
+                .build());
+    }
+
+    public void recordCounts(UUID locationId, Map<UUID, Double> countsByItemId, UUID sessionId) {
+        LocalDateTime now = LocalDateTime.now();
+        List<StockMovement> movements = new ArrayList<>(countsByItemId.size());
+        countsByItemId.forEach((itemId, count) -> movements.add(StockMovement.builder()
+                .itemId(itemId)
+                .locationId(locationId)
+                .type(StockMovement.Type.COUNTED)
+                .quantity(count)
+                .sourceId(sessionId)
+                .occurredAt(now)
+                .build()));
+        movementRepository.saveAll(movements);
+    }
+
+    /**
+     * Quantity of one item at a location at the given time: one snapshot plus the movements after it.
+     */
+    @Transactional(readOnly = true)
+    public double quantityAt(UUID itemId, UUID locationId, LocalDateTime at) {
+        StockSnapshot snapshot = snapshotRepository
+                .findTopByItemIdAndLocationIdAndTakenAtLessThanEqualOrderByTakenAtDesc(itemId, locationId, at)
+                .orElse(null);
+        double quantity = snapshot != null ? snapshot.getQuantity() : 0.0;
+        LocalDateTime after = snapshot != null ? snapshot.getTakenAt() : LEDGER_START;
+
+        for (StockMovement movement : movementRepository.findTail(itemId, locationId, after, at)) {
+            quantity = movement.applyTo(quantity);
+        }
+        return quantity;
+    }
+
+    /**
+     * Stock of every item at a location at the given time, in the same shape as current stock.
+     */
+    @Transactional(readOnly = true)
+    public List<CurrentStock> stockAt(UUID locationId, LocalDateTime at) {
+        LocalDateTime lastRun = snapshotRepository.findLatestTakenAtOnOrBefore(at).orElse(LEDGER_START);
+
+        Map<UUID, Double> quantities = new LinkedHashMap<>();
+        for (StockSnapshot snapshot : snapshotRepository.findLatestByLocation(locationId, at)) {
+            quantities.put(snapshot.getItemId(), snapshot.getQuantity());
+        }
+        for (StockMovement movement : movementRepository.findLocationTail(locationId, lastRun, at)) {
+            quantities.put(movement.getItemId(), movement.applyTo(quantities.getOrDefault(movement.getItemId(), 0.0)));
+        }
+
+        List<CurrentStock> stock = new ArrayList<>(quantities.size());
+        quantities.forEach((itemId, quantity) -> stock.add(CurrentStock.builder()
+                .itemId(itemId)
+                .locationId(locationId)
+                .quantity(quantity)
+                .lastUpdated(at)
+                .build()));
+        return stock;
+    }
+
+    /**
+     * Folds the movements since the previous run into new snapshots. The window ends
+     * {@code app.stock.snapshotSettleMs} in the past so transactions still in flight are not missed.
+     */
+    @Scheduled(fixedDelayString = "${app.stock.snapshotIntervalMs:3600000}", initialDelayString = "${app.stock.snapshotIntervalMs:3600000}")
+    @Transactional
+    public int takeSnapshots() {
+        LocalDateTime until = LocalDateTime.now().minusNanos(snapshotSettleMs * 1_000_000);
+        LocalDateTime after = snapshotRepository.findLatestTakenAt().orElse(LEDGER_START);
+        if (!until.isAfter(after)) {
+            return 0;
+        }
+        return takeSnapshots(after, until);
+    }
+
+    int takeSnapshots(LocalDateTime after, LocalDateTime until) {
+        Map<StockKey, List<StockMovement>> movementsByKey = new LinkedHashMap<>();
+        for (StockMovement movement : movementRepository.findBetween(after, until)) {
+            movementsByKey.computeIfAbsent(new StockKey(movement.getItemId(), movement.getLocationId()), key -> new ArrayList<>())
+                    .add(movement);
+        }
+
+        Map<StockKey, Double> previous = previousQuantities(movementsByKey.keySet(), after);
+
+        List<StockSnapshot> snapshots = new ArrayList<>(movementsByKey.size());
+        movementsByKey.forEach((key, movements) -> {
+            double quantity = previous.getOrDefault(key, 0.0);
+            for (StockMovement movement : movements) {
+                quantity = movement.applyTo(quantity);
+            }
+            snapshots.add(StockSnapshot.builder()
+                    .itemId(key.itemId())
+                    .locationId(key.locationId())
+                    .quantity(quantity)
+                    .takenAt(until)
+                    .build());
+        });
+        snapshotRepository.saveAll(snapshots);
+
+        log.info("Took {} stock snapshots up to {}", snapshots.size(), until);
+        return snapshots.size();
+    }
+
+    /**
+     * Quantities of the latest snapshots at or before {@code at} for the given keys, loaded in chunks of
+     * item ids rather than with one query per key.
+     */
+    private Map<StockKey, Double> previousQuantities(Set<StockKey> keys, LocalDateTime at) {
+        List<UUID> itemIds = keys.stream().map(StockKey::itemId).distinct().toList();
+        Set<UUID> locationIds = keys.stream().map(StockKey::locationId).collect(Collectors.toSet());
+
+        Map<StockKey, Double> quantities = new HashMap<>();
+        for (int from = 0; from < itemIds.size(); from += SNAPSHOT_LOOKUP_CHUNK_SIZE) {
+            List<UUID> chunk = itemIds.subList(from, Math.min(from + SNAPSHOT_LOOKUP_CHUNK_SIZE, itemIds.size()));
+            for (StockSnapshot snapshot : snapshotRepository.findLatestForItems(chunk, locationIds, at)) {
+                StockKey key = new StockKey(snapshot.getItemId(), snapshot.getLocationId());
+                if (keys.contains(key)) {
+                    quantities.put(key, snapshot.getQuantity());
+                }
+            }
+        }
+        return quantities;
+    }
+
+    /**
+     * Records an opening balance for stock that existed before the ledger did.
+     */
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void recordOpeningBalances() {
+        List<CurrentStock> unrecorded = movementRepository.findStockWithoutMovements();
+        if (unrecorded.isEmpty()) {
+            return;
+        }
+
+        // A balance must not land inside a window that has already been snapshotted
+        LocalDateTime lastRun = snapshotRepository.findLatestTakenAt().orElse(LEDGER_START);
+        LocalDateTime now = LocalDateTime.now();
+        movementRepository.saveAll(unrecorded.stream()
+                .map(stock -> StockMovement.builder()
+                        .itemId(stock.getItemId())
+                        .locationId(stock.getLocationId())
+                        .type(StockMovement.Type.OPENING)
+                        .quantity(stock.getQuantity())
+                        .occurredAt(stock.getLastUpdated().isAfter(lastRun) ? stock.getLastUpdated() : now)
+                        .build())
+                .toList());
+        log.info("Recorded opening ledger balances for {} stock rows", unrecorded.size());
+    }
+
+    private record StockKey(UUID itemId, UUID locationId) {
+    }
+}
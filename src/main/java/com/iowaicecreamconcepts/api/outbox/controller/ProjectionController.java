@@ -0,0 +1,29 @@
+package com.iowaicecreamconcepts.api.outbox.controller;
+
+import com.iowaicecreamconcepts.api.outbox.service.OutboxDispatcher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/projections")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class ProjectionController {
+
+    private final OutboxDispatcher outboxDispatcher;
+
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getStatus() {
+        return ResponseEntity.ok(outboxDispatcher.status());
+    }
+
+    @PostMapping("/{name}/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuild(@PathVariable String name) {
+        outboxDispatcher.rebuild(name);
+        return ResponseEntity.ok(Map.of("projection", name, "rebuilt", true));
+    }
+}
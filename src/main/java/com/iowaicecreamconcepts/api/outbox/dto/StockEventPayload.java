@@ -0,0 +1,30 @@
+package com.iowaicecreamconcepts.api.outbox.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Body of an outbox event. {@code quantities} holds the amount the event is about per item: made for
+ * BATCH_CREATED, removed for BATCH_RUN_OUT, wasted for WASTE_RECORDED and counted for SESSION_CLOSED.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockEventPayload {
+
+    private Map<UUID, Double> quantities;
+
+    private String unit;
+
+    // WASTE_RECORDED only
+    private String reason;
+    private UUID batchId;
+    private LocalDateTime recordedAt;
+}
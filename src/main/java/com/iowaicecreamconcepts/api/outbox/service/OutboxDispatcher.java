@@ -0,0 +1,146 @@
+package com.iowaicecreamconcepts.api.outbox.service;
+
+import com.iowaicecreamconcepts.api.outbox.dto.StockEventPayload;
+import com.iowaicecreamconcepts.api.outbox.model.OutboxEvent;
+import com.iowaicecreamconcepts.api.outbox.repository.OutboxEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Applies pending outbox events to the registered projections in id order.
+ *
+ * <p>A batch is applied in one transaction. If it fails, its events are retried one per transaction so
+ * a single bad event cannot hold back the rest; an event that keeps failing is parked after
+ * {@code app.outbox.maxAttempts} and reported by {@link #status()}.
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxService outboxService;
+    private final Map<String, OutboxProjection> projections = new LinkedHashMap<>();
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final int retentionDays;
+
+    // Dispatch and rebuild must not interleave within this instance
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+                            OutboxService outboxService,
+                            List<OutboxProjection> projections,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${app.outbox.batchSize:100}") int batchSize,
+                            @Value("${app.outbox.maxAttempts:5}") int maxAttempts,
+                            @Value("${app.outbox.retentionDays:30}") int retentionDays) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxService = outboxService;
+        projections.forEach(projection -> this.projections.put(projection.getName(), projection));
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retentionDays = retentionDays;
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.pollMs:500}")
+    public void dispatchPending() {
+        lock.lock();
+        try {
+            int dispatched;
+            do {
+                dispatched = dispatchBatch();
+            } while (dispatched == batchSize);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Scheduled(cron = "${app.outbox.purgeCron:0 30 3 * * *}")
+    public void purgeProcessed() {
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxEventRepository.deleteProcessedBefore(LocalDateTime.now().minusDays(retentionDays)));
+        log.info("Purged {} processed outbox events older than {} days", deleted, retentionDays);
+    }
+
+    /**
+     * Rebuilds one projection from its source tables in a single transaction. It holds the dispatch
+     * lock throughout, so dispatching on this instance stalls until the rebuild commits.
+     */
+    public void rebuild(String projectionName) {
+        OutboxProjection projection = projections.get(projectionName);
+        if (projection == null) {
+            throw new RuntimeException("Unknown projection: " + projectionName);
+        }
+
+        lock.lock();
+        try {
+            transactionTemplate.executeWithoutResult(status -> projection.rebuild());
+            log.info("Rebuilt projection {} from source tables", projectionName);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("projections", List.copyOf(projections.keySet()));
+        status.put("pending", outboxEventRepository.countByProcessedAtIsNull());
+        status.put("failed", outboxEventRepository.countFailed(maxAttempts));
+        return status;
+    }
+
+    int dispatchBatch() {
+        List<Long> ids = outboxEventRepository.findPendingIds(maxAttempts, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> applyAll(outboxEventRepository.findPendingForUpdate(ids)));
+        } catch (RuntimeException e) {
+            log.warn("Outbox batch of {} events failed, retrying individually", ids.size(), e);
+            ids.forEach(this::dispatchOne);
+        }
+        return ids.size();
+    }
+
+    private void dispatchOne(Long id) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> applyAll(outboxEventRepository.findPendingForUpdate(List.of(id))));
+        } catch (RuntimeException e) {
+            log.warn("Outbox event {} failed", id, e);
+            transactionTemplate.executeWithoutResult(status -> outboxEventRepository.findById(id).ifPresent(event -> {
+                event.setAttempts(event.getAttempts() + 1);
+                event.setLastError(abbreviate(String.valueOf(e.getMessage())));
+            }));
+        }
+    }
+
+    private void applyAll(List<OutboxEvent> events) {
+        LocalDateTime now = LocalDateTime.now();
+        for (OutboxEvent event : events) {
+            StockEventPayload payload = outboxService.readPayload(event);
+            for (OutboxProjection projection : projections.values()) {
+                projection.apply(event, payload);
+            }
+            event.setProcessedAt(now);
+        }
+    }
+
+    private static String abbreviate(String message) {
+        return message.length() <= 1000 ? message : message.substring(0, 1000);
+    }
+}
@@ -0,0 +1,21 @@
+package com.iowaicecreamconcepts.api.outbox.service;
+
+import com.iowaicecreamconcepts.api.outbox.dto.StockEventPayload;
+import com.iowaicecreamconcepts.api.outbox.model.OutboxEvent;
+
+/**
+ * A read model fed from the outbox. {@link #apply} runs in the dispatcher's transaction together with
+ * marking the event processed, so each event is applied once unless the transaction rolls back.
+ */
+public interface OutboxProjection {
+
+    String getName();
+
+    void apply(OutboxEvent event, StockEventPayload payload);
+
+    /**
+     * Replaces the projection with state recomputed from its source tables, which also covers history
+     * older than the outbox retention. Events still pending are left to the dispatch.
+     */
+    void rebuild();
+}
@@ -0,0 +1,46 @@
+package com.iowaicecreamconcepts.api.outbox.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.iowaicecreamconcepts.api.outbox.dto.StockEventPayload;
+import com.iowaicecreamconcepts.api.outbox.model.OutboxEvent;
+import com.iowaicecreamconcepts.api.outbox.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Appends an event to the caller's transaction; it is only dispatched if that transaction commits.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public OutboxEvent append(OutboxEvent.Type type, UUID aggregateId, UUID locationId, StockEventPayload payload) {
+        try {
+            return outboxEventRepository.save(OutboxEvent.builder()
+                    .type(type)
+                    .aggregateId(aggregateId)
+                    .locationId(locationId)
+                    .payload(objectMapper.writeValueAsString(payload))
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize outbox event", e);
+        }
+    }
+
+    public StockEventPayload readPayload(OutboxEvent event) {
+        try {
+            return objectMapper.readValue(event.getPayload(), StockEventPayload.class);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to read outbox event " + event.getId(), e);
+        }
+    }
+}
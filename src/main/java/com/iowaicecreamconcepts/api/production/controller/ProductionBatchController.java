@@ -1,12 +1,14 @@
 package com.iowaicecreamconcepts.api.production.controller;
 
+import com.iowaicecreamconcepts.api.common.dto.CursorPage;
 import com.iowaicecreamconcepts.api.production.dto.*;
 import com.iowaicecreamconcepts.api.production.model.ProductionBatch;
 import com.iowaicecreamconcepts.api.production.service.ProductionBatchService;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @RestController
@@ -26,7 +28,22 @@ public class ProductionBatchController {
     }
 
     @GetMapping
-    public List<ProductionBatch> listAll(@RequestParam(required = false) String status) {
-        return service.listAll();
+    public CursorPage<ProductionBatch> listAll(
+            @RequestParam(required = false) ProductionBatch.Status status,
+            @RequestParam(required = false) UUID productItemId,
+            @RequestParam(required = false) UUID storageLocationId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+
+        BatchSearchCriteria criteria = BatchSearchCriteria.builder()
+                .status(status)
+                .productItemId(productItemId)
+                .storageLocationId(storageLocationId)
+                .from(from)
+                .to(to)
+                .build();
+        return service.listBatches(criteria, cursor, limit);
     }
 }
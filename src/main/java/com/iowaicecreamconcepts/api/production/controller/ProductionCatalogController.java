@@ -0,0 +1,42 @@
+package com.iowaicecreamconcepts.api.production.controller;
+
+import com.iowaicecreamconcepts.api.production.dto.ProductionItemView;
+import com.iowaicecreamconcepts.api.production.dto.RecipeView;
+import com.iowaicecreamconcepts.api.production.service.ProductionCatalogService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/production")
+@RequiredArgsConstructor
+@PreAuthorize("hasPermission(null, 'production:batch:r')")
+@SecurityRequirement(name = "Bearer Authentication")
+public class ProductionCatalogController {
+
+    private final ProductionCatalogService productionCatalogService;
+
+    @GetMapping("/recipes")
+    @Operation(summary = "List active recipes with their ingredients")
+    public ResponseEntity<List<RecipeView>> getRecipes() {
+        return ResponseEntity.ok(productionCatalogService.getRecipes());
+    }
+
+    @GetMapping("/recipes/{id}")
+    @Operation(summary = "Get a recipe with its ingredients")
+    public ResponseEntity<RecipeView> getRecipe(@PathVariable UUID id) {
+        return ResponseEntity.ok(productionCatalogService.getRecipe(id));
+    }
+
+    @GetMapping("/items")
+    @Operation(summary = "List active products with a summary of their recipe")
+    public ResponseEntity<List<ProductionItemView>> getProductionItems() {
+        return ResponseEntity.ok(productionCatalogService.getProductionItems());
+    }
+}
@@ -1,8 +1,11 @@
 package com.iowaicecreamconcepts.api.production.controller;
 
+import com.iowaicecreamconcepts.api.production.dto.WasteReportRow;
 import com.iowaicecreamconcepts.api.production.model.ProductionBatch;
 import com.iowaicecreamconcepts.api.production.model.WasteEvent;
 import com.iowaicecreamconcepts.api.production.service.ProductionService;
+import com.iowaicecreamconcepts.api.production.service.WasteExportService;
+import com.iowaicecreamconcepts.api.production.service.WasteReportService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -16,9 +19,16 @@ import jakarta.validation.Valid;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 
@@ -29,6 +39,8 @@ import java.util.UUID;
 public class ProductionController {
 
     private final ProductionService productionService;
+    private final WasteExportService wasteExportService;
+    private final WasteReportService wasteReportService;
 
     @PostMapping("/batches")
     @Operation(
@@ -335,6 +347,91 @@ public class ProductionController {
         }
     }
 
+    @GetMapping("/waste/report")
+    @Operation(
+        summary = "Get waste report",
+        description = "Waste quantity, event count and cost from the daily and monthly rollups, grouped by reason, item, location, day or month. " +
+                     "Covers [from, to); defaults to the last 90 days including today."
+    )
+    @SecurityRequirement(name = "Bearer Authentication")
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Waste report generated successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = WasteReportRow.class, type = "array")
+            )
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Authentication required. JWT token missing or invalid."
+        )
+    })
+    public ResponseEntity<List<WasteReportRow>> getWasteReport(
+            @Parameter(description = "First day of the report", example = "2024-01-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Day after the last day of the report", example = "2024-04-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Limit the report to one location")
+            @RequestParam(required = false) UUID locationId,
+            @Parameter(description = "How to group the report")
+            @RequestParam(defaultValue = "REASON") WasteReportRow.GroupBy groupBy) {
+
+        return ResponseEntity.ok(wasteReportService.getReport(from, to, locationId, groupBy));
+    }
+
+    @GetMapping("/waste/export")
+    @Operation(
+        summary = "Export waste events",
+        description = "Stream every waste event recorded in [from, to) as NDJSON (default) or CSV. " +
+                     "Rows are written as they are read from the database, so exports of any size are supported."
+    )
+    @SecurityRequirement(name = "Bearer Authentication")
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Waste events streamed successfully",
+            content = {
+                @Content(mediaType = "application/x-ndjson"),
+                @Content(mediaType = "text/csv")
+            }
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Unknown format, or the range start is not before its end"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Authentication required. JWT token missing or invalid."
+        )
+    })
+    public ResponseEntity<StreamingResponseBody> exportWasteEvents(
+            @Parameter(description = "Start of the export range (inclusive)", example = "2025-01-01T00:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "End of the export range (exclusive)", example = "2026-01-01T00:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Output format: ndjson or csv", example = "ndjson")
+            @RequestParam(defaultValue = "ndjson") String format) {
+
+        // Validated up front: once the body starts streaming the 200 and headers are already committed
+        WasteExportService.Format exportFormat = Arrays.stream(WasteExportService.Format.values())
+                .filter(candidate -> candidate.name().equalsIgnoreCase(format))
+                .findFirst()
+                .orElse(null);
+        if (exportFormat == null || !from.isBefore(to)) {
+            return ResponseEntity.badRequest().build();
+        }
+        boolean csv = exportFormat == WasteExportService.Format.CSV;
+        String filename = "waste-events." + (csv ? "csv" : "ndjson");
+
+        StreamingResponseBody body = out -> wasteExportService.export(from, to, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv") : new MediaType("application", "x-ndjson"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(body);
+    }
+
     @PostMapping("/waste")
     @Operation(
         summary = "Record general waste",
@@ -1,6 +1,8 @@
 package com.iowaicecreamconcepts.api.production.controller;
 
+import com.iowaicecreamconcepts.api.production.dto.ProductionPlan;
 import com.iowaicecreamconcepts.api.production.model.ProductionRequest;
+import com.iowaicecreamconcepts.api.production.service.ProductionPlanningService;
 import com.iowaicecreamconcepts.api.production.service.ProductionRequestService;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +20,7 @@ import java.util.UUID;
 public class ProductionRequestController {
 
     private final ProductionRequestService productionRequestService;
+    private final ProductionPlanningService productionPlanningService;
 
     @PostMapping
     public ResponseEntity<ProductionRequest> createRequest(@RequestBody CreateProductionRequestRequest request) {
@@ -55,6 +58,18 @@ public class ProductionRequestController {
         return ResponseEntity.ok(productionRequestService.getOverdueRequests());
     }
 
+    @GetMapping("/next")
+    public ResponseEntity<List<ProductionRequest>> getNextJobs(
+            @RequestParam UUID locationId,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(productionRequestService.getNextJobs(locationId, limit));
+    }
+
+    @GetMapping("/plan")
+    public ResponseEntity<ProductionPlan> getPlan(@RequestParam(required = false) UUID locationId) {
+        return ResponseEntity.ok(productionPlanningService.plan(locationId));
+    }
+
     @GetMapping("/{requestId}")
     public ResponseEntity<ProductionRequest> getRequest(@PathVariable UUID requestId) {
         return ResponseEntity.ok(productionRequestService.getRequest(requestId));
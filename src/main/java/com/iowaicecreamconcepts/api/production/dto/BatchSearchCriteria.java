@@ -0,0 +1,27 @@
+package com.iowaicecreamconcepts.api.production.dto;
+
+import com.iowaicecreamconcepts.api.production.model.ProductionBatch;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Optional filters for listing production batches. {@code from} is inclusive and {@code to} exclusive,
+ * both on the batch creation time.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchSearchCriteria {
+
+    private ProductionBatch.Status status;
+    private UUID productItemId;
+    private UUID storageLocationId;
+    private LocalDateTime from;
+    private LocalDateTime to;
+}
@@ -0,0 +1,24 @@
+package com.iowaicecreamconcepts.api.production.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Cost columns of one recipe ingredient line, as read and written by the recipe cost engine.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IngredientCost {
+
+    private UUID id;
+    private UUID recipeId;
+    private UUID ingredientItemId;
+    private double quantity;
+    private BigDecimal unitCost;
+    private BigDecimal totalCost;
+}
@@ -0,0 +1,27 @@
+package com.iowaicecreamconcepts.api.production.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * An ingredient that open requests at a location need more of than is on hand. {@code neededBy} is the
+ * deadline of the earliest request that could not be covered from stock.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IngredientShortage {
+
+    private UUID locationId;
+    private UUID itemId;
+    private String itemName;
+    private String unit;
+    private double required;
+    private double onHand;
+    private double shortage;
+    private LocalDateTime neededBy;
+}
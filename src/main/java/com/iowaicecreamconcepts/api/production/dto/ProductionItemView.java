@@ -0,0 +1,31 @@
+package com.iowaicecreamconcepts.api.production.dto;
+
+import com.iowaicecreamconcepts.api.production.model.ProductionItem;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Read model of a product with a summary of its recipe, loaded in a single query.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductionItemView {
+
+    private UUID id;
+    private String name;
+    private ProductionItem.Category category;
+    private String unit;
+    private Double parStockLevel;
+    private Double restockLevel;
+    private BigDecimal productionCost;
+    private BigDecimal sellingPrice;
+    private String sku;
+    private UUID recipeId;
+    private String recipeName;
+    private BigDecimal recipeCostPerUnit;
+}
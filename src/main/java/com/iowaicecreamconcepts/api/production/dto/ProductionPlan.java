@@ -0,0 +1,24 @@
+package com.iowaicecreamconcepts.api.production.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Ingredient shortages for the open and in-progress production requests, ordered by when they bite.
+ * Requests for products without an active recipe cannot be exploded and are listed separately.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductionPlan {
+
+    private LocalDateTime generatedAt;
+    private int requestCount;
+    private List<IngredientShortage> shortages;
+    private List<UUID> unplannedRequestIds;
+}
@@ -0,0 +1,23 @@
+package com.iowaicecreamconcepts.api.production.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Cost columns of one recipe, as read and written by the recipe cost engine.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecipeCost {
+
+    private UUID recipeId;
+    private UUID productItemId;
+    private double yieldQuantity;
+    private BigDecimal totalCost;
+    private BigDecimal costPerUnit;
+}
@@ -0,0 +1,29 @@
+package com.iowaicecreamconcepts.api.production.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * One ingredient line of a {@link RecipeView}. The ingredient is either an inventory item or another
+ * recipe's product item; {@code ingredientName} is taken from whichever it is.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecipeIngredientView {
+
+    @JsonIgnore
+    private UUID recipeId;
+    private UUID id;
+    private UUID ingredientItemId;
+    private String ingredientName;
+    private Double quantity;
+    private String unit;
+    private BigDecimal unitCost;
+    private BigDecimal totalCost;
+}
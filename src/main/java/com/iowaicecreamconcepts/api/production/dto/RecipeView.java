@@ -0,0 +1,39 @@
+package com.iowaicecreamconcepts.api.production.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Read model of a recipe with its ingredient lines, built from flat projections instead of the
+ * lazily loaded entity graph.
+ */
+@Data
+@NoArgsConstructor
+public class RecipeView {
+
+    private UUID id;
+    private String name;
+    private UUID productItemId;
+    private Double yieldQuantity;
+    private String yieldUnit;
+    private BigDecimal totalCost;
+    private BigDecimal costPerUnit;
+    private List<RecipeIngredientView> ingredients = new ArrayList<>();
+
+    // Used by the JPQL constructor expression
+    public RecipeView(UUID id, String name, UUID productItemId, Double yieldQuantity, String yieldUnit,
+                      BigDecimal totalCost, BigDecimal costPerUnit) {
+        this.id = id;
+        this.name = name;
+        this.productItemId = productItemId;
+        this.yieldQuantity = yieldQuantity;
+        this.yieldUnit = yieldUnit;
+        this.totalCost = totalCost;
+        this.costPerUnit = costPerUnit;
+    }
+}
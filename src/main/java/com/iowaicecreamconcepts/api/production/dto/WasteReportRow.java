@@ -0,0 +1,30 @@
+package com.iowaicecreamconcepts.api.production.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * One group of a waste report. {@code group} is the reason, item id, location id, day or month,
+ * depending on how the report was grouped; it is null for waste without a location.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WasteReportRow {
+
+    private String group;
+    private long eventCount;
+    private double quantity;
+    private BigDecimal totalCost;
+
+    public enum GroupBy {
+        REASON,
+        ITEM,
+        LOCATION,
+        DAY,
+        MONTH
+    }
+}
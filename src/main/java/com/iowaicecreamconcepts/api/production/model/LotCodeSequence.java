@@ -0,0 +1,24 @@
+package com.iowaicecreamconcepts.api.production.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Per-day lot code counter. {@code nextValue} is the first sequence number not yet handed out to
+ * any application instance.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "lot_code_sequences")
+public class LotCodeSequence {
+
+    @Id
+    @Column(length = 8)
+    private String datePrefix;
+
+    @Column(nullable = false)
+    private Long nextValue;
+}
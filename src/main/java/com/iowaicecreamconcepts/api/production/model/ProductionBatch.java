@@ -12,7 +12,12 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "production_batches")
+@Table(name = "production_batches", indexes = {
+        @Index(name = "idx_batches_created", columnList = "created_at, id"),
+        @Index(name = "idx_batches_status_created", columnList = "status, created_at, id"),
+        @Index(name = "idx_batches_product_created", columnList = "product_item_id, created_at, id"),
+        @Index(name = "idx_batches_location_created", columnList = "storage_location_id, created_at, id")
+})
 public class ProductionBatch {
 
     @Id
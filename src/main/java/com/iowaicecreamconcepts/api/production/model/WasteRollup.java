@@ -0,0 +1,63 @@
+package com.iowaicecreamconcepts.api.production.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Waste totals for one day or month, item, location and reason, maintained incrementally from the
+ * outbox as waste is recorded. Waste not tied to a batch has no location and is stored under
+ * {@link #NO_LOCATION} so the unique key never contains nulls.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "waste_rollups", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_waste_rollups_bucket",
+                columnNames = {"granularity", "period_start", "item_id", "location_id", "reason"})
+}, indexes = {
+        @Index(name = "idx_waste_rollups_period", columnList = "granularity, period_start"),
+        @Index(name = "idx_waste_rollups_location_period", columnList = "location_id, granularity, period_start")
+})
+public class WasteRollup {
+
+    public static final UUID NO_LOCATION = new UUID(0L, 0L);
+
+    @Id
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 8)
+    private Granularity granularity;
+
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column(name = "item_id", nullable = false)
+    private UUID itemId;
+
+    @Column(name = "location_id", nullable = false)
+    private UUID locationId;
+
+    @Column(nullable = false, length = 32)
+    private String reason;
+
+    @Column(name = "event_count", nullable = false)
+    private Long eventCount;
+
+    @Column(nullable = false)
+    private Double quantity;
+
+    @Column(name = "total_cost", nullable = false, precision = 14, scale = 4)
+    private BigDecimal totalCost;
+
+    public enum Granularity {
+        DAY,
+        MONTH
+    }
+}
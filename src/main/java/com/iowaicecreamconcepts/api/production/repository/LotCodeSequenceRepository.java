@@ -0,0 +1,19 @@
+package com.iowaicecreamconcepts.api.production.repository;
+
+import com.iowaicecreamconcepts.api.production.model.LotCodeSequence;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface LotCodeSequenceRepository extends JpaRepository<LotCodeSequence, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM LotCodeSequence s WHERE s.datePrefix = :datePrefix")
+    Optional<LotCodeSequence> findForUpdate(@Param("datePrefix") String datePrefix);
+}
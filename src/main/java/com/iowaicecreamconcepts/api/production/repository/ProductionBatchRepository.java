@@ -4,11 +4,13 @@ import com.iowaicecreamconcepts.api.production.model.ProductionBatch;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
-public interface ProductionBatchRepository extends JpaRepository<ProductionBatch, UUID> {
+public interface ProductionBatchRepository extends JpaRepository<ProductionBatch, UUID>, ProductionBatchRepositoryCustom {
     
     List<ProductionBatch> findByStatusOrderByCreatedAtDesc(ProductionBatch.Status status);
     
@@ -17,4 +19,20 @@ public interface ProductionBatchRepository extends JpaRepository<ProductionBatch
     List<ProductionBatch> findByStorageLocationIdOrderByCreatedAtDesc(UUID storageLocationId);
     
     long countByLotCodeStartingWith(String prefix);
+
+    List<ProductionBatch> findTop10ByStatusOrderByCreatedAtDesc(ProductionBatch.Status status);
+
+    List<ProductionBatch> findTop10ByStorageLocationIdInAndStatusOrderByCreatedAtDesc(Collection<UUID> storageLocationIds, ProductionBatch.Status status);
+
+    long countByStatus(ProductionBatch.Status status);
+
+    long countByStorageLocationIdInAndStatus(Collection<UUID> storageLocationIds, ProductionBatch.Status status);
+
+    List<ProductionBatch> findTop10ByCreatedAtGreaterThanEqualOrderByCreatedAtDesc(LocalDateTime since);
+
+    List<ProductionBatch> findTop10ByStorageLocationIdInAndCreatedAtGreaterThanEqualOrderByCreatedAtDesc(Collection<UUID> storageLocationIds, LocalDateTime since);
+
+    long countByCreatedAtGreaterThanEqual(LocalDateTime since);
+
+    long countByStorageLocationIdInAndCreatedAtGreaterThanEqual(Collection<UUID> storageLocationIds, LocalDateTime since);
 }
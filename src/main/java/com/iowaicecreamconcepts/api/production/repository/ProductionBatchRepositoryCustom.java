@@ -0,0 +1,16 @@
+package com.iowaicecreamconcepts.api.production.repository;
+
+import com.iowaicecreamconcepts.api.common.dto.KeysetCursor;
+import com.iowaicecreamconcepts.api.production.dto.BatchSearchCriteria;
+import com.iowaicecreamconcepts.api.production.model.ProductionBatch;
+
+import java.util.List;
+
+public interface ProductionBatchRepositoryCustom {
+
+    /**
+     * Returns up to {@code limit} batches matching the criteria, newest first, strictly after
+     * {@code after} in {@code (createdAt DESC, id DESC)} order. A null cursor starts at the newest batch.
+     */
+    List<ProductionBatch> findPage(BatchSearchCriteria criteria, KeysetCursor after, int limit);
+}
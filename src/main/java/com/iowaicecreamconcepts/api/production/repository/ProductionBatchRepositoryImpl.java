@@ -0,0 +1,62 @@
+package com.iowaicecreamconcepts.api.production.repository;
+
+import com.iowaicecreamconcepts.api.common.dto.KeysetCursor;
+import com.iowaicecreamconcepts.api.production.dto.BatchSearchCriteria;
+import com.iowaicecreamconcepts.api.production.model.ProductionBatch;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public class ProductionBatchRepositoryImpl implements ProductionBatchRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ProductionBatch> findPage(BatchSearchCriteria criteria, KeysetCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ProductionBatch> query = cb.createQuery(ProductionBatch.class);
+        Root<ProductionBatch> batch = query.from(ProductionBatch.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (criteria.getStatus() != null) {
+            predicates.add(cb.equal(batch.get("status"), criteria.getStatus()));
+        }
+        if (criteria.getProductItemId() != null) {
+            predicates.add(cb.equal(batch.get("productItemId"), criteria.getProductItemId()));
+        }
+        if (criteria.getStorageLocationId() != null) {
+            predicates.add(cb.equal(batch.get("storageLocationId"), criteria.getStorageLocationId()));
+        }
+        if (criteria.getFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(batch.<LocalDateTime>get("createdAt"), criteria.getFrom()));
+        }
+        if (criteria.getTo() != null) {
+            predicates.add(cb.lessThan(batch.<LocalDateTime>get("createdAt"), criteria.getTo()));
+        }
+        if (after != null) {
+            // (createdAt, id) < (cursor.createdAt, cursor.id), spelled out for databases without row comparison
+            predicates.add(cb.or(
+                    cb.lessThan(batch.<LocalDateTime>get("createdAt"), after.getCreatedAt()),
+                    cb.and(
+                            cb.equal(batch.get("createdAt"), after.getCreatedAt()),
+                            cb.lessThan(batch.<UUID>get("id"), after.getId()))));
+        }
+
+        query.select(batch)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.desc(batch.get("createdAt")), cb.desc(batch.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -0,0 +1,21 @@
+package com.iowaicecreamconcepts.api.production.repository;
+
+import com.iowaicecreamconcepts.api.production.dto.ProductionItemView;
+import com.iowaicecreamconcepts.api.production.model.ProductionItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ProductionItemRepository extends JpaRepository<ProductionItem, UUID> {
+
+    @Query("SELECT new com.iowaicecreamconcepts.api.production.dto.ProductionItemView("
+            + "p.id, p.name, p.category, p.unit, p.parStockLevel, p.restockLevel, p.productionCost, p.sellingPrice, p.sku, "
+            + "r.id, r.name, r.costPerUnit) "
+            + "FROM ProductionItem p LEFT JOIN p.recipe r "
+            + "WHERE p.isActive = true ORDER BY p.name")
+    List<ProductionItemView> findActiveViews();
+}
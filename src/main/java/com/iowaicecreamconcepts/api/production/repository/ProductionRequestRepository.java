@@ -2,11 +2,9 @@ package com.iowaicecreamconcepts.api.production.repository;
 
 import com.iowaicecreamconcepts.api.production.model.ProductionRequest;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -16,9 +14,18 @@ public interface ProductionRequestRepository extends JpaRepository<ProductionReq
     List<ProductionRequest> findByStatusOrderByNeededByAsc(ProductionRequest.Status status);
     
     List<ProductionRequest> findByLocationIdAndStatusOrderByNeededByAsc(UUID locationId, ProductionRequest.Status status);
-    
-    @Query("SELECT pr FROM ProductionRequest pr WHERE pr.neededBy < :date AND pr.status IN ('OPEN', 'IN_PROGRESS')")
-    List<ProductionRequest> findOverdueRequests(@Param("date") LocalDateTime date);
+
+    List<ProductionRequest> findByStatusInOrderByNeededByAsc(Collection<ProductionRequest.Status> statuses);
+
+    List<ProductionRequest> findByLocationIdAndStatusInOrderByNeededByAsc(UUID locationId, Collection<ProductionRequest.Status> statuses);
+
+    List<ProductionRequest> findTop10ByStatusOrderByNeededByAsc(ProductionRequest.Status status);
+
+    List<ProductionRequest> findTop10ByLocationIdInAndStatusOrderByNeededByAsc(Collection<UUID> locationIds, ProductionRequest.Status status);
+
+    long countByStatus(ProductionRequest.Status status);
+
+    long countByLocationIdInAndStatus(Collection<UUID> locationIds, ProductionRequest.Status status);
     
     List<ProductionRequest> findByRequestedByOrderByCreatedAtDesc(UUID requestedBy);
 }
\ No newline at end of file
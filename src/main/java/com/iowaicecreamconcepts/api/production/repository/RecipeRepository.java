@@ -0,0 +1,39 @@
+package com.iowaicecreamconcepts.api.production.repository;
+
+import com.iowaicecreamconcepts.api.production.dto.RecipeIngredientView;
+import com.iowaicecreamconcepts.api.production.dto.RecipeView;
+import com.iowaicecreamconcepts.api.production.model.Recipe;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface RecipeRepository extends JpaRepository<Recipe, UUID>, RecipeRepositoryCustom {
+
+    String RECIPE_VIEW = "SELECT new com.iowaicecreamconcepts.api.production.dto.RecipeView("
+            + "r.id, r.name, r.productItemId, r.yieldQuantity, r.yieldUnit, r.totalCost, r.costPerUnit) FROM Recipe r ";
+
+    // Ingredient names come from whichever catalog the ingredient item belongs to
+    String INGREDIENT_VIEW = "SELECT new com.iowaicecreamconcepts.api.production.dto.RecipeIngredientView("
+            + "r.id, ri.id, ri.ingredientItemId, COALESCE(ii.name, pi.name), ri.quantity, ri.unit, ri.unitCost, ri.totalCost) "
+            + "FROM RecipeIngredient ri JOIN ri.recipe r "
+            + "LEFT JOIN InventoryItem ii ON ii.id = ri.ingredientItemId "
+            + "LEFT JOIN ProductionItem pi ON pi.id = ri.ingredientItemId ";
+
+    @Query(RECIPE_VIEW + "WHERE r.isActive = true ORDER BY r.name")
+    List<RecipeView> findActiveViews();
+
+    @Query(INGREDIENT_VIEW + "WHERE r.isActive = true ORDER BY ri.createdAt, ri.id")
+    List<RecipeIngredientView> findActiveIngredientViews();
+
+    @Query(RECIPE_VIEW + "WHERE r.id = :id")
+    Optional<RecipeView> findViewById(@Param("id") UUID id);
+
+    @Query(INGREDIENT_VIEW + "WHERE r.id = :recipeId ORDER BY ri.createdAt, ri.id")
+    List<RecipeIngredientView> findIngredientViews(@Param("recipeId") UUID recipeId);
+}
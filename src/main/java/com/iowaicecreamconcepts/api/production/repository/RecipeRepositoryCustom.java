@@ -0,0 +1,39 @@
+package com.iowaicecreamconcepts.api.production.repository;
+
+import com.iowaicecreamconcepts.api.production.dto.IngredientCost;
+import com.iowaicecreamconcepts.api.production.dto.RecipeCost;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+public interface RecipeRepositoryCustom {
+
+    /**
+     * Ids of active recipes with an ingredient line for any of the given items.
+     */
+    Set<UUID> findRecipeIdsUsing(Collection<UUID> ingredientItemIds);
+
+    List<RecipeCost> findRecipeCosts(Collection<UUID> recipeIds);
+
+    List<IngredientCost> findIngredientCosts(Collection<UUID> recipeIds);
+
+    /**
+     * Unit cost of each item that has one: an inventory item's unit cost, or a product item's
+     * production cost when the item is itself made from a recipe.
+     */
+    Map<UUID, BigDecimal> findUnitCosts(Collection<UUID> itemIds);
+
+    void updateIngredientCosts(List<IngredientCost> ingredients);
+
+    void updateRecipeCosts(List<RecipeCost> recipes);
+
+    /**
+     * Copies each recipe's cost per unit to the production cost of its product item, unless that item
+     * is linked to a different recipe.
+     */
+    void updateProductionCosts(List<RecipeCost> recipes);
+}
@@ -0,0 +1,142 @@
+package com.iowaicecreamconcepts.api.production.repository;
+
+import com.iowaicecreamconcepts.api.production.dto.IngredientCost;
+import com.iowaicecreamconcepts.api.production.dto.RecipeCost;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * JDBC reads and batched writes for the recipe cost engine, which works on flat cost rows instead of
+ * loading recipe and ingredient entities.
+ */
+@RequiredArgsConstructor
+public class RecipeRepositoryImpl implements RecipeRepositoryCustom {
+
+    static final int CHUNK_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Set<UUID> findRecipeIdsUsing(Collection<UUID> ingredientItemIds) {
+        Set<UUID> recipeIds = new HashSet<>();
+        forEachChunk(ingredientItemIds, (placeholders, params) -> recipeIds.addAll(jdbcTemplate.queryForList(
+                "SELECT DISTINCT ri.recipe_id FROM recipe_ingredients ri JOIN recipes r ON r.id = ri.recipe_id "
+                        + "WHERE r.is_active = TRUE AND ri.ingredient_item_id IN (" + placeholders + ")",
+                UUID.class, params)));
+        return recipeIds;
+    }
+
+    @Override
+    public List<RecipeCost> findRecipeCosts(Collection<UUID> recipeIds) {
+        List<RecipeCost> recipes = new ArrayList<>();
+        forEachChunk(recipeIds, (placeholders, params) -> recipes.addAll(jdbcTemplate.query(
+                "SELECT id, product_item_id, yield_quantity, total_cost, cost_per_unit FROM recipes "
+                        + "WHERE id IN (" + placeholders + ")",
+                (rs, rowNum) -> new RecipeCost(
+                        rs.getObject("id", UUID.class),
+                        rs.getObject("product_item_id", UUID.class),
+                        rs.getDouble("yield_quantity"),
+                        rs.getBigDecimal("total_cost"),
+                        rs.getBigDecimal("cost_per_unit")),
+                params)));
+        return recipes;
+    }
+
+    @Override
+    public List<IngredientCost> findIngredientCosts(Collection<UUID> recipeIds) {
+        List<IngredientCost> ingredients = new ArrayList<>();
+        forEachChunk(recipeIds, (placeholders, params) -> ingredients.addAll(jdbcTemplate.query(
+                "SELECT id, recipe_id, ingredient_item_id, quantity, unit_cost, total_cost FROM recipe_ingredients "
+                        + "WHERE recipe_id IN (" + placeholders + ")",
+                (rs, rowNum) -> new IngredientCost(
+                        rs.getObject("id", UUID.class),
+                        rs.getObject("recipe_id", UUID.class),
+                        rs.getObject("ingredient_item_id", UUID.class),
+                        rs.getDouble("quantity"),
+                        rs.getBigDecimal("unit_cost"),
+                        rs.getBigDecimal("total_cost")),
+                params)));
+        return ingredients;
+    }
+
+    @Override
+    public Map<UUID, BigDecimal> findUnitCosts(Collection<UUID> itemIds) {
+        Map<UUID, BigDecimal> costs = new HashMap<>();
+        forEachChunk(itemIds, (placeholders, params) -> {
+            List<Object> both = new ArrayList<>(params.length * 2);
+            Collections.addAll(both, params);
+            Collections.addAll(both, params);
+            jdbcTemplate.query("SELECT id, unit_cost FROM inventory_items "
+                            + "WHERE unit_cost IS NOT NULL AND id IN (" + placeholders + ") "
+                            + "UNION ALL SELECT id, production_cost FROM production_items "
+                            + "WHERE production_cost IS NOT NULL AND id IN (" + placeholders + ")",
+                    rs -> {
+                        costs.putIfAbsent(rs.getObject(1, UUID.class), rs.getBigDecimal(2));
+                    },
+                    both.toArray());
+        });
+        return costs;
+    }
+
+    @Override
+    public void updateIngredientCosts(List<IngredientCost> ingredients) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate("UPDATE recipe_ingredients SET unit_cost = ?, total_cost = ?, updated_at = ? WHERE id = ?",
+                ingredients, CHUNK_SIZE, (ps, ingredient) -> {
+                    ps.setBigDecimal(1, ingredient.getUnitCost());
+                    ps.setBigDecimal(2, ingredient.getTotalCost());
+                    ps.setObject(3, now);
+                    ps.setObject(4, ingredient.getId());
+                });
+    }
+
+    @Override
+    public void updateRecipeCosts(List<RecipeCost> recipes) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate("UPDATE recipes SET total_cost = ?, cost_per_unit = ?, updated_at = ? WHERE id = ?",
+                recipes, CHUNK_SIZE, (ps, recipe) -> {
+                    ps.setBigDecimal(1, recipe.getTotalCost());
+                    ps.setBigDecimal(2, recipe.getCostPerUnit());
+                    ps.setObject(3, now);
+                    ps.setObject(4, recipe.getRecipeId());
+                });
+    }
+
+    @Override
+    public void updateProductionCosts(List<RecipeCost> recipes) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate("UPDATE production_items SET production_cost = ?, updated_at = ? "
+                        + "WHERE id = ? AND (recipe_id IS NULL OR recipe_id = ?)",
+                recipes, CHUNK_SIZE, (ps, recipe) -> {
+                    ps.setBigDecimal(1, recipe.getCostPerUnit());
+                    ps.setObject(2, now);
+                    ps.setObject(3, recipe.getProductItemId());
+                    ps.setObject(4, recipe.getRecipeId());
+                });
+    }
+
+    private void forEachChunk(Collection<UUID> ids, ChunkQuery query) {
+        List<UUID> list = new ArrayList<>(ids);
+        for (int from = 0; from < list.size(); from += CHUNK_SIZE) {
+            List<UUID> chunk = list.subList(from, Math.min(from + CHUNK_SIZE, list.size()));
+            query.run(String.join(", ", Collections.nCopies(chunk.size(), "?")), chunk.toArray());
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChunkQuery {
+        void run(String placeholders, Object[] params);
+    }
+}
@@ -1,14 +1,22 @@
 package com.iowaicecreamconcepts.api.production.repository;
 
 import com.iowaicecreamconcepts.api.production.model.WasteEvent;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface WasteEventRepository extends JpaRepository<WasteEvent, UUID> {
@@ -21,4 +29,28 @@ public interface WasteEventRepository extends JpaRepository<WasteEvent, UUID> {
     
     @Query("SELECT we FROM WasteEvent we WHERE we.recordedAt BETWEEN :startDate AND :endDate ORDER BY we.recordedAt DESC")
     List<WasteEvent> findByDateRange(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
-}
\ No newline at end of file
+
+    List<WasteEvent> findByRecordedAtGreaterThanEqualOrderByRecordedAtDesc(LocalDateTime since, Pageable pageable);
+
+    long countByRecordedAtGreaterThanEqual(LocalDateTime since);
+
+    // Waste is scoped to a location through the batch it was recorded against
+    @Query("SELECT we FROM WasteEvent we WHERE we.recordedAt >= :since AND we.batchId IN "
+            + "(SELECT b.id FROM ProductionBatch b WHERE b.storageLocationId IN :locationIds) ORDER BY we.recordedAt DESC")
+    List<WasteEvent> findRecentByLocations(@Param("since") LocalDateTime since, @Param("locationIds") Collection<UUID> locationIds, Pageable pageable);
+
+    @Query("SELECT COUNT(we) FROM WasteEvent we WHERE we.recordedAt >= :since AND we.batchId IN "
+            + "(SELECT b.id FROM ProductionBatch b WHERE b.storageLocationId IN :locationIds)")
+    long countRecentByLocations(@Param("since") LocalDateTime since, @Param("locationIds") Collection<UUID> locationIds);
+
+    /**
+     * Forward-only cursor over waste events recorded in {@code [from, to)}. Must be consumed inside a
+     * transaction and closed; rows are fetched from the driver {@code fetchSize} at a time.
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT we FROM WasteEvent we WHERE we.recordedAt >= :from AND we.recordedAt < :to ORDER BY we.recordedAt, we.id")
+    Stream<WasteEvent> streamByRecordedAtRange(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
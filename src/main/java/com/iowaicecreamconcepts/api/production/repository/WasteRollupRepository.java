@@ -0,0 +1,11 @@
+package com.iowaicecreamconcepts.api.production.repository;
+
+import com.iowaicecreamconcepts.api.production.model.WasteRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface WasteRollupRepository extends JpaRepository<WasteRollup, UUID>, WasteRollupRepositoryCustom {
+}
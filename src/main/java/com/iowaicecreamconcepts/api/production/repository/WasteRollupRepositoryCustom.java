@@ -0,0 +1,36 @@
+package com.iowaicecreamconcepts.api.production.repository;
+
+import com.iowaicecreamconcepts.api.production.dto.WasteReportRow;
+import com.iowaicecreamconcepts.api.production.model.WasteRollup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface WasteRollupRepositoryCustom {
+
+    /**
+     * Adds one waste event to its day and month rollups, creating them if needed.
+     */
+    void increment(LocalDate day, UUID itemId, UUID locationId, String reason, double quantity, BigDecimal cost);
+
+    /**
+     * Unit cost of an inventory item, or production cost of a product item; zero if neither is set.
+     */
+    BigDecimal findUnitCost(UUID itemId);
+
+    /**
+     * Sums rollups of one granularity whose period starts in {@code [from, to)}. DAY and MONTH both
+     * group by period start; the caller folds days into months. {@code locationId} null means all
+     * locations.
+     */
+    List<WasteReportRow> sumByGroup(WasteRollup.Granularity granularity, LocalDate from, LocalDate to,
+                                    UUID locationId, WasteReportRow.GroupBy groupBy);
+
+    /**
+     * Replaces all rollups with totals recomputed from waste_events at current item costs. Waste events
+     * whose outbox event has not been processed yet are left out; dispatching that event adds them.
+     */
+    int rebuild();
+}
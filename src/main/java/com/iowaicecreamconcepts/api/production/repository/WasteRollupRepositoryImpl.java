@@ -0,0 +1,145 @@
+package com.iowaicecreamconcepts.api.production.repository;
+
+import com.iowaicecreamconcepts.api.production.dto.WasteReportRow;
+import com.iowaicecreamconcepts.api.production.model.WasteRollup;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * JDBC implementation of the rollup writes and report sums. Like the current stock writes it uses
+ * standard SQL MERGE so the same statement runs on H2 and PostgreSQL.
+ */
+public class WasteRollupRepositoryImpl implements WasteRollupRepositoryCustom {
+
+    private static final String ROW_TEMPLATE = "(CAST(? AS UUID), CAST(? AS VARCHAR(8)), CAST(? AS DATE), CAST(? AS UUID), "
+            + "CAST(? AS UUID), CAST(? AS VARCHAR(32)), CAST(? AS DOUBLE PRECISION), CAST(? AS DECIMAL(14, 4)))";
+
+    private static final String INCREMENT_SQL = "MERGE INTO waste_rollups wr "
+            + "USING (VALUES " + ROW_TEMPLATE + ", " + ROW_TEMPLATE + ") "
+            + "AS src (id, granularity, period_start, item_id, location_id, reason, quantity, total_cost) "
+            + "ON wr.granularity = src.granularity AND wr.period_start = src.period_start AND wr.item_id = src.item_id "
+            + "AND wr.location_id = src.location_id AND wr.reason = src.reason "
+            + "WHEN MATCHED THEN UPDATE SET event_count = wr.event_count + 1, quantity = wr.quantity + src.quantity, "
+            + "total_cost = wr.total_cost + src.total_cost "
+            + "WHEN NOT MATCHED THEN INSERT (id, granularity, period_start, item_id, location_id, reason, event_count, quantity, total_cost) "
+            + "VALUES (src.id, src.granularity, src.period_start, src.item_id, src.location_id, src.reason, 1, src.quantity, src.total_cost)";
+
+    private static final String INSERT_SQL = "INSERT INTO waste_rollups "
+            + "(id, granularity, period_start, item_id, location_id, reason, event_count, quantity, total_cost) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public WasteRollupRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void increment(LocalDate day, UUID itemId, UUID locationId, String reason, double quantity, BigDecimal cost) {
+        UUID location = locationId != null ? locationId : WasteRollup.NO_LOCATION;
+        jdbcTemplate.update(INCREMENT_SQL,
+                UUID.randomUUID(), WasteRollup.Granularity.DAY.name(), Date.valueOf(day), itemId, location, reason, quantity, cost,
+                UUID.randomUUID(), WasteRollup.Granularity.MONTH.name(), Date.valueOf(day.withDayOfMonth(1)), itemId, location, reason, quantity, cost);
+    }
+
+    @Override
+    public BigDecimal findUnitCost(UUID itemId) {
+        BigDecimal cost = jdbcTemplate.queryForObject(
+                "SELECT COALESCE((SELECT unit_cost FROM inventory_items WHERE id = ?), "
+                        + "(SELECT production_cost FROM production_items WHERE id = ?))",
+                BigDecimal.class, itemId, itemId);
+        return cost != null ? cost : BigDecimal.ZERO;
+    }
+
+    @Override
+    public List<WasteReportRow> sumByGroup(WasteRollup.Granularity granularity, LocalDate from, LocalDate to,
+                                           UUID locationId, WasteReportRow.GroupBy groupBy) {
+        if (!from.isBefore(to)) {
+            return List.of();
+        }
+
+        // Whitelisted column names only; never built from request input
+        String column = switch (groupBy) {
+            case REASON -> "reason";
+            case ITEM -> "item_id";
+            case LOCATION -> "location_id";
+            case DAY, MONTH -> "period_start";
+        };
+
+        List<Object> params = new ArrayList<>(List.of(granularity.name(), Date.valueOf(from), Date.valueOf(to)));
+        String locationFilter = "";
+        if (locationId != null) {
+            locationFilter = " AND location_id = ?";
+            params.add(locationId);
+        }
+
+        return jdbcTemplate.query(
+                "SELECT " + column + " AS group_key, SUM(event_count) AS event_count, SUM(quantity) AS quantity, "
+                        + "SUM(total_cost) AS total_cost FROM waste_rollups "
+                        + "WHERE granularity = ? AND period_start >= ? AND period_start < ?" + locationFilter
+                        + " GROUP BY " + column,
+                (rs, rowNum) -> {
+                    Object key = rs.getObject("group_key");
+                    String group = key instanceof Date date ? date.toLocalDate().toString() : Objects.toString(key, null);
+                    if (WasteRollup.NO_LOCATION.toString().equals(group)) {
+                        group = null;
+                    }
+                    return new WasteReportRow(group, rs.getLong("event_count"), rs.getDouble("quantity"), rs.getBigDecimal("total_cost"));
+                },
+                params.toArray());
+    }
+
+    @Override
+    public int rebuild() {
+        jdbcTemplate.update("DELETE FROM waste_rollups");
+
+        Map<List<Object>, Object[]> months = new LinkedHashMap<>();
+        List<Object[]> rows = new ArrayList<>();
+        jdbcTemplate.query(
+                "SELECT CAST(we.recorded_at AS DATE) AS day, we.item_id, pb.storage_location_id AS location_id, "
+                        + "we.reason, COUNT(*) AS event_count, SUM(we.quantity) AS quantity, "
+                        + "SUM(we.quantity * COALESCE(ii.unit_cost, pi.production_cost, 0)) AS total_cost "
+                        + "FROM waste_events we "
+                        + "LEFT JOIN production_batches pb ON pb.id = we.batch_id "
+                        + "LEFT JOIN inventory_items ii ON ii.id = we.item_id "
+                        + "LEFT JOIN production_items pi ON pi.id = we.item_id "
+                        // Waste whose outbox event is still pending is added when the dispatcher applies it
+                        + "WHERE NOT EXISTS (SELECT 1 FROM outbox_events oe WHERE oe.aggregate_id = we.id "
+                        + "AND oe.type = 'WASTE_RECORDED' AND oe.processed_at IS NULL) "
+                        + "GROUP BY CAST(we.recorded_at AS DATE), we.item_id, pb.storage_location_id, we.reason",
+                rs -> {
+                    LocalDate day = rs.getDate("day").toLocalDate();
+                    UUID itemId = rs.getObject("item_id", UUID.class);
+                    UUID batchLocationId = rs.getObject("location_id", UUID.class);
+                    UUID locationId = batchLocationId != null ? batchLocationId : WasteRollup.NO_LOCATION;
+                    String reason = rs.getString("reason");
+                    long count = rs.getLong("event_count");
+                    double quantity = rs.getDouble("quantity");
+                    BigDecimal cost = rs.getBigDecimal("total_cost");
+
+                    rows.add(new Object[]{UUID.randomUUID(), WasteRollup.Granularity.DAY.name(), Date.valueOf(day),
+                            itemId, locationId, reason, count, quantity, cost});
+
+                    LocalDate month = day.withDayOfMonth(1);
+                    Object[] monthRow = months.computeIfAbsent(List.of(month, itemId, locationId, reason),
+                            key -> new Object[]{UUID.randomUUID(), WasteRollup.Granularity.MONTH.name(), Date.valueOf(month),
+                                    itemId, locationId, reason, 0L, 0.0, BigDecimal.ZERO});
+                    monthRow[6] = (Long) monthRow[6] + count;
+                    monthRow[7] = (Double) monthRow[7] + quantity;
+                    monthRow[8] = ((BigDecimal) monthRow[8]).add(cost);
+                });
+
+        rows.addAll(months.values());
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        return rows.size();
+    }
+}
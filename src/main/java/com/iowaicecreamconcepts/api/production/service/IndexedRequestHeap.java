@@ -0,0 +1,136 @@
+package com.iowaicecreamconcepts.api.production.service;
+
+import com.iowaicecreamconcepts.api.production.model.ProductionRequest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+
+/**
+ * Binary min-heap of production requests with a position index, so a request can be updated or removed
+ * by id in O(log n) when its status or priority changes. Not thread-safe.
+ */
+final class IndexedRequestHeap {
+
+    private final Comparator<ProductionRequest> order;
+    private final Map<UUID, Integer> positions = new HashMap<>();
+    private ProductionRequest[] heap = new ProductionRequest[16];
+    private int size;
+
+    IndexedRequestHeap(Comparator<ProductionRequest> order) {
+        this.order = order;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean contains(UUID requestId) {
+        return positions.containsKey(requestId);
+    }
+
+    void upsert(ProductionRequest request) {
+        Integer position = positions.get(request.getId());
+        if (position != null) {
+            heap[position] = request;
+            siftDown(siftUp(position));
+            return;
+        }
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size * 2);
+        }
+        heap[size] = request;
+        positions.put(request.getId(), size);
+        siftUp(size++);
+    }
+
+    boolean remove(UUID requestId) {
+        Integer position = positions.remove(requestId);
+        if (position == null) {
+            return false;
+        }
+        size--;
+        if (position != size) {
+            heap[position] = heap[size];
+            positions.put(heap[position].getId(), position);
+            heap[size] = null;
+            siftDown(siftUp(position));
+        } else {
+            heap[size] = null;
+        }
+        return true;
+    }
+
+    /**
+     * The first {@code limit} requests in order, in O(limit log limit) without disturbing the heap:
+     * a best-first walk that only ever looks at the children of requests already taken.
+     */
+    List<ProductionRequest> top(int limit) {
+        List<ProductionRequest> top = new ArrayList<>(Math.min(limit, size));
+        if (size == 0 || limit <= 0) {
+            return top;
+        }
+        PriorityQueue<Integer> frontier = new PriorityQueue<>((a, b) -> order.compare(heap[a], heap[b]));
+        frontier.add(0);
+        while (!frontier.isEmpty() && top.size() < limit) {
+            int position = frontier.poll();
+            top.add(heap[position]);
+            int child = 2 * position + 1;
+            if (child < size) {
+                frontier.add(child);
+            }
+            if (child + 1 < size) {
+                frontier.add(child + 1);
+            }
+        }
+        return top;
+    }
+
+    private int siftUp(int position) {
+        ProductionRequest request = heap[position];
+        while (position > 0) {
+            int parent = (position - 1) / 2;
+            if (order.compare(request, heap[parent]) >= 0) {
+                break;
+            }
+            move(parent, position);
+            position = parent;
+        }
+        place(request, position);
+        return position;
+    }
+
+    private void siftDown(int position) {
+        ProductionRequest request = heap[position];
+        while (true) {
+            int child = 2 * position + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && order.compare(heap[child + 1], heap[child]) < 0) {
+                child++;
+            }
+            if (order.compare(heap[child], request) >= 0) {
+                break;
+            }
+            move(child, position);
+            position = child;
+        }
+        place(request, position);
+    }
+
+    private void move(int from, int to) {
+        heap[to] = heap[from];
+        positions.put(heap[to].getId(), to);
+    }
+
+    private void place(ProductionRequest request, int position) {
+        heap[position] = request;
+        positions.put(request.getId(), position);
+    }
+}
@@ -0,0 +1,111 @@
+package com.iowaicecreamconcepts.api.production.service;
+
+import com.iowaicecreamconcepts.api.production.model.LotCodeSequence;
+import com.iowaicecreamconcepts.api.production.repository.LotCodeSequenceRepository;
+import com.iowaicecreamconcepts.api.production.repository.ProductionBatchRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hands out unique {@code yyyyMMdd-NNN} lot codes. Each instance reserves a block of numbers from the
+ * per-day counter row in its own short transaction and serves codes from memory until the block runs
+ * out, so allocation does not scan production_batches and concurrent batches never collide.
+ *
+ * <p>Numbers left in a block when the application stops are skipped, so lot codes are unique and
+ * increasing within an instance but not gap-free.
+ *
+ * <p>Callers must not be inside a transaction. A refill holds the lock while it takes a connection
+ * for the counter row, so callers queued on the lock must not be holding pooled connections of their own.
+ */
+@Component
+public class LotCodeAllocator {
+
+    private static final DateTimeFormatter DATE_PREFIX = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final LotCodeSequenceRepository sequenceRepository;
+    private final ProductionBatchRepository batchRepository;
+    private final TransactionTemplate newTransaction;
+    private final int blockSize;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private String blockDatePrefix;
+    private long nextValue;
+    private long blockEnd;
+
+    public LotCodeAllocator(LotCodeSequenceRepository sequenceRepository,
+                            ProductionBatchRepository batchRepository,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${app.production.lotCodeBlockSize:20}") int blockSize) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Lot code block size must be positive");
+        }
+        this.sequenceRepository = sequenceRepository;
+        this.batchRepository = batchRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = blockSize;
+    }
+
+    public String nextLotCode() {
+        return nextLotCode(LocalDateTime.now().format(DATE_PREFIX));
+    }
+
+    String nextLotCode(String datePrefix) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Lot codes must be allocated before the caller's transaction starts");
+        }
+        long value;
+        lock.lock();
+        try {
+            if (!datePrefix.equals(blockDatePrefix) || nextValue >= blockEnd) {
+                nextValue = reserveBlock(datePrefix);
+                blockEnd = nextValue + blockSize;
+                blockDatePrefix = datePrefix;
+            }
+            value = nextValue++;
+        } finally {
+            lock.unlock();
+        }
+        return String.format("%s-%03d", datePrefix, value);
+    }
+
+    private long reserveBlock(String datePrefix) {
+        Long first = newTransaction.execute(status -> sequenceRepository.findForUpdate(datePrefix)
+                .map(sequence -> {
+                    long start = sequence.getNextValue();
+                    sequence.setNextValue(start + blockSize);
+                    return start;
+                })
+                .orElse(null));
+        if (first != null) {
+            return first;
+        }
+
+        createSequence(datePrefix);
+        return reserveBlock(datePrefix);
+    }
+
+    private void createSequence(String datePrefix) {
+        try {
+            newTransaction.executeWithoutResult(status -> {
+                // Continue after lot codes issued before the counter row existed
+                long issued = batchRepository.countByLotCodeStartingWith(datePrefix);
+                sequenceRepository.saveAndFlush(LotCodeSequence.builder()
+                        .datePrefix(datePrefix)
+                        .nextValue(issued + 1)
+                        .build());
+            });
+        } catch (DataIntegrityViolationException e) {
+            // Another instance created today's counter first
+        }
+    }
+}
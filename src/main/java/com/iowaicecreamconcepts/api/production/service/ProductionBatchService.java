@@ -1,5 +1,8 @@
 package com.iowaicecreamconcepts.api.production.service;
 
+import com.iowaicecreamconcepts.api.common.dto.CursorPage;
+import com.iowaicecreamconcepts.api.common.dto.KeysetCursor;
+import com.iowaicecreamconcepts.api.production.dto.BatchSearchCriteria;
 import com.iowaicecreamconcepts.api.production.model.ProductionBatch;
 import com.iowaicecreamconcepts.api.production.repository.ProductionBatchRepository;
 import org.springframework.stereotype.Service;
@@ -10,14 +13,28 @@ import java.util.UUID;
 @Service
 public class ProductionBatchService {
 
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 200;
+
     private final ProductionBatchRepository repo;
 
     public ProductionBatchService(ProductionBatchRepository repo) {
         this.repo = repo;
     }
 
-    public List<ProductionBatch> listAll() {
-        return repo.findAll();
+    public CursorPage<ProductionBatch> listBatches(BatchSearchCriteria criteria, String cursor, Integer limit) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        KeysetCursor after = cursor == null || cursor.isBlank() ? null : KeysetCursor.decode(cursor);
+
+        // One extra row tells us whether another page exists without a count query
+        List<ProductionBatch> rows = repo.findPage(criteria, after, pageSize + 1);
+        if (rows.size() <= pageSize) {
+            return new CursorPage<>(rows, null);
+        }
+
+        List<ProductionBatch> items = rows.subList(0, pageSize);
+        ProductionBatch last = items.getLast();
+        return new CursorPage<>(items, new KeysetCursor(last.getCreatedAt(), last.getId()).encode());
     }
 
     public List<ProductionBatch> getBatchesByStatus(ProductionBatch.Status status) {
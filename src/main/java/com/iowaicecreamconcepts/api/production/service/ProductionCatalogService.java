@@ -0,0 +1,54 @@
+package com.iowaicecreamconcepts.api.production.service;
+
+import com.iowaicecreamconcepts.api.production.dto.ProductionItemView;
+import com.iowaicecreamconcepts.api.production.dto.RecipeIngredientView;
+import com.iowaicecreamconcepts.api.production.dto.RecipeView;
+import com.iowaicecreamconcepts.api.production.repository.ProductionItemRepository;
+import com.iowaicecreamconcepts.api.production.repository.RecipeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Read paths for the recipe and product catalog. Each listing is a fixed number of projection queries
+ * (recipes, then all of their ingredient lines) however large the catalog, instead of serializing the
+ * entities and lazily loading ingredients and recipes one row at a time.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProductionCatalogService {
+
+    private final RecipeRepository recipeRepository;
+    private final ProductionItemRepository productionItemRepository;
+
+    public List<RecipeView> getRecipes() {
+        List<RecipeView> recipes = recipeRepository.findActiveViews();
+        Map<UUID, RecipeView> recipesById = recipes.stream()
+                .collect(Collectors.toMap(RecipeView::getId, Function.identity()));
+        for (RecipeIngredientView ingredient : recipeRepository.findActiveIngredientViews()) {
+            RecipeView recipe = recipesById.get(ingredient.getRecipeId());
+            if (recipe != null) {
+                recipe.getIngredients().add(ingredient);
+            }
+        }
+        return recipes;
+    }
+
+    public RecipeView getRecipe(UUID id) {
+        RecipeView recipe = recipeRepository.findViewById(id)
+                .orElseThrow(() -> new RuntimeException("Recipe not found"));
+        recipe.getIngredients().addAll(recipeRepository.findIngredientViews(id));
+        return recipe;
+    }
+
+    public List<ProductionItemView> getProductionItems() {
+        return productionItemRepository.findActiveViews();
+    }
+}
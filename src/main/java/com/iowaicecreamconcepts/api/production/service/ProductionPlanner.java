@@ -0,0 +1,180 @@
+package com.iowaicecreamconcepts.api.production.service;
+
+import com.iowaicecreamconcepts.api.inventory.model.CurrentStock;
+import com.iowaicecreamconcepts.api.production.dto.IngredientShortage;
+import com.iowaicecreamconcepts.api.production.dto.ProductionPlan;
+import com.iowaicecreamconcepts.api.production.dto.RecipeIngredientView;
+import com.iowaicecreamconcepts.api.production.dto.RecipeView;
+import com.iowaicecreamconcepts.api.production.model.ProductionRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Material requirements explosion over a fixed set of recipes.
+ *
+ * <p>Items and locations are mapped to dense indices and recipes to flat ingredient arrays once, so
+ * exploding requests only reads and writes primitive arrays indexed by {@code location * items + item}.
+ * Requests are taken in {@code neededBy} order and consume stock as they go, so a shortage is dated by
+ * the first request that stock could not cover. An ingredient that is itself made from a recipe is
+ * taken from stock first and the remainder exploded through its recipe. Recipe and stock units are
+ * assumed to match.
+ */
+public class ProductionPlanner {
+
+    // Deeper nesting than this can only be a recipe cycle
+    static final int MAX_DEPTH = 16;
+
+    private static final double EPSILON = 1e-9;
+    private static final long UNSET = Long.MAX_VALUE;
+
+    private final Map<UUID, Integer> itemIndex = new HashMap<>();
+    private final List<UUID> itemIds = new ArrayList<>();
+    private final List<String> itemNames = new ArrayList<>();
+    private final List<String> itemUnits = new ArrayList<>();
+
+    // Recipe of product i: yield in recipeYield[i] (0 if none), ingredients in [ingredientStart[i], ingredientStart[i + 1])
+    private final double[] recipeYield;
+    private final int[] ingredientStart;
+    private final int[] ingredientItem;
+    private final double[] ingredientQuantity;
+
+    /**
+     * @param recipesByProduct the recipe to plan each product with, ingredients included
+     */
+    public ProductionPlanner(Map<UUID, RecipeView> recipesByProduct) {
+        // Ingredient lines carry the item's own name; products only fall back to their recipe's
+        for (RecipeView recipe : recipesByProduct.values()) {
+            for (RecipeIngredientView ingredient : recipe.getIngredients()) {
+                index(ingredient.getIngredientItemId(), ingredient.getIngredientName(), ingredient.getUnit());
+            }
+        }
+        recipesByProduct.forEach((productItemId, recipe) -> index(productItemId, recipe.getName(), recipe.getYieldUnit()));
+
+        int items = itemIds.size();
+        recipeYield = new double[items];
+        ingredientStart = new int[items + 1];
+        int lines = recipesByProduct.values().stream().mapToInt(recipe -> recipe.getIngredients().size()).sum();
+        ingredientItem = new int[lines];
+        ingredientQuantity = new double[lines];
+
+        int next = 0;
+        for (int item = 0; item < items; item++) {
+            ingredientStart[item] = next;
+            RecipeView recipe = recipesByProduct.get(itemIds.get(item));
+            if (recipe == null || recipe.getYieldQuantity() == null || recipe.getYieldQuantity() <= 0) {
+                continue;
+            }
+            recipeYield[item] = recipe.getYieldQuantity();
+            for (RecipeIngredientView ingredient : recipe.getIngredients()) {
+                ingredientItem[next] = itemIndex.get(ingredient.getIngredientItemId());
+                ingredientQuantity[next] = ingredient.getQuantity();
+                next++;
+            }
+        }
+        ingredientStart[items] = next;
+    }
+
+    /**
+     * @param requests requests to plan, ordered by {@code neededBy}
+     * @param stock current stock at the requests' locations
+     */
+    public ProductionPlan plan(List<ProductionRequest> requests, Collection<CurrentStock> stock) {
+        Map<UUID, Integer> locationIndex = new HashMap<>();
+        List<UUID> locationIds = new ArrayList<>();
+        for (ProductionRequest request : requests) {
+            if (locationIndex.putIfAbsent(request.getLocationId(), locationIds.size()) == null) {
+                locationIds.add(request.getLocationId());
+            }
+        }
+
+        int items = itemIds.size();
+        int cells = locationIds.size() * items;
+        double[] onHand = new double[cells];
+        for (CurrentStock row : stock) {
+            Integer location = locationIndex.get(row.getLocationId());
+            Integer item = itemIndex.get(row.getItemId());
+            if (location != null && item != null && row.getQuantity() != null) {
+                onHand[location * items + item] += Math.max(0, row.getQuantity());
+            }
+        }
+
+        Accumulators acc = new Accumulators(Arrays.copyOf(onHand, cells), new double[cells], new double[cells], new long[cells]);
+        Arrays.fill(acc.shortSince, UNSET);
+        List<UUID> unplanned = new ArrayList<>();
+        for (ProductionRequest request : requests) {
+            Integer product = itemIndex.get(request.getProductItemId());
+            if (product == null || recipeYield[product] == 0) {
+                unplanned.add(request.getId());
+                continue;
+            }
+            explode(acc, locationIndex.get(request.getLocationId()) * items, product, request.getTargetQuantity(),
+                    request.getNeededBy().toEpochSecond(ZoneOffset.UTC), 0);
+        }
+
+        List<IngredientShortage> shortages = new ArrayList<>();
+        for (int cell = 0; cell < cells; cell++) {
+            if (acc.shortage[cell] > EPSILON) {
+                int item = cell % items;
+                shortages.add(new IngredientShortage(
+                        locationIds.get(cell / items),
+                        itemIds.get(item),
+                        itemNames.get(item),
+                        itemUnits.get(item),
+                        acc.gross[cell],
+                        onHand[cell],
+                        acc.shortage[cell],
+                        LocalDateTime.ofEpochSecond(acc.shortSince[cell], 0, ZoneOffset.UTC)));
+            }
+        }
+        shortages.sort(Comparator.comparing(IngredientShortage::getNeededBy)
+                .thenComparing(IngredientShortage::getItemName, Comparator.nullsLast(Comparator.naturalOrder())));
+
+        return new ProductionPlan(LocalDateTime.now(), requests.size(), shortages, unplanned);
+    }
+
+    private void explode(Accumulators acc, int locationOffset, int product, double quantity, long neededBy, int depth) {
+        double batches = quantity / recipeYield[product];
+        for (int line = ingredientStart[product]; line < ingredientStart[product + 1]; line++) {
+            int item = ingredientItem[line];
+            int cell = locationOffset + item;
+            double need = batches * ingredientQuantity[line];
+            double taken = Math.min(acc.available[cell], need);
+            acc.available[cell] -= taken;
+            acc.gross[cell] += need;
+
+            double remaining = need - taken;
+            if (remaining <= EPSILON) {
+                continue;
+            }
+            if (recipeYield[item] > 0 && depth < MAX_DEPTH) {
+                explode(acc, locationOffset, item, remaining, neededBy, depth + 1);
+            } else {
+                acc.shortage[cell] += remaining;
+                if (acc.shortSince[cell] == UNSET) {
+                    acc.shortSince[cell] = neededBy;
+                }
+            }
+        }
+    }
+
+    private void index(UUID itemId, String name, String unit) {
+        Integer existing = itemIndex.putIfAbsent(itemId, itemIds.size());
+        if (existing == null) {
+            itemIds.add(itemId);
+            itemNames.add(name);
+            itemUnits.add(unit);
+        }
+    }
+
+    private record Accumulators(double[] available, double[] gross, double[] shortage, long[] shortSince) {
+    }
+}
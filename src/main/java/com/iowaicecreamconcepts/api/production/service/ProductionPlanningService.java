@@ -0,0 +1,88 @@
+package com.iowaicecreamconcepts.api.production.service;
+
+import com.iowaicecreamconcepts.api.inventory.model.CurrentStock;
+import com.iowaicecreamconcepts.api.inventory.repository.CurrentStockRepository;
+import com.iowaicecreamconcepts.api.production.dto.ProductionItemView;
+import com.iowaicecreamconcepts.api.production.dto.ProductionPlan;
+import com.iowaicecreamconcepts.api.production.dto.RecipeView;
+import com.iowaicecreamconcepts.api.production.model.ProductionRequest;
+import com.iowaicecreamconcepts.api.production.repository.ProductionItemRepository;
+import com.iowaicecreamconcepts.api.production.repository.ProductionRequestRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Plans ingredient shortages for the open and in-progress production requests. Loading is a fixed
+ * number of queries (requests, recipes, ingredient lines, products, stock); the explosion itself is
+ * done by {@link ProductionPlanner}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProductionPlanningService {
+
+    static final Set<ProductionRequest.Status> PLANNED_STATUSES =
+            Set.of(ProductionRequest.Status.OPEN, ProductionRequest.Status.IN_PROGRESS);
+
+    private final ProductionRequestRepository productionRequestRepository;
+    private final ProductionItemRepository productionItemRepository;
+    private final ProductionCatalogService productionCatalogService;
+    private final CurrentStockRepository currentStockRepository;
+
+    /**
+     * Plans every location, or only {@code locationId} when given.
+     */
+    public ProductionPlan plan(UUID locationId) {
+        long started = System.nanoTime();
+        List<ProductionRequest> requests = locationId != null
+                ? productionRequestRepository.findByLocationIdAndStatusInOrderByNeededByAsc(locationId, PLANNED_STATUSES)
+                : productionRequestRepository.findByStatusInOrderByNeededByAsc(PLANNED_STATUSES);
+        if (requests.isEmpty()) {
+            return new ProductionPlanner(Map.of()).plan(requests, List.of());
+        }
+
+        Set<UUID> locationIds = requests.stream().map(ProductionRequest::getLocationId).collect(Collectors.toSet());
+        List<CurrentStock> stock = currentStockRepository.findByLocationIdIn(locationIds);
+        ProductionPlan plan = new ProductionPlanner(recipesByProduct()).plan(requests, stock);
+
+        log.debug("Planned {} production requests across {} locations in {} ms", requests.size(), locationIds.size(),
+                (System.nanoTime() - started) / 1_000_000);
+        return plan;
+    }
+
+    /**
+     * The recipe each product is made with: the one linked from the product if any, otherwise the
+     * first active recipe for it by name.
+     */
+    private Map<UUID, RecipeView> recipesByProduct() {
+        List<RecipeView> recipes = productionCatalogService.getRecipes();
+        Map<UUID, RecipeView> recipesById = new HashMap<>();
+        for (RecipeView recipe : recipes) {
+            recipesById.put(recipe.getId(), recipe);
+        }
+
+        Map<UUID, RecipeView> byProduct = new LinkedHashMap<>();
+        for (ProductionItemView item : productionItemRepository.findActiveViews()) {
+            RecipeView linked = item.getRecipeId() != null ? recipesById.get(item.getRecipeId()) : null;
+            if (linked != null) {
+                byProduct.put(item.getId(), linked);
+            }
+        }
+        // Recipes come ordered by name
+        for (RecipeView recipe : recipes) {
+            byProduct.putIfAbsent(recipe.getProductItemId(), recipe);
+        }
+        return byProduct;
+    }
+}
@@ -2,7 +2,9 @@ package com.iowaicecreamconcepts.api.production.service;
 
 import com.iowaicecreamconcepts.api.production.model.ProductionRequest;
 import com.iowaicecreamconcepts.api.production.repository.ProductionRequestRepository;
+import com.iowaicecreamconcepts.api.stream.dto.ChangeEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -14,6 +16,8 @@ import java.util.UUID;
 public class ProductionRequestService {
 
     private final ProductionRequestRepository productionRequestRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProductionSchedule productionSchedule;
 
     public ProductionRequest createRequest(UUID productItemId, UUID locationId, UUID requestedBy, 
                                          LocalDateTime neededBy, Double targetQuantity, String unit,
@@ -30,7 +34,9 @@ public class ProductionRequestService {
                 .reason(reason)
                 .build();
 
-        return productionRequestRepository.save(request);
+        ProductionRequest savedRequest = productionRequestRepository.save(request);
+        eventPublisher.publishEvent(ChangeEvent.request(savedRequest));
+        return savedRequest;
     }
 
     public List<ProductionRequest> getRequestsByStatus(ProductionRequest.Status status) {
@@ -42,7 +48,11 @@ public class ProductionRequestService {
     }
 
     public List<ProductionRequest> getOverdueRequests() {
-        return productionRequestRepository.findOverdueRequests(LocalDateTime.now());
+        return productionSchedule.overdue(LocalDateTime.now(), null);
+    }
+
+    public List<ProductionRequest> getNextJobs(UUID locationId, int limit) {
+        return productionSchedule.nextJobs(locationId, limit);
     }
 
     public ProductionRequest getRequest(UUID requestId) {
@@ -53,7 +63,9 @@ public class ProductionRequestService {
     public ProductionRequest updateRequestStatus(UUID requestId, ProductionRequest.Status status) {
         ProductionRequest request = getRequest(requestId);
         request.setStatus(status);
-        return productionRequestRepository.save(request);
+        ProductionRequest savedRequest = productionRequestRepository.save(request);
+        eventPublisher.publishEvent(ChangeEvent.request(savedRequest));
+        return savedRequest;
     }
 
     public void deleteRequest(UUID requestId) {
@@ -62,5 +74,6 @@ public class ProductionRequestService {
             throw new RuntimeException("Cannot delete request that is not in OPEN status");
         }
         productionRequestRepository.deleteById(requestId);
+        eventPublisher.publishEvent(ChangeEvent.requestDeleted(request));
     }
 }
\ No newline at end of file
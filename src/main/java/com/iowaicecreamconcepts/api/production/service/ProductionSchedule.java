@@ -0,0 +1,208 @@
+package com.iowaicecreamconcepts.api.production.service;
+
+import com.iowaicecreamconcepts.api.production.model.ProductionRequest;
+import com.iowaicecreamconcepts.api.production.repository.ProductionRequestRepository;
+import com.iowaicecreamconcepts.api.stream.dto.ChangeEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory schedule of active production requests.
+ *
+ * <p>Open requests are kept in one {@link IndexedRequestHeap} per location, ordered by priority (HIGH
+ * first), then {@code neededBy}, then {@code createdAt}. Each location's next jobs are cached and only
+ * recomputed after that location changes, so reading them is a list lookup. Open and in-progress
+ * requests are also kept ordered by {@code neededBy}, so overdue requests are a head of that set.
+ *
+ * <p>The schedule follows committed request changes and is reloaded from the database periodically to
+ * pick up changes made by other instances. Changes that commit while a reload's query runs are recorded
+ * and replayed over the reloaded state, so a reload never rolls them back.
+ */
+@Slf4j
+@Component
+public class ProductionSchedule {
+
+    static final Comparator<ProductionRequest> JOB_ORDER = Comparator
+            .comparing(ProductionRequest::getPriority, Comparator.reverseOrder())
+            .thenComparing(ProductionRequest::getNeededBy)
+            .thenComparing(ProductionRequest::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(ProductionRequest::getId);
+
+    private static final Comparator<ProductionRequest> DEADLINE_ORDER = Comparator
+            .comparing(ProductionRequest::getNeededBy)
+            .thenComparing(ProductionRequest::getId);
+
+    private final ProductionRequestRepository productionRequestRepository;
+    private final int maxNextJobs;
+
+    private final Map<UUID, ProductionRequest> active = new HashMap<>();
+    private final Map<UUID, IndexedRequestHeap> openByLocation = new HashMap<>();
+    private final Map<UUID, List<ProductionRequest>> nextJobsByLocation = new HashMap<>();
+    private final NavigableSet<ProductionRequest> byDeadline = new TreeSet<>(DEADLINE_ORDER);
+
+    // Held across the reload query, so not a monitor: a virtual thread blocked on JDBC would pin its carrier
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    // Non-null while a reload's query runs
+    private List<Runnable> changesDuringReload;
+
+    public ProductionSchedule(ProductionRequestRepository productionRequestRepository,
+                              @Value("${app.schedule.maxNextJobs:50}") int maxNextJobs) {
+        this.productionRequestRepository = productionRequestRepository;
+        this.maxNextJobs = maxNextJobs;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.schedule.resyncMs:300000}", initialDelayString = "${app.schedule.resyncMs:300000}")
+    public void reload() {
+        reloadLock.lock();
+        try {
+            synchronized (this) {
+                changesDuringReload = new ArrayList<>();
+            }
+            List<ProductionRequest> requests;
+            try {
+                requests = productionRequestRepository.findByStatusInOrderByNeededByAsc(ProductionPlanningService.PLANNED_STATUSES);
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    changesDuringReload = null;
+                }
+                throw e;
+            }
+            synchronized (this) {
+                active.clear();
+                openByLocation.clear();
+                nextJobsByLocation.clear();
+                byDeadline.clear();
+                requests.forEach(request -> add(copyOf(request)));
+                List<Runnable> replay = changesDuringReload;
+                changesDuringReload = null;
+                replay.forEach(Runnable::run);
+            }
+            log.debug("Loaded {} active production requests into the schedule", requests.size());
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChange(ChangeEvent event) {
+        if (event.getType() != ChangeEvent.Type.REQUEST) {
+            return;
+        }
+        if (event.getData() instanceof ProductionRequest request) {
+            update(request);
+        } else if (event.getAction() == ChangeEvent.Action.DELETED && event.getData() instanceof Map<?, ?> data
+                && data.get("id") instanceof UUID requestId) {
+            remove(requestId);
+        }
+    }
+
+    public synchronized void update(ProductionRequest request) {
+        ProductionRequest copy = copyOf(request);
+        if (changesDuringReload != null) {
+            changesDuringReload.add(() -> apply(copy));
+        }
+        apply(copy);
+    }
+
+    public synchronized void remove(UUID requestId) {
+        if (changesDuringReload != null) {
+            changesDuringReload.add(() -> removeEntry(requestId));
+        }
+        removeEntry(requestId);
+    }
+
+    /**
+     * The next open requests to work on at a location, most urgent first.
+     */
+    public synchronized List<ProductionRequest> nextJobs(UUID locationId, int limit) {
+        IndexedRequestHeap heap = openByLocation.get(locationId);
+        if (heap == null) {
+            return List.of();
+        }
+        List<ProductionRequest> next = nextJobsByLocation.computeIfAbsent(locationId, id -> List.copyOf(heap.top(maxNextJobs)));
+        return next.subList(0, Math.min(Math.max(limit, 0), next.size()));
+    }
+
+    /**
+     * Open and in-progress requests whose {@code neededBy} has passed, earliest first.
+     *
+     * @param locationIds locations to include, or null for all
+     */
+    public synchronized List<ProductionRequest> overdue(LocalDateTime now, Collection<UUID> locationIds) {
+        List<ProductionRequest> overdue = new ArrayList<>();
+        for (ProductionRequest request : byDeadline) {
+            if (!request.getNeededBy().isBefore(now)) {
+                break;
+            }
+            if (locationIds == null || locationIds.contains(request.getLocationId())) {
+                overdue.add(request);
+            }
+        }
+        return overdue;
+    }
+
+    // The heap and deadline set are keyed on mutable fields, so they must never share the caller's entity
+    private static ProductionRequest copyOf(ProductionRequest request) {
+        return ProductionRequest.builder()
+                .id(request.getId())
+                .productItemId(request.getProductItemId())
+                .locationId(request.getLocationId())
+                .requestedBy(request.getRequestedBy())
+                .neededBy(request.getNeededBy())
+                .targetQuantity(request.getTargetQuantity())
+                .unit(request.getUnit())
+                .priority(request.getPriority())
+                .reason(request.getReason())
+                .status(request.getStatus())
+                .createdAt(request.getCreatedAt())
+                .updatedAt(request.getUpdatedAt())
+                .build();
+    }
+
+    private void apply(ProductionRequest copy) {
+        removeEntry(copy.getId());
+        if (ProductionPlanningService.PLANNED_STATUSES.contains(copy.getStatus())) {
+            // Replays run the same change again, so each application gets its own copy
+            add(copyOf(copy));
+        }
+    }
+
+    private void removeEntry(UUID requestId) {
+        ProductionRequest previous = active.remove(requestId);
+        if (previous == null) {
+            return;
+        }
+        byDeadline.remove(previous);
+        IndexedRequestHeap heap = openByLocation.get(previous.getLocationId());
+        if (heap != null && heap.remove(requestId)) {
+            nextJobsByLocation.remove(previous.getLocationId());
+        }
+    }
+
+    private void add(ProductionRequest request) {
+        active.put(request.getId(), request);
+        byDeadline.add(request);
+        if (request.getStatus() == ProductionRequest.Status.OPEN) {
+            openByLocation.computeIfAbsent(request.getLocationId(), id -> new IndexedRequestHeap(JOB_ORDER)).upsert(request);
+            nextJobsByLocation.remove(request.getLocationId());
+        }
+    }
+}
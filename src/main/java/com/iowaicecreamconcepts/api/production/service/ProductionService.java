@@ -1,18 +1,27 @@
 package com.iowaicecreamconcepts.api.production.service;
 
-import com.iowaicecreamconcepts.api.inventory.model.CurrentStock;
+import com.iowaicecreamconcepts.api.common.metrics.OperationMetrics;
+import com.iowaicecreamconcepts.api.common.metrics.TimedOperation;
+import com.iowaicecreamconcepts.api.inventory.model.StockMovement;
 import com.iowaicecreamconcepts.api.inventory.repository.CurrentStockRepository;
+import com.iowaicecreamconcepts.api.inventory.service.StockLedgerService;
+import com.iowaicecreamconcepts.api.outbox.dto.StockEventPayload;
+import com.iowaicecreamconcepts.api.outbox.model.OutboxEvent;
+import com.iowaicecreamconcepts.api.outbox.service.OutboxService;
 import com.iowaicecreamconcepts.api.production.model.ProductionBatch;
 import com.iowaicecreamconcepts.api.production.model.WasteEvent;
 import com.iowaicecreamconcepts.api.production.repository.ProductionBatchRepository;
 import com.iowaicecreamconcepts.api.production.repository.WasteEventRepository;
+import com.iowaicecreamconcepts.api.stream.dto.ChangeEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -22,29 +31,44 @@ public class ProductionService {
     private final ProductionBatchRepository batchRepository;
     private final WasteEventRepository wasteEventRepository;
     private final CurrentStockRepository currentStockRepository;
-
-    @Transactional
+    private final StockLedgerService stockLedgerService;
+    private final LotCodeAllocator lotCodeAllocator;
+    private final OutboxService outboxService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OperationMetrics operationMetrics;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Not transactional itself: the lot code is allocated first, while this thread holds no pooled
+     * connection, and the batch is then written in its own transaction.
+     */
+    @TimedOperation("production.batch.create")
     public ProductionBatch createBatch(UUID productItemId, Double quantityMade, String unit,
                                      UUID storageLocationId, UUID madeBy, String notes) {
-        
-        String lotCode = generateLotCode();
-        
-        ProductionBatch batch = ProductionBatch.builder()
-                .productItemId(productItemId)
-                .quantityMade(quantityMade)
-                .unit(unit)
-                .storageLocationId(storageLocationId)
-                .madeBy(madeBy)
-                .lotCode(lotCode)
-                .notes(notes)
-                .build();
-
-        ProductionBatch savedBatch = batchRepository.save(batch);
-
-        // Update current stock
-        updateCurrentStock(productItemId, storageLocationId, quantityMade);
-
-        return savedBatch;
+        operationMetrics.tagLocation(storageLocationId);
+        String lotCode = lotCodeAllocator.nextLotCode();
+
+        return transactionTemplate.execute(status -> {
+            ProductionBatch batch = ProductionBatch.builder()
+                    .productItemId(productItemId)
+                    .quantityMade(quantityMade)
+                    .unit(unit)
+                    .storageLocationId(storageLocationId)
+                    .madeBy(madeBy)
+                    .lotCode(lotCode)
+                    .notes(notes)
+                    .build();
+
+            ProductionBatch savedBatch = batchRepository.save(batch);
+
+            // Update current stock
+            updateCurrentStock(productItemId, storageLocationId, quantityMade, StockMovement.Type.PRODUCED, savedBatch.getId());
+
+            outboxService.append(OutboxEvent.Type.BATCH_CREATED, savedBatch.getId(), storageLocationId,
+                    stockPayload(productItemId, quantityMade, unit));
+            eventPublisher.publishEvent(ChangeEvent.batch(savedBatch));
+            return savedBatch;
+        });
     }
 
     @Transactional
@@ -58,12 +82,16 @@ public class ProductionService {
         batch.setStatus(ProductionBatch.Status.COMPLETED);
         batch.setFinishedAt(LocalDateTime.now());
         
-        return batchRepository.save(batch);
+        ProductionBatch savedBatch = batchRepository.save(batch);
+        eventPublisher.publishEvent(ChangeEvent.batch(savedBatch));
+        return savedBatch;
     }
 
     @Transactional
+    @TimedOperation("production.batch.runout")
     public ProductionBatch runOutBatch(UUID batchId) {
         ProductionBatch batch = getBatch(batchId);
+        operationMetrics.tagLocation(batch.getStorageLocationId());
         
         if (batch.getStatus() != ProductionBatch.Status.COMPLETED) {
             throw new RuntimeException("Can only run out completed batches");
@@ -72,17 +100,25 @@ public class ProductionService {
         batch.setStatus(ProductionBatch.Status.RUN_OUT);
 
         // Decrease current stock
-        updateCurrentStock(batch.getProductItemId(), batch.getStorageLocationId(), -batch.getQuantityMade());
+        updateCurrentStock(batch.getProductItemId(), batch.getStorageLocationId(), -batch.getQuantityMade(),
+                StockMovement.Type.RUN_OUT, batchId);
 
-        return batchRepository.save(batch);
+        ProductionBatch savedBatch = batchRepository.save(batch);
+        outboxService.append(OutboxEvent.Type.BATCH_RUN_OUT, savedBatch.getId(), savedBatch.getStorageLocationId(),
+                stockPayload(savedBatch.getProductItemId(), savedBatch.getQuantityMade(), savedBatch.getUnit()));
+        eventPublisher.publishEvent(ChangeEvent.batch(savedBatch));
+        return savedBatch;
     }
 
     @Transactional
+    @TimedOperation("production.waste.record")
     public WasteEvent recordWaste(UUID batchId, UUID itemId, Double quantity, String unit,
                                 WasteEvent.WasteReason reason, UUID recordedBy, String notes) {
-        
+        UUID locationId = null;
         if (batchId != null) {
             ProductionBatch batch = getBatch(batchId);
+            locationId = batch.getStorageLocationId();
+            operationMetrics.tagLocation(locationId);
             if (batch.getStatus() == ProductionBatch.Status.RUN_OUT) {
                 throw new RuntimeException("Cannot record waste for run out batch");
             }
@@ -102,10 +138,15 @@ public class ProductionService {
 
         // Update current stock by decreasing it
         if (batchId != null) {
-            ProductionBatch batch = getBatch(batchId);
-            updateCurrentStock(itemId, batch.getStorageLocationId(), -quantity);
+            updateCurrentStock(itemId, locationId, -quantity, StockMovement.Type.WASTED, savedWasteEvent.getId());
         }
 
+        StockEventPayload payload = stockPayload(itemId, quantity, unit);
+        payload.setReason(reason.name());
+        payload.setBatchId(batchId);
+        payload.setRecordedAt(savedWasteEvent.getRecordedAt());
+        outboxService.append(OutboxEvent.Type.WASTE_RECORDED, savedWasteEvent.getId(), locationId, payload);
+
         return savedWasteEvent;
     }
 
@@ -126,22 +167,17 @@ public class ProductionService {
         return wasteEventRepository.findByItemIdOrderByRecordedAtDesc(itemId);
     }
 
-    private String generateLotCode() {
-        String datePrefix = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        long count = batchRepository.countByLotCodeStartingWith(datePrefix);
-        return String.format("%s-%03d", datePrefix, count + 1);
+    private void updateCurrentStock(UUID itemId, UUID locationId, Double quantityChange,
+                                    StockMovement.Type movementType, UUID sourceId) {
+        currentStockRepository.applyDelta(itemId, locationId, quantityChange);
+        stockLedgerService.recordDelta(itemId, locationId, movementType, quantityChange, sourceId);
+        eventPublisher.publishEvent(ChangeEvent.stock(locationId, List.of(itemId)));
     }
 
-    private void updateCurrentStock(UUID itemId, UUID locationId, Double quantityChange) {
-        CurrentStock currentStock = currentStockRepository
-                .findByItemIdAndLocationId(itemId, locationId)
-                .orElse(CurrentStock.builder()
-                        .itemId(itemId)
-                        .locationId(locationId)
-                        .quantity(0.0)
-                        .build());
-
-        currentStock.setQuantity(currentStock.getQuantity() + quantityChange);
-        currentStockRepository.save(currentStock);
+    private static StockEventPayload stockPayload(UUID itemId, Double quantity, String unit) {
+        return StockEventPayload.builder()
+                .quantities(Map.of(itemId, quantity))
+                .unit(unit)
+                .build();
     }
-}
\ No newline at end of file
+}
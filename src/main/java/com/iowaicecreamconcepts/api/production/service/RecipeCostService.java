@@ -0,0 +1,181 @@
+package com.iowaicecreamconcepts.api.production.service;
+
+import com.iowaicecreamconcepts.api.inventory.dto.UnitCostsChangedEvent;
+import com.iowaicecreamconcepts.api.production.dto.IngredientCost;
+import com.iowaicecreamconcepts.api.production.dto.RecipeCost;
+import com.iowaicecreamconcepts.api.production.repository.RecipeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Keeps recipe, ingredient line and production item costs in step with inventory unit costs.
+ *
+ * <p>A recipe depends on each item it uses; a recipe whose product is used by another recipe is an
+ * ingredient of it. When unit costs change, only the recipes reachable from the changed items are
+ * loaded, costed in dependency order so sub-recipes are priced before the recipes that use them, and
+ * only rows whose cost actually changed are written back in JDBC batches.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecipeCostService {
+
+    // Cost columns use the default numeric(38,2) mapping
+    static final int COST_SCALE = 2;
+
+    private final RecipeRepository recipeRepository;
+
+    @EventListener
+    public void onUnitCostsChanged(UnitCostsChangedEvent event) {
+        recompute(event.getItemIds());
+    }
+
+    /**
+     * Recomputes every recipe that uses any of the given items, directly or through sub-recipes.
+     * Returns the number of recipes whose cost changed.
+     */
+    @Transactional
+    public int recompute(Collection<UUID> changedItemIds) {
+        Map<UUID, RecipeCost> affected = findAffectedRecipes(changedItemIds);
+        if (affected.isEmpty()) {
+            return 0;
+        }
+
+        Map<UUID, List<IngredientCost>> ingredientsByRecipe = new HashMap<>();
+        for (IngredientCost ingredient : recipeRepository.findIngredientCosts(affected.keySet())) {
+            ingredientsByRecipe.computeIfAbsent(ingredient.getRecipeId(), id -> new ArrayList<>()).add(ingredient);
+        }
+
+        // Products of affected recipes are priced as they are computed; everything else comes from the database
+        Map<UUID, UUID> affectedRecipeByProduct = new HashMap<>();
+        affected.values().forEach(recipe -> affectedRecipeByProduct.put(recipe.getProductItemId(), recipe.getRecipeId()));
+        Set<UUID> externalItemIds = new HashSet<>();
+        ingredientsByRecipe.values().forEach(ingredients -> ingredients.forEach(ingredient -> {
+            if (!affectedRecipeByProduct.containsKey(ingredient.getIngredientItemId())) {
+                externalItemIds.add(ingredient.getIngredientItemId());
+            }
+        }));
+        Map<UUID, BigDecimal> unitCosts = recipeRepository.findUnitCosts(externalItemIds);
+
+        List<IngredientCost> changedIngredients = new ArrayList<>();
+        List<RecipeCost> changedRecipes = new ArrayList<>();
+        List<UUID> order = topologicalOrder(affected, ingredientsByRecipe, affectedRecipeByProduct);
+        for (UUID recipeId : order) {
+            RecipeCost recipe = affected.get(recipeId);
+            BigDecimal totalCost = BigDecimal.ZERO;
+            for (IngredientCost ingredient : ingredientsByRecipe.getOrDefault(recipeId, List.of())) {
+                BigDecimal unitCost = unitCosts.get(ingredient.getIngredientItemId());
+                BigDecimal lineCost = unitCost != null
+                        ? unitCost.multiply(BigDecimal.valueOf(ingredient.getQuantity())).setScale(COST_SCALE, RoundingMode.HALF_UP)
+                        : null;
+                if (!sameCost(unitCost, ingredient.getUnitCost()) || !sameCost(lineCost, ingredient.getTotalCost())) {
+                    ingredient.setUnitCost(unitCost);
+                    ingredient.setTotalCost(lineCost);
+                    changedIngredients.add(ingredient);
+                }
+                if (lineCost != null) {
+                    totalCost = totalCost.add(lineCost);
+                }
+            }
+
+            BigDecimal costPerUnit = totalCost.divide(BigDecimal.valueOf(recipe.getYieldQuantity()), COST_SCALE, RoundingMode.HALF_UP);
+            unitCosts.put(recipe.getProductItemId(), costPerUnit);
+            if (!sameCost(totalCost, recipe.getTotalCost()) || !sameCost(costPerUnit, recipe.getCostPerUnit())) {
+                recipe.setTotalCost(totalCost);
+                recipe.setCostPerUnit(costPerUnit);
+                changedRecipes.add(recipe);
+            }
+        }
+
+        recipeRepository.updateIngredientCosts(changedIngredients);
+        recipeRepository.updateRecipeCosts(changedRecipes);
+        recipeRepository.updateProductionCosts(changedRecipes);
+
+        log.info("Recosted {} of {} recipes affected by {} changed items ({} ingredient lines updated)",
+                changedRecipes.size(), affected.size(), changedItemIds.size(), changedIngredients.size());
+        return changedRecipes.size();
+    }
+
+    /**
+     * Walks from the changed items to the recipes that use them, then from those recipes' products to
+     * the recipes that use them in turn, one query per level.
+     */
+    private Map<UUID, RecipeCost> findAffectedRecipes(Collection<UUID> changedItemIds) {
+        Map<UUID, RecipeCost> affected = new LinkedHashMap<>();
+        Set<UUID> frontier = new HashSet<>(changedItemIds);
+        while (!frontier.isEmpty()) {
+            Set<UUID> recipeIds = recipeRepository.findRecipeIdsUsing(frontier);
+            recipeIds.removeAll(affected.keySet());
+            frontier = new HashSet<>();
+            if (recipeIds.isEmpty()) {
+                break;
+            }
+            for (RecipeCost recipe : recipeRepository.findRecipeCosts(recipeIds)) {
+                affected.put(recipe.getRecipeId(), recipe);
+                frontier.add(recipe.getProductItemId());
+            }
+        }
+        return affected;
+    }
+
+    private List<UUID> topologicalOrder(Map<UUID, RecipeCost> affected,
+                                        Map<UUID, List<IngredientCost>> ingredientsByRecipe,
+                                        Map<UUID, UUID> affectedRecipeByProduct) {
+        Map<UUID, Integer> pending = new HashMap<>();
+        Map<UUID, List<UUID>> dependents = new HashMap<>();
+        for (UUID recipeId : affected.keySet()) {
+            Set<UUID> dependencies = new HashSet<>();
+            for (IngredientCost ingredient : ingredientsByRecipe.getOrDefault(recipeId, List.of())) {
+                UUID subRecipeId = affectedRecipeByProduct.get(ingredient.getIngredientItemId());
+                if (subRecipeId != null && dependencies.add(subRecipeId)) {
+                    dependents.computeIfAbsent(subRecipeId, id -> new ArrayList<>()).add(recipeId);
+                }
+            }
+            pending.put(recipeId, dependencies.size());
+        }
+
+        Deque<UUID> ready = new ArrayDeque<>();
+        pending.forEach((recipeId, count) -> {
+            if (count == 0) {
+                ready.add(recipeId);
+            }
+        });
+        List<UUID> order = new ArrayList<>(affected.size());
+        while (!ready.isEmpty()) {
+            UUID recipeId = ready.poll();
+            order.add(recipeId);
+            for (UUID dependent : dependents.getOrDefault(recipeId, List.of())) {
+                if (pending.merge(dependent, -1, Integer::sum) == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+
+        if (order.size() < affected.size()) {
+            // Recipes on a cycle have no well-defined cost; leave them as they are
+            log.warn("Skipping {} recipes on or downstream of an ingredient cycle", affected.size() - order.size());
+        }
+        return order;
+    }
+
+    private static boolean sameCost(BigDecimal a, BigDecimal b) {
+        return a == null ? b == null : b != null && a.compareTo(b) == 0;
+    }
+}
@@ -0,0 +1,103 @@
+package com.iowaicecreamconcepts.api.production.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.iowaicecreamconcepts.api.production.model.WasteEvent;
+import com.iowaicecreamconcepts.api.production.repository.WasteEventRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes waste events straight from a database cursor to an output stream. Each event is detached
+ * once written, so memory use does not depend on the size of the export.
+ */
+@Service
+public class WasteExportService {
+
+    private static final String CSV_HEADER = "id,batchId,itemId,quantity,unit,reason,recordedBy,recordedAt,notes";
+
+    public enum Format {
+        NDJSON, CSV
+    }
+
+    private final WasteEventRepository wasteEventRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public WasteExportService(WasteEventRepository wasteEventRepository, EntityManager entityManager,
+                              ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        this.wasteEventRepository = wasteEventRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public long export(LocalDateTime from, LocalDateTime to, Format format, OutputStream out) {
+        if (!from.isBefore(to)) {
+            throw new RuntimeException("Export range start must be before its end");
+        }
+
+        Long written = readOnlyTransaction.execute(status -> {
+            try (Stream<WasteEvent> events = wasteEventRepository.streamByRecordedAtRange(from, to)) {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+                if (format == Format.CSV) {
+                    writer.write(CSV_HEADER);
+                    writer.write('\n');
+                }
+
+                long count = 0;
+                Iterator<WasteEvent> iterator = events.iterator();
+                while (iterator.hasNext()) {
+                    WasteEvent event = iterator.next();
+                    writer.write(format == Format.CSV ? toCsv(event) : objectMapper.writeValueAsString(event));
+                    writer.write('\n');
+                    entityManager.detach(event);
+                    count++;
+                }
+                writer.flush();
+                return count;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return written != null ? written : 0L;
+    }
+
+    private String toCsv(WasteEvent event) {
+        return String.join(",",
+                csv(event.getId()),
+                csv(event.getBatchId()),
+                csv(event.getItemId()),
+                csv(event.getQuantity()),
+                csv(event.getUnit()),
+                csv(event.getReason()),
+                csv(event.getRecordedBy()),
+                csv(event.getRecordedAt()),
+                csv(event.getNotes()));
+    }
+
+    private String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
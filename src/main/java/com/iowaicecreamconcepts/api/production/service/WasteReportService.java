@@ -0,0 +1,88 @@
+package com.iowaicecreamconcepts.api.production.service;
+
+import com.iowaicecreamconcepts.api.production.dto.WasteReportRow;
+import com.iowaicecreamconcepts.api.production.dto.WasteReportRow.GroupBy;
+import com.iowaicecreamconcepts.api.production.model.WasteRollup.Granularity;
+import com.iowaicecreamconcepts.api.production.repository.WasteRollupRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Answers waste reports from the rollup tables. Whole months in the range are read from monthly rows
+ * and only the partial months at either end from daily rows, so a 90-day report touches a handful of
+ * rows per group whatever the raw event volume.
+ */
+@Service
+@RequiredArgsConstructor
+public class WasteReportService {
+
+    static final int DEFAULT_DAYS = 90;
+    static final int MAX_DAYS = 3660;
+
+    private final WasteRollupRepository wasteRollupRepository;
+
+    /**
+     * Waste in {@code [from, to)} grouped as requested. Defaults to the last 90 days including today.
+     */
+    public List<WasteReportRow> getReport(LocalDate from, LocalDate to, UUID locationId, GroupBy groupBy) {
+        LocalDate end = to != null ? to : LocalDate.now().plusDays(1);
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_DAYS);
+        GroupBy grouping = groupBy != null ? groupBy : GroupBy.REASON;
+        if (start.isAfter(end)) {
+            throw new RuntimeException("Report start must not be after its end");
+        }
+        if (start.plusDays(MAX_DAYS).isBefore(end)) {
+            throw new RuntimeException("Report range is limited to " + MAX_DAYS + " days");
+        }
+
+        Map<String, WasteReportRow> groups = new LinkedHashMap<>();
+        if (grouping == GroupBy.DAY) {
+            add(groups, Granularity.DAY, start, end, locationId, grouping);
+        } else {
+            LocalDate firstWholeMonth = start.getDayOfMonth() == 1 ? start : start.withDayOfMonth(1).plusMonths(1);
+            LocalDate endOfWholeMonths = end.withDayOfMonth(1);
+            if (firstWholeMonth.isBefore(endOfWholeMonths)) {
+                add(groups, Granularity.DAY, start, firstWholeMonth, locationId, grouping);
+                add(groups, Granularity.MONTH, firstWholeMonth, endOfWholeMonths, locationId, grouping);
+                add(groups, Granularity.DAY, endOfWholeMonths, end, locationId, grouping);
+            } else {
+                add(groups, Granularity.DAY, start, end, locationId, grouping);
+            }
+        }
+
+        List<WasteReportRow> rows = new ArrayList<>(groups.values());
+        if (grouping == GroupBy.DAY || grouping == GroupBy.MONTH) {
+            rows.sort(Comparator.comparing(WasteReportRow::getGroup));
+        } else {
+            rows.sort(Comparator.comparing(WasteReportRow::getTotalCost).reversed()
+                    .thenComparing(Comparator.comparingDouble(WasteReportRow::getQuantity).reversed()));
+        }
+        return rows;
+    }
+
+    private void add(Map<String, WasteReportRow> groups, Granularity granularity, LocalDate from, LocalDate to,
+                     UUID locationId, GroupBy grouping) {
+        if (!from.isBefore(to)) {
+            return;
+        }
+        for (WasteReportRow row : wasteRollupRepository.sumByGroup(granularity, from, to, locationId, grouping)) {
+            // Daily rows at the edges of a monthly report fold into their month
+            String group = grouping == GroupBy.MONTH && row.getGroup() != null
+                    ? LocalDate.parse(row.getGroup()).withDayOfMonth(1).toString()
+                    : row.getGroup();
+            WasteReportRow total = groups.computeIfAbsent(group, key -> new WasteReportRow(key, 0, 0.0, BigDecimal.ZERO));
+            total.setEventCount(total.getEventCount() + row.getEventCount());
+            total.setQuantity(total.getQuantity() + row.getQuantity());
+            total.setTotalCost(total.getTotalCost().add(row.getTotalCost() != null ? row.getTotalCost() : BigDecimal.ZERO));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.iowaicecreamconcepts.api.production.service;
+
+import com.iowaicecreamconcepts.api.outbox.dto.StockEventPayload;
+import com.iowaicecreamconcepts.api.outbox.model.OutboxEvent;
+import com.iowaicecreamconcepts.api.outbox.service.OutboxProjection;
+import com.iowaicecreamconcepts.api.production.repository.WasteRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Adds each recorded waste event to its daily and monthly rollups. Events are bucketed by the waste
+ * event's recorded time, as the rebuild does, and cost is priced at the item's cost when the event is dispatched.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WasteRollupProjection implements OutboxProjection {
+
+    private final WasteRollupRepository wasteRollupRepository;
+
+    @Override
+    public String getName() {
+        return "waste-rollups";
+    }
+
+    @Override
+    public void apply(OutboxEvent event, StockEventPayload payload) {
+        if (event.getType() != OutboxEvent.Type.WASTE_RECORDED || payload.getQuantities() == null) {
+            return;
+        }
+
+        // Events appended before recordedAt was carried fall back to the outbox time
+        LocalDate day = (payload.getRecordedAt() != null ? payload.getRecordedAt() : event.getCreatedAt()).toLocalDate();
+        for (Map.Entry<UUID, Double> entry : payload.getQuantities().entrySet()) {
+            BigDecimal cost = wasteRollupRepository.findUnitCost(entry.getKey()).multiply(BigDecimal.valueOf(entry.getValue()));
+            wasteRollupRepository.increment(day, entry.getKey(), event.getLocationId(), payload.getReason(), entry.getValue(), cost);
+        }
+    }
+
+    @Override
+    public void rebuild() {
+        int rows = wasteRollupRepository.rebuild();
+        log.info("Rebuilt {} waste rollup rows from waste events", rows);
+    }
+}
@@ -0,0 +1,36 @@
+package com.iowaicecreamconcepts.api.stream.controller;
+
+import com.iowaicecreamconcepts.api.auth.security.AuthenticatedUser;
+import com.iowaicecreamconcepts.api.auth.security.JwtAuthenticationToken;
+import com.iowaicecreamconcepts.api.stream.service.ChangeStreamService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/stream")
+@RequiredArgsConstructor
+public class ChangeStreamController {
+
+    private final ChangeStreamService changeStreamService;
+
+    /**
+     * Server-sent events for stock, batch and request changes. Clients load their snapshot from the
+     * regular endpoints when they receive {@code ready}, then apply the {@code stock}, {@code batch}
+     * and {@code request} events instead of polling. The stream is closed once the token it was
+     * opened with is revoked.
+     */
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@AuthenticationPrincipal AuthenticatedUser user,
+                                    JwtAuthenticationToken authentication,
+                                    @RequestParam(required = false) UUID locationId) {
+        return changeStreamService.subscribe(user, authentication.getClaims().getTokenVersion(), locationId);
+    }
+}
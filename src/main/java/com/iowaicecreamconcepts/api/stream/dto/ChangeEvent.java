@@ -0,0 +1,66 @@
+package com.iowaicecreamconcepts.api.stream.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.iowaicecreamconcepts.api.production.model.ProductionBatch;
+import com.iowaicecreamconcepts.api.production.model.ProductionRequest;
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A change to stock, a production batch or a production request. Published by the write paths and
+ * pushed to stream subscribers once the transaction commits.
+ *
+ * <p>Stock events carry only the item ids; the changed rows are read once after commit, not per
+ * subscriber.
+ */
+@Getter
+public class ChangeEvent {
+
+    public enum Type {
+        STOCK, BATCH, REQUEST
+    }
+
+    public enum Action {
+        UPSERTED, DELETED
+    }
+
+    private final Type type;
+    private final Action action;
+    private final UUID locationId;
+    private final Object data;
+
+    @JsonIgnore
+    private final List<UUID> itemIds;
+
+    private ChangeEvent(Type type, Action action, UUID locationId, Object data, List<UUID> itemIds) {
+        this.type = type;
+        this.action = action;
+        this.locationId = locationId;
+        this.data = data;
+        this.itemIds = itemIds;
+    }
+
+    public static ChangeEvent stock(UUID locationId, Collection<UUID> itemIds) {
+        return new ChangeEvent(Type.STOCK, Action.UPSERTED, locationId, null, List.copyOf(itemIds));
+    }
+
+    public static ChangeEvent batch(ProductionBatch batch) {
+        return new ChangeEvent(Type.BATCH, Action.UPSERTED, batch.getStorageLocationId(), batch, List.of());
+    }
+
+    public static ChangeEvent request(ProductionRequest request) {
+        return new ChangeEvent(Type.REQUEST, Action.UPSERTED, request.getLocationId(), request, List.of());
+    }
+
+    public static ChangeEvent requestDeleted(ProductionRequest request) {
+        return new ChangeEvent(Type.REQUEST, Action.DELETED, request.getLocationId(), Map.of("id", request.getId()), List.of());
+    }
+
+    public ChangeEvent withData(Object data) {
+        return new ChangeEvent(type, action, locationId, data, itemIds);
+    }
+}
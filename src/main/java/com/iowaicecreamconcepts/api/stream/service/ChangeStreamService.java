@@ -0,0 +1,275 @@
+package com.iowaicecreamconcepts.api.stream.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.iowaicecreamconcepts.api.auth.model.RequiredPermission;
+import com.iowaicecreamconcepts.api.auth.security.AuthenticatedUser;
+import com.iowaicecreamconcepts.api.auth.service.TokenVersionService;
+import com.iowaicecreamconcepts.api.inventory.repository.CurrentStockRepository;
+import com.iowaicecreamconcepts.api.stream.dto.ChangeEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pushes committed changes to server-sent event subscribers.
+ *
+ * <p>Writers only hand the event to a single dispatch thread, so publishing never waits on a client.
+ * The dispatch thread resolves and serializes each event once, then offers it to the bounded queue of
+ * every subscriber whose locations and permissions match. A small sender pool drains the queues, at
+ * most one drain per subscriber at a time so events arrive in order. A subscriber whose queue fills up
+ * is disconnected; on reconnect it receives {@code ready} and reloads its snapshot.
+ *
+ * <p>Locations and permissions are taken from the token the stream was opened with. Each heartbeat
+ * re-checks that token's version, so a user who is deactivated or whose permissions change loses the
+ * stream within one heartbeat of the revocation reaching {@link TokenVersionService}.
+ */
+@Slf4j
+@Service
+public class ChangeStreamService {
+
+    private static final Map<ChangeEvent.Type, RequiredPermission> READ_PERMISSIONS = Map.of(
+            ChangeEvent.Type.STOCK, RequiredPermission.of("inventory:item", "r"),
+            ChangeEvent.Type.BATCH, RequiredPermission.of("production:batch", "r"),
+            ChangeEvent.Type.REQUEST, RequiredPermission.of("production:request", "r"));
+
+    private final CurrentStockRepository currentStockRepository;
+    private final TokenVersionService tokenVersionService;
+    private final ObjectMapper objectMapper;
+    private final int clientQueueSize;
+    private final long timeoutMs;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong sequence = new AtomicLong();
+    private final ScheduledExecutorService dispatchExecutor;
+    private final ExecutorService senderExecutor;
+
+    public ChangeStreamService(CurrentStockRepository currentStockRepository,
+                               TokenVersionService tokenVersionService,
+                               ObjectMapper objectMapper,
+                               @Value("${app.stream.clientQueueSize:256}") int clientQueueSize,
+                               @Value("${app.stream.timeoutMs:1800000}") long timeoutMs,
+                               @Value("${app.stream.heartbeatMs:20000}") long heartbeatMs,
+                               @Value("${app.stream.senderThreads:4}") int senderThreads) {
+        this.currentStockRepository = currentStockRepository;
+        this.tokenVersionService = tokenVersionService;
+        this.objectMapper = objectMapper;
+        this.clientQueueSize = clientQueueSize;
+        this.timeoutMs = timeoutMs;
+
+        this.dispatchExecutor = Executors.newSingleThreadScheduledExecutor(threadFactory("change-stream-dispatch"));
+        this.senderExecutor = Executors.newFixedThreadPool(senderThreads, threadFactory("change-stream-sender"));
+        this.dispatchExecutor.scheduleAtFixedRate(this::heartbeat, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatchExecutor.shutdownNow();
+        senderExecutor.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    /**
+     * Opens a stream limited to the user's locations (optionally narrowed to one) and to the change
+     * types the user can read, for as long as {@code tokenVersion} stays current.
+     */
+    public SseEmitter subscribe(AuthenticatedUser user, Long tokenVersion, UUID locationId) {
+        Set<UUID> scope = user.locationScope();
+        if (locationId != null && scope != null && !scope.contains(locationId)) {
+            throw new AccessDeniedException("Location is not assigned to this user");
+        }
+
+        EnumSet<ChangeEvent.Type> types = EnumSet.noneOf(ChangeEvent.Type.class);
+        READ_PERMISSIONS.forEach((type, permission) -> {
+            if (user.getPermissionSet().allows(permission)) {
+                types.add(type);
+            }
+        });
+        if (types.isEmpty()) {
+            throw new AccessDeniedException("No permission to read stock or production changes");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, user.getId(), tokenVersion,
+                locationId != null ? Set.of(locationId) : scope, types, new ArrayBlockingQueue<>(clientQueueSize));
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+
+        subscribers.add(subscriber);
+        offer(subscriber, new Message(sequence.incrementAndGet(), "ready", "{}"));
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChange(ChangeEvent event) {
+        if (!subscribers.isEmpty()) {
+            dispatchExecutor.execute(() -> dispatch(event));
+        }
+    }
+
+    void dispatch(ChangeEvent event) {
+        if (subscribers.stream().noneMatch(subscriber -> subscriber.accepts(event))) {
+            return;
+        }
+
+        try {
+            ChangeEvent resolved = event.getType() == ChangeEvent.Type.STOCK
+                    ? event.withData(currentStockRepository.findByLocationIdAndItemIdIn(event.getLocationId(), event.getItemIds()))
+                    : event;
+            Message message = new Message(sequence.incrementAndGet(), event.getType().name().toLowerCase(),
+                    objectMapper.writeValueAsString(resolved));
+
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.accepts(event)) {
+                    offer(subscriber, message);
+                }
+            }
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Failed to dispatch {} change for location {}", event.getType(), event.getLocationId(), e);
+        }
+    }
+
+    void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            boolean current;
+            try {
+                current = tokenVersionService.isCurrent(subscriber.userId, subscriber.tokenVersion);
+            } catch (RuntimeException e) {
+                // Keep the stream and check again on the next heartbeat; throwing would cancel the schedule
+                log.warn("Failed to check the token version of a stream subscriber", e);
+                current = true;
+            }
+            if (!current) {
+                log.debug("Disconnecting stream subscriber {} after its token was revoked", subscriber.userId);
+                disconnect(subscriber);
+                continue;
+            }
+            offer(subscriber, Message.HEARTBEAT);
+        }
+    }
+
+    private void offer(Subscriber subscriber, Message message) {
+        if (!subscriber.queue.offer(message)) {
+            // The client is too far behind; drop it rather than buffer without bound
+            log.debug("Disconnecting slow stream subscriber after {} queued events", clientQueueSize);
+            disconnect(subscriber);
+            return;
+        }
+        if (subscriber.draining.compareAndSet(false, true)) {
+            senderExecutor.execute(() -> drain(subscriber));
+        }
+    }
+
+    // Drops queued events; the drain completes the emitter
+    private void disconnect(Subscriber subscriber) {
+        subscriber.closed = true;
+        subscriber.queue.clear();
+        remove(subscriber);
+        if (subscriber.draining.compareAndSet(false, true)) {
+            senderExecutor.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            Message message;
+            while (!subscriber.closed && (message = subscriber.queue.poll()) != null) {
+                subscriber.emitter.send(message.toEvent());
+            }
+            if (subscriber.closed) {
+                subscriber.emitter.complete();
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Client went away; the container reports it through the emitter callbacks as well
+            subscriber.closed = true;
+            remove(subscriber);
+        } finally {
+            subscriber.draining.set(false);
+        }
+
+        // An offer may have landed after the last poll but before the flag was cleared
+        if (!subscriber.closed && !subscriber.queue.isEmpty() && subscriber.draining.compareAndSet(false, true)) {
+            senderExecutor.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscriber.closed = true;
+        subscribers.remove(subscriber);
+    }
+
+    private static ThreadFactory threadFactory(String prefix) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final UUID userId;
+        private final Long tokenVersion;
+        private final Set<UUID> locations;   // null means every location
+        private final Set<ChangeEvent.Type> types;
+        private final BlockingQueue<Message> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter, UUID userId, Long tokenVersion, Set<UUID> locations,
+                           Set<ChangeEvent.Type> types, BlockingQueue<Message> queue) {
+            this.emitter = emitter;
+            this.userId = userId;
+            this.tokenVersion = tokenVersion;
+            this.locations = locations;
+            this.types = types;
+            this.queue = queue;
+        }
+
+        private boolean accepts(ChangeEvent event) {
+            return !closed
+                    && types.contains(event.getType())
+                    && (locations == null || locations.contains(event.getLocationId()));
+        }
+    }
+
+    private record Message(long id, String name, String json) {
+
+        private static final Message HEARTBEAT = new Message(0, null, null);
+
+        private SseEmitter.SseEventBuilder toEvent() {
+            if (name == null) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            return SseEmitter.event().id(Long.toString(id)).name(name).data(json, MediaType.APPLICATION_JSON);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.iowaicecreamconcepts.api.testconfig.IntegrationTestBase;
 import io.restassured.http.ContentType;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.web.server.LocalManagementPort;
 import org.springframework.test.context.jdbc.Sql;
 
 import static io.restassured.RestAssured.given;
@@ -12,10 +13,14 @@ import static org.hamcrest.Matchers.*;
 @DisplayName("Basic API Integration Tests")
 class BasicIntegrationTest extends IntegrationTestBase {
 
+    @LocalManagementPort
+    private int managementPort;
+
     @Test
     @DisplayName("TC-BASIC-001: Application starts and health check responds")
     void applicationStartsAndHealthCheckResponds() {
         given()
+            .port(managementPort)
         .when()
             .get("/actuator/health")
         .then()
@@ -80,4 +85,22 @@ class BasicIntegrationTest extends IntegrationTestBase {
                 equalTo("application/json;charset=UTF-8")
             ));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("TC-BASIC-006: Prometheus scrape is served on the management port only")
+    void prometheusScrapeIsServedOnManagementPortOnly() {
+        given()
+            .port(managementPort)
+        .when()
+            .get("/actuator/prometheus")
+        .then()
+            .statusCode(200)
+            .body(containsString("jvm_memory_used_bytes"));
+
+        given()
+        .when()
+            .get("/actuator/prometheus")
+        .then()
+            .statusCode(not(equalTo(200)));
+    }
+}
@@ -0,0 +1,73 @@
+package com.iowaicecreamconcepts.api.auth.model;
+
+import com.iowaicecreamconcepts.api.auth.service.PermissionService;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PermissionSetTest {
+
+    private static final List<String> ACCESS_LEVELS = List.of("r", "rw", "x");
+
+    @Test
+    void allows_ShouldMatchStringImpliesForEveryRoleAndScope() {
+        PermissionService permissionService = new PermissionService();
+
+        for (User.Role role : User.Role.values()) {
+            Set<String> permissions = permissionService.getDefaultPermissionsForRole(role);
+            PermissionSet permissionSet = PermissionSet.of(permissions);
+
+            for (PermissionScope scope : PermissionScope.values()) {
+                for (String access : ACCESS_LEVELS) {
+                    Permission required = Permission.of(scope.getScopeName(), access);
+                    boolean expected = permissions.stream()
+                            .map(Permission::parse)
+                            .anyMatch(permission -> permission.implies(required));
+
+                    assertThat(permissionSet.allows(RequiredPermission.of(scope.getScopeName(), access)))
+                            .as("%s %s", role, required)
+                            .isEqualTo(expected);
+                }
+            }
+        }
+    }
+
+    @Test
+    void allows_WhenPermissionOutsideRegistry_ShouldFallBackToImplies() {
+        // Given
+        PermissionSet permissionSet = PermissionSet.of(Set.of("reports:waste:r", "inventory:item:x"));
+
+        // Then
+        assertThat(permissionSet.allows(RequiredPermission.of("reports:waste", "r"))).isTrue();
+        assertThat(permissionSet.allows(RequiredPermission.of("reports:waste", "rw"))).isFalse();
+        assertThat(permissionSet.allows(RequiredPermission.of("inventory:item", "x"))).isTrue();
+        assertThat(permissionSet.allows(RequiredPermission.of("inventory:item", "r"))).isFalse();
+    }
+
+    @Test
+    void allows_WhenPermissionStringMalformed_ShouldIgnoreIt() {
+        // Given
+        PermissionSet permissionSet = PermissionSet.of(Set.of("garbage", "inventory:item:r"));
+
+        // Then
+        assertThat(permissionSet.allows(RequiredPermission.of("inventory:item", "r"))).isTrue();
+    }
+
+    @Test
+    void of_WhenNoPermissions_ShouldAllowNothing() {
+        assertThat(PermissionSet.of(null).allows(RequiredPermission.of("inventory:item", "r"))).isFalse();
+        assertThat(PermissionSet.of(Set.of()).allows(RequiredPermission.of("inventory:item", "r"))).isFalse();
+    }
+
+    @Test
+    void parse_ShouldAcceptTwoAndThreePartExpressions() {
+        assertThat(RequiredPermission.parse("inventory:item:rw").getPermission())
+                .isEqualTo(Permission.of("inventory:item", "rw"));
+        assertThat(RequiredPermission.parse("inventory:r").getPermission())
+                .isEqualTo(Permission.of("inventory", "r"));
+        assertThat(RequiredPermission.parse("inventory")).isNull();
+    }
+}
@@ -0,0 +1,94 @@
+package com.iowaicecreamconcepts.api.auth.service;
+
+import com.iowaicecreamconcepts.api.auth.model.User;
+import com.iowaicecreamconcepts.api.auth.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenVersionServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private TokenVersionService tokenVersionService;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+        ReflectionTestUtils.setField(tokenVersionService, "refreshMs", 60000L);
+    }
+
+    @Test
+    void isCurrent_ShouldLoadVersionOnceWithinRefreshInterval() {
+        // Given
+        when(userRepository.findActiveTokenVersion(userId)).thenReturn(Optional.of(3L));
+
+        // When
+        boolean first = tokenVersionService.isCurrent(userId, 3L);
+        boolean second = tokenVersionService.isCurrent(userId, 3L);
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        verify(userRepository, times(1)).findActiveTokenVersion(userId);
+    }
+
+    @Test
+    void isCurrent_WhenTokenVersionIsStale_ShouldReject() {
+        // Given
+        when(userRepository.findActiveTokenVersion(userId)).thenReturn(Optional.of(4L));
+
+        // When/Then
+        assertThat(tokenVersionService.isCurrent(userId, 3L)).isFalse();
+    }
+
+    @Test
+    void isCurrent_WhenUserInactiveOrMissing_ShouldReject() {
+        // Given
+        when(userRepository.findActiveTokenVersion(userId)).thenReturn(Optional.empty());
+
+        // When/Then
+        assertThat(tokenVersionService.isCurrent(userId, 0L)).isFalse();
+    }
+
+    @Test
+    void recordVersion_ShouldRevokeOlderTokensWithoutDatabaseRead() {
+        // Given
+        User user = User.builder().id(userId).tokenVersion(5L).build();
+
+        // When
+        tokenVersionService.recordVersion(user);
+
+        // Then
+        assertThat(tokenVersionService.isCurrent(userId, 4L)).isFalse();
+        assertThat(tokenVersionService.isCurrent(userId, 5L)).isTrue();
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void recordVersion_WhenUserDeactivated_ShouldRejectAllTokens() {
+        // Given
+        User user = User.builder().id(userId).tokenVersion(5L).isActive(false).build();
+
+        // When
+        tokenVersionService.recordVersion(user);
+
+        // Then
+        assertThat(tokenVersionService.isCurrent(userId, 5L)).isFalse();
+    }
+}
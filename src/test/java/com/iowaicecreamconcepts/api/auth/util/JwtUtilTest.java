@@ -0,0 +1,76 @@
+package com.iowaicecreamconcepts.api.auth.util;
+
+import com.iowaicecreamconcepts.api.auth.model.User;
+import com.iowaicecreamconcepts.api.auth.security.VerifiedClaims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class JwtUtilTest {
+
+    private static final String SECRET = "testjwtkeythatisatleast256bitslong!!thisismytestjwtkeyforsweetswirls2024!";
+
+    private JwtUtil jwtUtil;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil(SECRET, 60000);
+        user = User.builder()
+                .id(UUID.randomUUID())
+                .email("shift@sweetswirls.com")
+                .role(User.Role.SHIFT_LEAD)
+                .build();
+    }
+
+    @Test
+    void parseToken_WithValidToken_ShouldReturnAllClaims() {
+        // Given
+        String token = jwtUtil.generateToken(user);
+
+        // When
+        Optional<VerifiedClaims> result = jwtUtil.parseToken(token);
+
+        // Then
+        assertThat(result).isPresent();
+        assertThat(result.get().getSubject()).isEqualTo("shift@sweetswirls.com");
+        assertThat(result.get().getUserId()).isEqualTo(user.getId());
+        assertThat(result.get().getRole()).isEqualTo("SHIFT_LEAD");
+        assertThat(result.get().getExpiresAt()).isAfter(result.get().getIssuedAt());
+    }
+
+    @Test
+    void parseToken_WithTamperedToken_ShouldReturnEmpty() {
+        // Given
+        String token = jwtUtil.generateToken(user);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        // When/Then
+        assertThat(jwtUtil.parseToken(tampered)).isEmpty();
+        assertThat(jwtUtil.isTokenValid(tampered)).isFalse();
+    }
+
+    @Test
+    void parseToken_WithExpiredToken_ShouldReturnEmpty() {
+        // Given
+        JwtUtil expiringJwtUtil = new JwtUtil(SECRET, -1000);
+        String token = expiringJwtUtil.generateToken(user);
+
+        // When/Then
+        assertThat(jwtUtil.parseToken(token)).isEmpty();
+    }
+
+    @Test
+    void parseToken_WithTokenSignedByOtherKey_ShouldReturnEmpty() {
+        // Given
+        JwtUtil otherJwtUtil = new JwtUtil("anothersecretkeythatisatleast256bitslong!!forsweetswirlstests", 60000);
+        String token = otherJwtUtil.generateToken(user);
+
+        // When/Then
+        assertThat(jwtUtil.parseToken(token)).isEmpty();
+    }
+}
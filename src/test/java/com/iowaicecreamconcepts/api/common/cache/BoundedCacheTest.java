@@ -0,0 +1,110 @@
+package com.iowaicecreamconcepts.api.common.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BoundedCacheTest {
+
+    private AtomicLong clock;
+    private AtomicInteger loads;
+    private BoundedCache<String, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong();
+        loads = new AtomicInteger();
+        cache = new BoundedCache<>(2, 1000, clock::get);
+    }
+
+    @Test
+    void get_ShouldLoadOnceAndCountHitsAndMisses() {
+        // When
+        cache.get("a", this::load);
+        Optional<String> result = cache.get("a", this::load);
+
+        // Then
+        assertThat(result).contains("value-a");
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.stats().getHits()).isEqualTo(1);
+        assertThat(cache.stats().getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void get_WhenSizeExceeded_ShouldEvictLeastRecentlyUsed() {
+        // Given
+        cache.get("a", this::load);
+        cache.get("b", this::load);
+        cache.get("a", this::load);
+
+        // When
+        cache.get("c", this::load);
+
+        // Then
+        assertThat(cache.stats().getSize()).isEqualTo(2);
+        assertThat(cache.stats().getEvictions()).isEqualTo(1);
+        cache.get("a", this::load);
+        assertThat(loads.get()).isEqualTo(3);
+        cache.get("b", this::load);
+        assertThat(loads.get()).isEqualTo(4);
+    }
+
+    @Test
+    void get_WhenEntryExpired_ShouldReload() {
+        // Given
+        cache.get("a", this::load);
+
+        // When
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+        cache.get("a", this::load);
+
+        // Then
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.stats().getEvictions()).isEqualTo(1);
+    }
+
+    @Test
+    void get_WhenLoaderReturnsEmpty_ShouldNotCache() {
+        // When
+        cache.get("missing", key -> Optional.empty());
+
+        // Then
+        assertThat(cache.stats().getSize()).isZero();
+    }
+
+    @Test
+    void invalidate_ShouldForceReload() {
+        // Given
+        cache.get("a", this::load);
+
+        // When
+        cache.invalidate("a");
+        cache.get("a", this::load);
+
+        // Then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void get_WhenInvalidatedDuringLoad_ShouldNotStoreStaleValue() {
+        // When
+        cache.get("a", key -> {
+            cache.invalidate("a");
+            return load(key);
+        });
+
+        // Then
+        assertThat(cache.stats().getSize()).isZero();
+    }
+
+    private Optional<String> load(String key) {
+        loads.incrementAndGet();
+        return Optional.of("value-" + key);
+    }
+}
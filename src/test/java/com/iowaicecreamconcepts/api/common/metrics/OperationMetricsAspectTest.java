@@ -0,0 +1,124 @@
+package com.iowaicecreamconcepts.api.common.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.transaction.TransactionSystemException;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class OperationMetricsAspectTest {
+
+    private SimpleMeterRegistry registry;
+    private OperationMetrics operationMetrics;
+    private Operations operations;
+    private UUID locationId;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        operationMetrics = new OperationMetrics(registry);
+        locationId = UUID.randomUUID();
+
+        Operations target = new Operations(operationMetrics);
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.addAspect(new OperationMetricsAspect(operationMetrics));
+        operations = proxyFactory.getProxy();
+        target.self = operations;
+    }
+
+    @Test
+    void time_WhenOperationSucceeds_ShouldRecordTaggedLocation() {
+        // When
+        operations.succeed(locationId);
+
+        // Then
+        assertThat(timer("test.succeed", locationId.toString(), OperationMetrics.SUCCESS).count()).isEqualTo(1);
+    }
+
+    @Test
+    void time_WhenOperationThrows_ShouldRecordError() {
+        // When/Then
+        assertThatThrownBy(() -> operations.fail(locationId))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Operation failed");
+
+        assertThat(timer("test.fail", locationId.toString(), OperationMetrics.ERROR).count()).isEqualTo(1);
+    }
+
+    @Test
+    void time_WhenCommitFails_ShouldRecordRolledBack() {
+        // When/Then
+        assertThatThrownBy(() -> operations.failCommit(locationId))
+                .isInstanceOf(TransactionSystemException.class);
+
+        assertThat(timer("test.commit", locationId.toString(), OperationMetrics.ROLLED_BACK).count()).isEqualTo(1);
+    }
+
+    @Test
+    void time_WhenOperationsNest_ShouldTagEachWithItsOwnLocation() {
+        // Given
+        UUID innerLocationId = UUID.randomUUID();
+
+        // When
+        operations.nest(locationId, innerLocationId);
+
+        // Then
+        assertThat(timer("test.nest", locationId.toString(), OperationMetrics.SUCCESS).count()).isEqualTo(1);
+        assertThat(timer("test.succeed", innerLocationId.toString(), OperationMetrics.SUCCESS).count()).isEqualTo(1);
+    }
+
+    @Test
+    void time_WhenLocationNeverTagged_ShouldTagNone() {
+        // When
+        operations.succeed(null);
+
+        // Then
+        assertThat(timer("test.succeed", OperationMetrics.NO_LOCATION, OperationMetrics.SUCCESS).count()).isEqualTo(1);
+    }
+
+    private Timer timer(String operation, String location, String outcome) {
+        return registry.get(OperationMetrics.OPERATION_TIMER)
+                .tags("operation", operation, "location", location, "outcome", outcome)
+                .timer();
+    }
+
+    static class Operations {
+
+        private final OperationMetrics operationMetrics;
+        private Operations self;
+
+        Operations(OperationMetrics operationMetrics) {
+            this.operationMetrics = operationMetrics;
+        }
+
+        @TimedOperation("test.succeed")
+        public void succeed(UUID locationId) {
+            if (locationId != null) {
+                operationMetrics.tagLocation(locationId);
+            }
+        }
+
+        @TimedOperation("test.fail")
+        public void fail(UUID locationId) {
+            operationMetrics.tagLocation(locationId);
+            throw new RuntimeException("Operation failed");
+        }
+
+        @TimedOperation("test.commit")
+        public void failCommit(UUID locationId) {
+            operationMetrics.tagLocation(locationId);
+            throw new TransactionSystemException("Could not commit transaction");
+        }
+
+        @TimedOperation("test.nest")
+        public void nest(UUID locationId, UUID innerLocationId) {
+            self.succeed(innerLocationId);
+            operationMetrics.tagLocation(locationId);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.iowaicecreamconcepts.api.common.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class OperationMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private OperationMetrics operationMetrics;
+    private UUID locationId;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        operationMetrics = new OperationMetrics(registry);
+        locationId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void success_WithoutTransaction_ShouldRecordImmediately() {
+        // When
+        operationMetrics.success(operationMetrics.start(), "production.batch.create", locationId);
+
+        // Then
+        assertThat(timer("production.batch.create", locationId.toString(), OperationMetrics.SUCCESS).count()).isEqualTo(1);
+    }
+
+    @Test
+    void success_InTransaction_ShouldRecordOutcomeOnCompletion() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        operationMetrics.success(operationMetrics.start(), "inventory.session.close", locationId);
+        assertThat(registry.find(OperationMetrics.OPERATION_TIMER).timer()).isNull();
+
+        // When
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Then
+        assertThat(timer("inventory.session.close", locationId.toString(), OperationMetrics.ROLLED_BACK).count()).isEqualTo(1);
+    }
+
+    @Test
+    void failure_WithoutLocation_ShouldTagNone() {
+        // When
+        operationMetrics.failure(operationMetrics.start(), "production.batch.runout", null);
+
+        // Then
+        assertThat(timer("production.batch.runout", OperationMetrics.NO_LOCATION, OperationMetrics.ERROR).count()).isEqualTo(1);
+    }
+
+    @Test
+    void count_ShouldAccumulatePerLocation() {
+        // When
+        operationMetrics.count("inventory.session.lines.counted", locationId, 3);
+        operationMetrics.count("inventory.session.lines.counted", locationId, 2);
+
+        // Then
+        assertThat(registry.get("inventory.session.lines.counted").tag("location", locationId.toString()).counter().count())
+                .isEqualTo(5.0);
+    }
+
+    @Test
+    void count_InTransaction_ShouldOnlyAddOnCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        operationMetrics.count("inventory.session.lines.counted", locationId, 3);
+        assertThat(registry.find("inventory.session.lines.counted").counter()).isNull();
+
+        // When
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Then
+        assertThat(registry.get("inventory.session.lines.counted").tag("location", locationId.toString()).counter().count())
+                .isEqualTo(3.0);
+    }
+
+    @Test
+    void tagLocation_OutsideOperation_ShouldDoNothing() {
+        // When
+        operationMetrics.tagLocation(locationId);
+        OperationMetrics.LocationTag tag = operationMetrics.enter();
+        operationMetrics.exit(tag);
+
+        // Then
+        assertThat(tag.getLocationId()).isNull();
+    }
+
+    private Timer timer(String operation, String location, String outcome) {
+        return registry.get(OperationMetrics.OPERATION_TIMER)
+                .tags("operation", operation, "location", location, "outcome", outcome)
+                .timer();
+    }
+}
@@ -0,0 +1,96 @@
+package com.iowaicecreamconcepts.api.common.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RequestStatementStatsFilterTest {
+
+    private SimpleMeterRegistry registry;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        request = new MockHttpServletRequest("POST", "/api/inventory/sessions/42/close");
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    void doFilter_WithHeadersEnabled_ShouldWriteCountsBeforeCommit() throws Exception {
+        // Given
+        RequestStatementStatsFilter filter = new RequestStatementStatsFilter(registry, 30, true);
+        FilterChain chain = (req, res) -> {
+            runStatements(3, 2);
+            res.getWriter().write("{}");
+            res.flushBuffer();
+            runStatements(1, 0);
+        };
+
+        // When
+        filter.doFilter(request, response, chain);
+
+        // Then
+        assertThat(response.getHeader(RequestStatementStatsFilter.STATEMENTS_HEADER)).isEqualTo("3");
+        assertThat(response.getHeader(RequestStatementStatsFilter.ROWS_HEADER)).isEqualTo("6");
+        assertThat(registry.get(RequestStatementStatsFilter.STATEMENTS_SUMMARY).summary().totalAmount()).isEqualTo(4.0);
+    }
+
+    @Test
+    void doFilter_ShouldTagMetricsWithUriTemplate() throws Exception {
+        // Given
+        RequestStatementStatsFilter filter = new RequestStatementStatsFilter(registry, 30, false);
+        FilterChain chain = (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/inventory/sessions/{sessionId}/close");
+            runStatements(2, 5);
+        };
+
+        // When
+        filter.doFilter(request, response, chain);
+
+        // Then
+        assertThat(response.getHeader(RequestStatementStatsFilter.STATEMENTS_HEADER)).isNull();
+        assertThat(registry.get(RequestStatementStatsFilter.ROWS_SUMMARY)
+                .tags("method", "POST", "uri", "/api/inventory/sessions/{sessionId}/close")
+                .summary().totalAmount()).isEqualTo(10.0);
+        assertThat(registry.get(RequestStatementStatsFilter.DB_TIMER).timer().totalTime(TimeUnit.NANOSECONDS))
+                .isEqualTo(2000.0);
+        assertThat(RequestStatementStats.current()).isNull();
+    }
+
+    @Test
+    void doFilter_WhenChainFails_ShouldStillRecord() {
+        // Given
+        RequestStatementStatsFilter filter = new RequestStatementStatsFilter(registry, 1, false);
+        FilterChain chain = (req, res) -> {
+            runStatements(2, 0);
+            throw new RuntimeException("boom");
+        };
+
+        // When/Then
+        assertThatThrownBy(() -> filter.doFilter(request, response, chain)).hasMessage("boom");
+        assertThat(registry.get(RequestStatementStatsFilter.STATEMENTS_SUMMARY)
+                .tag("uri", RequestStatementStatsFilter.UNKNOWN_URI)
+                .summary().count()).isEqualTo(1);
+        assertThat(RequestStatementStats.current()).isNull();
+    }
+
+    private static void runStatements(int statements, int rowsEach) {
+        RequestStatementStats stats = RequestStatementStats.current();
+        for (int i = 0; i < statements; i++) {
+            stats.statementExecuted(1000);
+            for (int row = 0; row < rowsEach; row++) {
+                stats.rowRead();
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.iowaicecreamconcepts.api.dashboard.service;
+
+import com.iowaicecreamconcepts.api.auth.model.User;
+import com.iowaicecreamconcepts.api.auth.security.AuthenticatedUser;
+import com.iowaicecreamconcepts.api.dashboard.dto.DashboardSummary;
+import com.iowaicecreamconcepts.api.inventory.model.BelowParStock;
+import com.iowaicecreamconcepts.api.inventory.repository.BelowParStockRepository;
+import com.iowaicecreamconcepts.api.production.model.ProductionBatch;
+import com.iowaicecreamconcepts.api.production.model.ProductionRequest;
+import com.iowaicecreamconcepts.api.production.repository.ProductionBatchRepository;
+import com.iowaicecreamconcepts.api.production.repository.ProductionRequestRepository;
+import com.iowaicecreamconcepts.api.production.repository.WasteEventRepository;
+import com.iowaicecreamconcepts.api.production.service.ProductionSchedule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardServiceTest {
+
+    @Mock
+    private BelowParStockRepository belowParStockRepository;
+
+    @Mock
+    private ProductionRequestRepository productionRequestRepository;
+
+    @Mock
+    private ProductionBatchRepository productionBatchRepository;
+
+    @Mock
+    private WasteEventRepository wasteEventRepository;
+
+    @Mock
+    private ProductionSchedule productionSchedule;
+
+    private DashboardService dashboardService;
+    private UUID locationId;
+
+    @BeforeEach
+    void setUp() {
+        dashboardService = new DashboardService(belowParStockRepository, productionRequestRepository,
+                productionBatchRepository, wasteEventRepository, productionSchedule, 2);
+        locationId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dashboardService.shutdown();
+    }
+
+    @Test
+    void getSummary_ForAssignedUser_ShouldScopeEveryQueryToAssignedLocations() {
+        // Given
+        AuthenticatedUser user = user(User.Role.SHIFT_LEAD, Set.of(locationId));
+        Set<UUID> locations = Set.of(locationId);
+
+        // When
+        DashboardSummary summary = dashboardService.getSummary(user);
+
+        // Then
+        assertThat(summary.getLocationIds()).isEqualTo(locations);
+        verify(belowParStockRepository).countByLocationIdIn(locations);
+        verify(belowParStockRepository).findTop10ByLocationIdInOrderByLastUpdatedDesc(locations);
+        verify(productionRequestRepository).findTop10ByLocationIdInAndStatusOrderByNeededByAsc(locations, ProductionRequest.Status.OPEN);
+        verify(productionBatchRepository).countByStorageLocationIdInAndStatus(locations, ProductionBatch.Status.IN_PROGRESS);
+        verify(productionSchedule).overdue(any(LocalDateTime.class), eq(locations));
+        verify(productionBatchRepository).countByStorageLocationIdInAndCreatedAtGreaterThanEqual(eq(locations), any(LocalDateTime.class));
+        verify(wasteEventRepository).countRecentByLocations(any(LocalDateTime.class), eq(locations));
+        verify(belowParStockRepository, never()).count();
+    }
+
+    @Test
+    void getSummary_ForAdmin_ShouldSeeAllLocations() {
+        // Given
+        AuthenticatedUser admin = user(User.Role.ADMIN, Set.of(locationId));
+
+        // When
+        DashboardSummary summary = dashboardService.getSummary(admin);
+
+        // Then
+        assertThat(summary.getLocationIds()).isNull();
+        verify(belowParStockRepository).count();
+        verify(belowParStockRepository).findTop10ByOrderByLastUpdatedDesc();
+        verify(productionSchedule).overdue(any(LocalDateTime.class), isNull());
+        verify(belowParStockRepository, never()).findTop10ByLocationIdInOrderByLastUpdatedDesc(any());
+        verify(belowParStockRepository, never()).findAll();
+    }
+
+    @Test
+    void getSummary_ShouldReturnFullCountButOnlyLoadFirstRows() {
+        // Given
+        List<BelowParStock> rows = IntStream.range(0, DashboardService.SECTION_LIMIT)
+                .mapToObj(i -> BelowParStock.builder()
+                        .id(UUID.randomUUID())
+                        .itemId(UUID.randomUUID())
+                        .locationId(locationId)
+                        .quantity(1.0)
+                        .parStockLevel(10.0)
+                        .lastUpdated(LocalDateTime.now())
+                        .build())
+                .toList();
+        when(belowParStockRepository.count()).thenReturn(25L);
+        when(belowParStockRepository.findTop10ByOrderByLastUpdatedDesc()).thenReturn(rows);
+
+        // When
+        DashboardSummary summary = dashboardService.getSummary(user(User.Role.TEAM_MEMBER, Set.of()));
+
+        // Then
+        assertThat(summary.getBelowParStock().getCount()).isEqualTo(25);
+        assertThat(summary.getBelowParStock().getItems()).hasSize(DashboardService.SECTION_LIMIT);
+        verify(belowParStockRepository, never()).findAll();
+    }
+
+    @Test
+    void getSummary_WithVirtualThreadExecutor_ShouldRunEveryQuery() {
+        // Given
+        DashboardService virtualThreadService = new DashboardService(belowParStockRepository, productionRequestRepository,
+                productionBatchRepository, wasteEventRepository, productionSchedule, 0);
+
+        try {
+            // When
+            virtualThreadService.getSummary(user(User.Role.ADMIN, Set.of()));
+
+            // Then
+            verify(belowParStockRepository).findTop10ByOrderByLastUpdatedDesc();
+            verify(productionRequestRepository).findTop10ByStatusOrderByNeededByAsc(ProductionRequest.Status.OPEN);
+            verify(productionBatchRepository).findTop10ByStatusOrderByCreatedAtDesc(ProductionBatch.Status.IN_PROGRESS);
+            verify(wasteEventRepository).countByRecordedAtGreaterThanEqual(any(LocalDateTime.class));
+        } finally {
+            virtualThreadService.shutdown();
+        }
+    }
+
+    private AuthenticatedUser user(User.Role role, Set<UUID> locations) {
+        return new AuthenticatedUser(UUID.randomUUID(), "user@sweetswirls.com", role, Set.of(), locations);
+    }
+}
@@ -4,16 +4,24 @@ import com.iowaicecreamconcepts.api.inventory.model.InventoryItem;
 import com.iowaicecreamconcepts.api.testconfig.IntegrationTestBase;
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
+import io.restassured.response.Response;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.context.jdbc.Sql;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 
 @DisplayName("Inventory Management Integration Tests")
 class InventoryIntegrationTest extends IntegrationTestBase {
 
+    private static final int LARGE_SESSION_ITEMS = 120;
+    private static final int JDBC_BATCH_SIZE = 50;
+
     @Test
     @DisplayName("TC-API-001: Admin can create inventory item")
     void adminCanCreateInventoryItem() {
@@ -242,4 +250,86 @@ class InventoryIntegrationTest extends IntegrationTestBase {
         .then()
             .statusCode(401);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("TC-API-008: Closing a session runs one more ledger insert batch per 50 counted items, nothing per item")
+    void closingSessionStatementCountOnlyGrowsByInsertBatches() {
+        // Items are created as admin; the counts are taken by a shift lead
+        loginAsAdmin();
+        List<String> itemIds = new ArrayList<>();
+        for (int i = 0; i < LARGE_SESSION_ITEMS; i++) {
+            itemIds.add(createItem("Statement Count Item " + i));
+        }
+
+        loginAsShiftLead();
+        String locationId = given()
+            .header("Authorization", "Bearer " + authToken)
+        .when()
+            .get("/api/locations")
+        .then()
+            .extract()
+            .path("[0].id");
+
+        // The first close warms the caches; the next counts one item, the last counts every created item
+        closeSessionWithLines(locationId, itemIds.subList(0, 1));
+        Response smallClose = closeSessionWithLines(locationId, itemIds.subList(0, 1));
+        Response largeClose = closeSessionWithLines(locationId, itemIds);
+
+        // Counted movements are inserted in JDBC batches of 50; everything else is one statement per close
+        int extraInsertBatches = (LARGE_SESSION_ITEMS - 1) / JDBC_BATCH_SIZE;
+        assertThat(statementCount(largeClose)).isLessThanOrEqualTo(statementCount(smallClose) + extraInsertBatches);
+        assertStatementCountAtMost(largeClose, 30);
+    }
+
+    private String createItem(String name) {
+        return given()
+            .header("Authorization", "Bearer " + authToken)
+            .contentType(ContentType.JSON)
+            .body(String.format("{\"name\":\"%s\",\"category\":\"BASE\",\"unit\":\"tubs\",\"parStockLevel\":5.0}", name))
+        .when()
+            .post("/api/inventory")
+        .then()
+            .statusCode(200)
+            .extract()
+            .path("id");
+    }
+
+    private Response closeSessionWithLines(String locationId, List<String> itemIds) {
+        String sessionId = given()
+            .header("Authorization", "Bearer " + authToken)
+            .contentType(ContentType.JSON)
+            .body(String.format("{\"locationId\":\"%s\",\"startedBy\":\"%s\"}", locationId, getCurrentUserId()))
+        .when()
+            .post("/api/inventory/sessions")
+        .then()
+            .statusCode(200)
+            .extract()
+            .path("id");
+
+        List<String> lines = new ArrayList<>();
+        for (String itemId : itemIds) {
+            lines.add(String.format("{\"itemId\":\"%s\",\"count\":3.0,\"unit\":\"tubs\"}", itemId));
+        }
+
+        given()
+            .header("Authorization", "Bearer " + authToken)
+            .contentType(ContentType.JSON)
+            .body("[" + String.join(",", lines) + "]")
+        .when()
+            .post("/api/inventory/sessions/" + sessionId + "/lines/batch")
+        .then()
+            .statusCode(200)
+            .body("accepted", equalTo(lines.size()));
+
+        Response response = given()
+            .header("Authorization", "Bearer " + authToken)
+            .contentType(ContentType.JSON)
+            .body(String.format("{\"closedBy\":\"%s\"}", getCurrentUserId()))
+        .when()
+            .post("/api/inventory/sessions/" + sessionId + "/close");
+        response.then()
+            .statusCode(200)
+            .body("status", equalTo("CLOSED"));
+        return response;
+    }
+}
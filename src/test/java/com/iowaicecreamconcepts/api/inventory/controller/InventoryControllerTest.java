@@ -11,6 +11,7 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.math.BigDecimal;
 import java.util.Map;
 import java.util.UUID;
 
@@ -62,6 +63,37 @@ public class InventoryControllerTest {
                 .andExpect(jsonPath("$.name").value("Whipped Cream"));
     }
 
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void shouldKeepUnitCostWhenUpdateOmitsIt() throws Exception {
+        // Create an item with a unit cost
+        InventoryItemRequest itemRequest = InventoryItemRequest.builder()
+                .name("Sprinkles")
+                .unit("lb")
+                .category(com.iowaicecreamconcepts.api.inventory.model.InventoryItem.Category.MIX_IN)
+                .parStockLevel(3.0)
+                .unitCost(new BigDecimal("4.25"))
+                .build();
+        String response = mockMvc.perform(post("/api/inventory")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(itemRequest)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        String id = objectMapper.readValue(response, Map.class).get("id").toString();
+
+        // PUT the edit form's fields, which never include unitCost
+        itemRequest.setParStockLevel(5.0);
+        itemRequest.setUnitCost(null);
+        mockMvc.perform(put("/api/inventory/" + id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(itemRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.parStockLevel").value(5.0))
+                .andExpect(jsonPath("$.unitCost").value(4.25));
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     void shouldReturnNotFoundForMissingItem() throws Exception {
@@ -0,0 +1,107 @@
+package com.iowaicecreamconcepts.api.inventory.repository;
+
+import com.iowaicecreamconcepts.api.inventory.model.BelowParStock;
+import com.iowaicecreamconcepts.api.inventory.model.CurrentStock;
+import com.iowaicecreamconcepts.api.inventory.model.InventoryItem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class BelowParStockRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private BelowParStockRepository belowParStockRepository;
+
+    @Autowired
+    private CurrentStockRepository currentStockRepository;
+
+    private UUID locationId;
+    private InventoryItem item;
+
+    @BeforeEach
+    void setUp() {
+        locationId = UUID.randomUUID();
+        item = entityManager.persist(InventoryItem.builder()
+                .name("Vanilla Base")
+                .category(InventoryItem.Category.BASE)
+                .unit("gallons")
+                .parStockLevel(10.0)
+                .isActive(true)
+                .build());
+        entityManager.persist(CurrentStock.builder()
+                .itemId(item.getId())
+                .locationId(locationId)
+                .quantity(12.0)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void refresh_WhenStockDropsBelowPar_ShouldAddRowAndRemoveItWhenRestocked() {
+        // When
+        currentStockRepository.applyDelta(item.getId(), locationId, -5.0);
+        belowParStockRepository.refresh(locationId, List.of(item.getId()));
+
+        // Then
+        List<BelowParStock> belowPar = belowParStockRepository.findByLocationId(locationId);
+        assertThat(belowPar).hasSize(1);
+        assertThat(belowPar.getFirst().getQuantity()).isEqualTo(7.0);
+        assertThat(belowPar.getFirst().getParStockLevel()).isEqualTo(10.0);
+
+        // When
+        currentStockRepository.applyDelta(item.getId(), locationId, 5.0);
+        belowParStockRepository.refresh(locationId, List.of(item.getId()));
+
+        // Then
+        assertThat(belowParStockRepository.findByLocationId(locationId)).isEmpty();
+    }
+
+    @Test
+    void refreshItem_WhenParLevelRaised_ShouldAddRowsAtEveryLocation() {
+        // Given
+        UUID otherLocationId = UUID.randomUUID();
+        currentStockRepository.applyDelta(item.getId(), otherLocationId, 15.0);
+        entityManager.getEntityManager()
+                .createQuery("UPDATE InventoryItem i SET i.parStockLevel = 20.0 WHERE i.id = :id")
+                .setParameter("id", item.getId())
+                .executeUpdate();
+
+        // When
+        belowParStockRepository.refreshItem(item.getId());
+
+        // Then
+        assertThat(belowParStockRepository.findAll())
+                .extracting(BelowParStock::getLocationId)
+                .containsExactlyInAnyOrder(locationId, otherLocationId);
+    }
+
+    @Test
+    void rebuild_ShouldMatchJoinQuery() {
+        // Given
+        currentStockRepository.applyDelta(item.getId(), UUID.randomUUID(), 1.0);
+
+        // When
+        belowParStockRepository.rebuild();
+
+        // Then
+        assertThat(belowParStockRepository.findAll())
+                .extracting(BelowParStock::getId)
+                .containsExactlyInAnyOrderElementsOf(currentStockRepository.findBelowParStock().stream()
+                        .map(CurrentStock::getId)
+                        .toList());
+    }
+}
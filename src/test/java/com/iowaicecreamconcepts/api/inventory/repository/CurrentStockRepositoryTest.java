@@ -0,0 +1,80 @@
+package com.iowaicecreamconcepts.api.inventory.repository;
+
+import com.iowaicecreamconcepts.api.inventory.model.CurrentStock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class CurrentStockRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private CurrentStockRepository currentStockRepository;
+
+    private UUID locationId;
+    private UUID existingItemId;
+
+    @BeforeEach
+    void setUp() {
+        locationId = UUID.randomUUID();
+        existingItemId = UUID.randomUUID();
+
+        entityManager.persistAndFlush(CurrentStock.builder()
+                .itemId(existingItemId)
+                .locationId(locationId)
+                .quantity(3.0)
+                .build());
+        entityManager.clear();
+    }
+
+    @Test
+    void upsertQuantities_ShouldUpdateExistingRowsAndInsertMissingOnes() {
+        // Given
+        UUID newItemId = UUID.randomUUID();
+
+        // When
+        int rows = currentStockRepository.upsertQuantities(locationId, Map.of(existingItemId, 7.5, newItemId, 2.0));
+
+        // Then
+        assertThat(rows).isEqualTo(2);
+        assertThat(currentStockRepository.findByItemIdAndLocationId(existingItemId, locationId))
+                .get().extracting(CurrentStock::getQuantity).isEqualTo(7.5);
+        assertThat(currentStockRepository.findByItemIdAndLocationId(newItemId, locationId))
+                .get().extracting(CurrentStock::getQuantity).isEqualTo(2.0);
+        assertThat(currentStockRepository.findByLocationId(locationId)).hasSize(2);
+    }
+
+    @Test
+    void upsertQuantities_WhenMoreItemsThanOneChunk_ShouldWriteAllRows() {
+        // Given
+        Map<UUID, Double> quantities = new HashMap<>();
+        for (int i = 0; i < CurrentStockRepositoryImpl.MERGE_CHUNK_SIZE + 10; i++) {
+            quantities.put(UUID.randomUUID(), (double) i);
+        }
+
+        // When
+        int rows = currentStockRepository.upsertQuantities(locationId, quantities);
+
+        // Then
+        assertThat(rows).isEqualTo(quantities.size());
+        assertThat(currentStockRepository.findByLocationId(locationId)).hasSize(quantities.size() + 1);
+    }
+
+    @Test
+    void upsertQuantities_WhenEmpty_ShouldDoNothing() {
+        assertThat(currentStockRepository.upsertQuantities(locationId, Map.of())).isZero();
+    }
+}
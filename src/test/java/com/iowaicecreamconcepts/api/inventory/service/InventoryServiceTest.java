@@ -1,5 +1,6 @@
 package com.iowaicecreamconcepts.api.inventory.service;
 
+import com.iowaicecreamconcepts.api.inventory.dto.UnitCostsChangedEvent;
 import com.iowaicecreamconcepts.api.inventory.model.InventoryItem;
 import com.iowaicecreamconcepts.api.inventory.repository.InventoryItemRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,7 +9,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.math.BigDecimal;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.*;
@@ -21,6 +24,12 @@ class InventoryServiceTest {
     @Mock
     private InventoryItemRepository repository;
 
+    @Mock
+    private BelowParStockService belowParStockService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private InventoryService inventoryService;
 
@@ -124,7 +133,7 @@ class InventoryServiceTest {
                 .build();
 
         when(repository.findById(testId)).thenReturn(Optional.of(testItem));
-        when(repository.save(testItem)).thenReturn(testItem);
+        when(repository.saveAndFlush(testItem)).thenReturn(testItem);
 
         // When
         InventoryItem result = inventoryService.updateItem(testId, updatedItem);
@@ -133,7 +142,108 @@ class InventoryServiceTest {
         assertThat(result.getName()).isEqualTo("Updated Item");
         assertThat(result.getCategory()).isEqualTo(InventoryItem.Category.MIX_IN);
         verify(repository).findById(testId);
-        verify(repository).save(testItem);
+        verify(repository).saveAndFlush(testItem);
+        verify(belowParStockService).parLevelChanged(testId);
+    }
+
+    @Test
+    void updateItem_WhenParLevelUnchanged_ShouldNotRefreshBelowParStock() {
+        // Given
+        InventoryItem updatedItem = InventoryItem.builder()
+                .name("Renamed Item")
+                .category(InventoryItem.Category.BASE)
+                .unit("gallons")
+                .parStockLevel(10.0)
+                .build();
+
+        when(repository.findById(testId)).thenReturn(Optional.of(testItem));
+        when(repository.saveAndFlush(testItem)).thenReturn(testItem);
+
+        // When
+        inventoryService.updateItem(testId, updatedItem);
+
+        // Then
+        verifyNoInteractions(belowParStockService);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void updateItem_WhenUnitCostChanged_ShouldPublishUnitCostsChanged() {
+        // Given
+        testItem.setUnitCost(new BigDecimal("2.50"));
+        InventoryItem updatedItem = InventoryItem.builder()
+                .name("Test Item")
+                .category(InventoryItem.Category.BASE)
+                .unit("gallons")
+                .parStockLevel(10.0)
+                .unitCost(new BigDecimal("2.75"))
+                .build();
+
+        when(repository.findById(testId)).thenReturn(Optional.of(testItem));
+        when(repository.saveAndFlush(testItem)).thenReturn(testItem);
+
+        // When
+        inventoryService.updateItem(testId, updatedItem);
+
+        // Then
+        assertThat(testItem.getUnitCost()).isEqualByComparingTo("2.75");
+        verify(eventPublisher).publishEvent(new UnitCostsChangedEvent(Set.of(testId)));
+    }
+
+    @Test
+    void updateItem_WithoutUnitCost_ShouldKeepExistingCost() {
+        // Given
+        testItem.setUnitCost(new BigDecimal("2.50"));
+        InventoryItem updatedItem = InventoryItem.builder()
+                .name("Renamed Item")
+                .category(InventoryItem.Category.BASE)
+                .unit("gallons")
+                .parStockLevel(10.0)
+                .build();
+
+        when(repository.findById(testId)).thenReturn(Optional.of(testItem));
+        when(repository.saveAndFlush(testItem)).thenReturn(testItem);
+
+        // When
+        inventoryService.updateItem(testId, updatedItem);
+
+        // Then
+        assertThat(testItem.getUnitCost()).isEqualByComparingTo("2.50");
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void updateUnitCosts_ShouldPublishOnlyChangedItems() {
+        // Given
+        testItem.setUnitCost(new BigDecimal("2.50"));
+        UUID otherId = UUID.randomUUID();
+        InventoryItem otherItem = InventoryItem.builder().id(otherId).name("Other Item").unitCost(new BigDecimal("1.00")).build();
+        Map<UUID, BigDecimal> unitCosts = new LinkedHashMap<>();
+        unitCosts.put(testId, new BigDecimal("3.00"));
+        unitCosts.put(otherId, new BigDecimal("1.0"));
+
+        when(repository.findAllById(unitCosts.keySet())).thenReturn(List.of(testItem, otherItem));
+        when(repository.saveAllAndFlush(List.of(testItem, otherItem))).thenReturn(List.of(testItem, otherItem));
+
+        // When
+        inventoryService.updateUnitCosts(unitCosts);
+
+        // Then
+        assertThat(testItem.getUnitCost()).isEqualByComparingTo("3.00");
+        verify(eventPublisher).publishEvent(new UnitCostsChangedEvent(Set.of(testId)));
+    }
+
+    @Test
+    void updateUnitCosts_WhenItemNotExists_ShouldThrowException() {
+        // Given
+        Map<UUID, BigDecimal> unitCosts = Map.of(testId, BigDecimal.ONE);
+        when(repository.findAllById(unitCosts.keySet())).thenReturn(List.of());
+
+        // When/Then
+        assertThatThrownBy(() -> inventoryService.updateUnitCosts(unitCosts))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Item not found");
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
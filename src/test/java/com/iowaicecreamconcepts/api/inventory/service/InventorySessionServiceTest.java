@@ -1,17 +1,28 @@
 package com.iowaicecreamconcepts.api.inventory.service;
 
+import com.iowaicecreamconcepts.api.common.metrics.OperationMetrics;
+import com.iowaicecreamconcepts.api.common.metrics.OperationMetricsAspect;
+import com.iowaicecreamconcepts.api.inventory.dto.SessionLineBatchResult;
 import com.iowaicecreamconcepts.api.inventory.model.InventorySession;
 import com.iowaicecreamconcepts.api.inventory.model.InventorySessionLine;
 import com.iowaicecreamconcepts.api.inventory.model.CurrentStock;
 import com.iowaicecreamconcepts.api.inventory.repository.InventorySessionRepository;
 import com.iowaicecreamconcepts.api.inventory.repository.InventorySessionLineRepository;
 import com.iowaicecreamconcepts.api.inventory.repository.CurrentStockRepository;
+import com.iowaicecreamconcepts.api.inventory.repository.InventoryItemRepository;
+import com.iowaicecreamconcepts.api.outbox.model.OutboxEvent;
+import com.iowaicecreamconcepts.api.outbox.service.OutboxService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.*;
 
@@ -31,6 +42,23 @@ class InventorySessionServiceTest {
     @Mock
     private CurrentStockRepository currentStockRepository;
 
+    @Mock
+    private StockLedgerService stockLedgerService;
+
+    @Mock
+    private InventoryItemRepository inventoryItemRepository;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private OperationMetrics operationMetrics = new OperationMetrics(meterRegistry);
+
     @InjectMocks
     private InventorySessionService inventorySessionService;
 
@@ -53,6 +81,8 @@ class InventorySessionServiceTest {
                 .startedBy(userId)
                 .status(InventorySession.Status.DRAFT)
                 .build();
+
+        ReflectionTestUtils.setField(inventorySessionService, "maxBatchLines", 100);
     }
 
     @Test
@@ -162,18 +192,41 @@ class InventorySessionServiceTest {
         when(sessionLineRepository.findBySessionIdOrderByCreatedAt(sessionId))
                 .thenReturn(Collections.singletonList(line));
         when(sessionRepository.save(testSession)).thenReturn(testSession);
-        when(currentStockRepository.findByItemIdAndLocationId(itemId, locationId))
-                .thenReturn(Optional.empty());
-        when(currentStockRepository.save(any(CurrentStock.class))).thenReturn(new CurrentStock());
 
         // When
-        InventorySession result = inventorySessionService.closeSession(sessionId, userId);
+        InventorySession result = timed(inventorySessionService).closeSession(sessionId, userId);
 
         // Then
         assertThat(result.getStatus()).isEqualTo(InventorySession.Status.CLOSED);
         assertThat(result.getClosedBy()).isEqualTo(userId);
         verify(sessionRepository).save(testSession);
-        verify(currentStockRepository).save(any(CurrentStock.class));
+        verify(currentStockRepository).upsertQuantities(locationId, Map.of(itemId, 15.0));
+        verify(stockLedgerService).recordCounts(locationId, Map.of(itemId, 15.0), sessionId);
+        verify(outboxService).append(eq(OutboxEvent.Type.SESSION_CLOSED), eq(sessionId), eq(locationId),
+                argThat(payload -> payload.getQuantities().equals(Map.of(itemId, 15.0))));
+        verify(currentStockRepository, never()).findByItemIdAndLocationId(any(), any());
+        verify(currentStockRepository, never()).save(any(CurrentStock.class));
+        assertThat(meterRegistry.get(OperationMetrics.OPERATION_TIMER)
+                .tags("operation", "inventory.session.close", "location", locationId.toString(), "outcome", "success")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("inventory.session.lines.counted").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void closeSession_WhenItemCountedTwice_ShouldUseLatestCount() {
+        // Given
+        when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(testSession));
+        when(sessionLineRepository.findBySessionIdOrderByCreatedAt(sessionId)).thenReturn(List.of(
+                InventorySessionLine.builder().sessionId(sessionId).itemId(itemId).count(15.0).unit("gallons").build(),
+                InventorySessionLine.builder().sessionId(sessionId).itemId(itemId).count(12.0).unit("gallons").build()
+        ));
+        when(sessionRepository.save(testSession)).thenReturn(testSession);
+
+        // When
+        inventorySessionService.closeSession(sessionId, userId);
+
+        // Then
+        verify(currentStockRepository).upsertQuantities(locationId, Map.of(itemId, 12.0));
     }
 
     @Test
@@ -198,8 +251,90 @@ class InventorySessionServiceTest {
         when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(testSession));
 
         // When/Then
-        assertThatThrownBy(() -> inventorySessionService.closeSession(sessionId, userId))
+        assertThatThrownBy(() -> timed(inventorySessionService).closeSession(sessionId, userId))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessage("Session is already closed");
+
+        assertThat(meterRegistry.get(OperationMetrics.OPERATION_TIMER)
+                .tags("operation", "inventory.session.close", "location", locationId.toString(), "outcome", "error")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void addSessionLines_ShouldSaveValidLinesAndRejectInvalidOnes() {
+        // Given
+        UUID unknownItemId = UUID.randomUUID();
+        when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(testSession));
+        when(inventoryItemRepository.findExistingIds(anyCollection())).thenReturn(Set.of(itemId));
+        when(sessionLineRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<InventorySessionLine> lines = invocation.getArgument(0);
+            lines.forEach(line -> line.setId(UUID.randomUUID()));
+            return lines;
+        });
+
+        List<InventorySessionLine> lines = Arrays.asList(
+                InventorySessionLine.builder().itemId(itemId).count(10.0).unit("gallons").build(),
+                InventorySessionLine.builder().itemId(unknownItemId).count(5.0).unit("gallons").build(),
+                InventorySessionLine.builder().itemId(itemId).count(-1.0).unit("gallons").build(),
+                InventorySessionLine.builder().itemId(itemId).count(2.0).unit("tubs").build()
+        );
+
+        // When
+        SessionLineBatchResult result = timed(inventorySessionService).addSessionLines(sessionId, lines);
+
+        // Then
+        assertThat(result.getAccepted()).isEqualTo(2);
+        assertThat(result.getRejected()).isEqualTo(2);
+        assertThat(result.getResults()).extracting(SessionLineBatchResult.LineResult::getStatus).containsExactly(
+                SessionLineBatchResult.LineResult.Status.CREATED,
+                SessionLineBatchResult.LineResult.Status.REJECTED,
+                SessionLineBatchResult.LineResult.Status.REJECTED,
+                SessionLineBatchResult.LineResult.Status.CREATED);
+        assertThat(result.getResults().get(1).getError()).isEqualTo("Item not found");
+        assertThat(result.getResults().get(3).getLineId()).isEqualTo(lines.get(3).getId());
+        assertThat(lines.get(0).getSessionId()).isEqualTo(sessionId);
+        verify(sessionRepository, times(1)).findById(sessionId);
+        verify(sessionLineRepository, times(1)).saveAll(anyList());
+        verify(sessionLineRepository, never()).save(any());
+        assertThat(meterRegistry.get(OperationMetrics.OPERATION_TIMER)
+                .tags("operation", "inventory.session.lines.add", "location", locationId.toString(), "outcome", "success")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void addSessionLines_WhenSessionIsClosed_ShouldThrowException() {
+        // Given
+        testSession.setStatus(InventorySession.Status.CLOSED);
+        when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(testSession));
+        List<InventorySessionLine> lines = List.of(
+                InventorySessionLine.builder().itemId(itemId).count(10.0).unit("gallons").build());
+
+        // When/Then
+        assertThatThrownBy(() -> inventorySessionService.addSessionLines(sessionId, lines))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Cannot modify closed session");
+
+        verify(sessionLineRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void addSessionLines_WhenTooManyLines_ShouldThrowException() {
+        // Given
+        List<InventorySessionLine> lines = Collections.nCopies(101,
+                InventorySessionLine.builder().itemId(itemId).count(1.0).unit("gallons").build());
+
+        // When/Then
+        assertThatThrownBy(() -> inventorySessionService.addSessionLines(sessionId, lines))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Too many session lines, maximum is 100");
+
+        verifyNoInteractions(sessionRepository);
+    }
+
+    /** The service behind the aspect that times it in the application context. */
+    private InventorySessionService timed(InventorySessionService service) {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(service);
+        proxyFactory.addAspect(new OperationMetricsAspect(operationMetrics));
+        return proxyFactory.getProxy();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,154 @@
+package com.iowaicecreamconcepts.api.inventory.service;
+
+import com.iowaicecreamconcepts.api.inventory.model.CurrentStock;
+import com.iowaicecreamconcepts.api.inventory.model.StockMovement;
+import com.iowaicecreamconcepts.api.inventory.model.StockSnapshot;
+import com.iowaicecreamconcepts.api.inventory.repository.StockMovementRepository;
+import com.iowaicecreamconcepts.api.inventory.repository.StockSnapshotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(StockLedgerService.class)
+class StockLedgerServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private StockSnapshotRepository snapshotRepository;
+
+    @Autowired
+    private StockMovementRepository movementRepository;
+
+    @Autowired
+    private StockLedgerService stockLedgerService;
+
+    private UUID locationId;
+    private UUID itemId;
+    private UUID otherItemId;
+    private LocalDateTime start;
+
+    @BeforeEach
+    void setUp() {
+        locationId = UUID.randomUUID();
+        itemId = UUID.randomUUID();
+        otherItemId = UUID.randomUUID();
+        start = LocalDateTime.of(2025, 8, 1, 8, 0);
+
+        movement(itemId, StockMovement.Type.COUNTED, 10.0, start);
+        movement(otherItemId, StockMovement.Type.COUNTED, 4.0, start);
+        movement(itemId, StockMovement.Type.PRODUCED, 5.0, start.plusHours(1));
+        movement(itemId, StockMovement.Type.WASTED, -2.0, start.plusHours(3));
+        movement(itemId, StockMovement.Type.COUNTED, 20.0, start.plusHours(5));
+        movement(itemId, StockMovement.Type.RUN_OUT, -3.0, start.plusHours(6));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void quantityAt_WithoutSnapshots_ShouldFoldWholeHistory() {
+        assertThat(stockLedgerService.quantityAt(itemId, locationId, start.plusHours(2))).isEqualTo(15.0);
+        assertThat(stockLedgerService.quantityAt(itemId, locationId, start.plusHours(4))).isEqualTo(13.0);
+        assertThat(stockLedgerService.quantityAt(itemId, locationId, start.plusHours(6))).isEqualTo(17.0);
+    }
+
+    @Test
+    void takeSnapshots_ShouldSnapshotMovedItemsAndKeepPointInTimeReadsExact() {
+        // Given
+        stockLedgerService.takeSnapshots(StockLedgerService.LEDGER_START, start.plusHours(2));
+        stockLedgerService.takeSnapshots(start.plusHours(2), start.plusHours(4));
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then - the second run only snapshots the item that moved
+        assertThat(snapshotRepository.findAll())
+                .extracting(StockSnapshot::getItemId, StockSnapshot::getQuantity, StockSnapshot::getTakenAt)
+                .containsExactlyInAnyOrder(
+                        tuple(itemId, 15.0, start.plusHours(2)),
+                        tuple(otherItemId, 4.0, start.plusHours(2)),
+                        tuple(itemId, 13.0, start.plusHours(4)));
+        assertThat(stockLedgerService.quantityAt(itemId, locationId, start.plusHours(4).plusMinutes(30))).isEqualTo(13.0);
+        assertThat(stockLedgerService.quantityAt(itemId, locationId, start.plusHours(6))).isEqualTo(17.0);
+    }
+
+    @Test
+    void takeSnapshots_AcrossLocations_ShouldStartEachKeyFromItsOwnSnapshot() {
+        // Given - the second window moves otherItemId at a location where it has no snapshot yet
+        UUID otherLocationId = UUID.randomUUID();
+        movement(itemId, otherLocationId, StockMovement.Type.COUNTED, 50.0, start);
+        movement(otherItemId, otherLocationId, StockMovement.Type.PRODUCED, 1.0, start.plusHours(3));
+        entityManager.flush();
+
+        // When
+        stockLedgerService.takeSnapshots(StockLedgerService.LEDGER_START, start.plusHours(2));
+        stockLedgerService.takeSnapshots(start.plusHours(2), start.plusHours(4));
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        assertThat(snapshotRepository.findAll())
+                .filteredOn(snapshot -> snapshot.getTakenAt().equals(start.plusHours(4)))
+                .extracting(StockSnapshot::getItemId, StockSnapshot::getLocationId, StockSnapshot::getQuantity)
+                .containsExactlyInAnyOrder(
+                        tuple(itemId, locationId, 13.0),
+                        tuple(otherItemId, otherLocationId, 1.0));
+    }
+
+    @Test
+    void stockAt_ShouldCombineLatestSnapshotsWithLocationTail() {
+        // Given
+        stockLedgerService.takeSnapshots(StockLedgerService.LEDGER_START, start.plusHours(2));
+        stockLedgerService.takeSnapshots(start.plusHours(2), start.plusHours(4));
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<CurrentStock> stock = stockLedgerService.stockAt(locationId, start.plusHours(5));
+
+        // Then
+        assertThat(stock)
+                .extracting(CurrentStock::getItemId, CurrentStock::getQuantity)
+                .containsExactlyInAnyOrder(tuple(itemId, 20.0), tuple(otherItemId, 4.0));
+    }
+
+    @Test
+    void findStockWithoutMovements_ShouldReturnRowsMissingFromLedger() {
+        // Given
+        entityManager.persist(CurrentStock.builder().itemId(itemId).locationId(locationId).quantity(17.0).build());
+        CurrentStock legacy = entityManager.persist(CurrentStock.builder()
+                .itemId(UUID.randomUUID()).locationId(locationId).quantity(8.0).build());
+        entityManager.flush();
+
+        // When/Then
+        assertThat(movementRepository.findStockWithoutMovements())
+                .extracting(CurrentStock::getId)
+                .containsExactly(legacy.getId());
+    }
+
+    private void movement(UUID item, StockMovement.Type type, double quantity, LocalDateTime at) {
+        movement(item, locationId, type, quantity, at);
+    }
+
+    private void movement(UUID item, UUID location, StockMovement.Type type, double quantity, LocalDateTime at) {
+        entityManager.persist(StockMovement.builder()
+                .itemId(item)
+                .locationId(location)
+                .type(type)
+                .quantity(quantity)
+                .occurredAt(at)
+                .build());
+    }
+}
@@ -0,0 +1,118 @@
+package com.iowaicecreamconcepts.api.outbox.service;
+
+import com.iowaicecreamconcepts.api.outbox.dto.StockEventPayload;
+import com.iowaicecreamconcepts.api.outbox.model.OutboxEvent;
+import com.iowaicecreamconcepts.api.outbox.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxDispatcherTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private OutboxProjection projection;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OutboxDispatcher dispatcher;
+    private StockEventPayload payload;
+
+    @BeforeEach
+    void setUp() {
+        when(projection.getName()).thenReturn("test");
+        dispatcher = new OutboxDispatcher(outboxEventRepository, outboxService, List.of(projection),
+                transactionManager, 10, 3, 30);
+        payload = StockEventPayload.builder().quantities(Map.of(UUID.randomUUID(), 1.0)).build();
+    }
+
+    @Test
+    void dispatchBatch_ShouldApplyEventsAndMarkThemProcessed() {
+        // Given
+        OutboxEvent first = event(1L);
+        OutboxEvent second = event(2L);
+        when(outboxEventRepository.findPendingIds(eq(3), any())).thenReturn(List.of(1L, 2L));
+        when(outboxEventRepository.findPendingForUpdate(List.of(1L, 2L))).thenReturn(List.of(first, second));
+        when(outboxService.readPayload(any())).thenReturn(payload);
+
+        // When
+        int dispatched = dispatcher.dispatchBatch();
+
+        // Then
+        assertThat(dispatched).isEqualTo(2);
+        verify(projection).apply(first, payload);
+        verify(projection).apply(second, payload);
+        assertThat(first.getProcessedAt()).isNotNull();
+        assertThat(second.getProcessedAt()).isNotNull();
+    }
+
+    @Test
+    void dispatchBatch_WhenOneEventFails_ShouldRetryIndividuallyAndRecordAttempt() {
+        // Given
+        OutboxEvent good = event(1L);
+        OutboxEvent bad = event(2L);
+        when(outboxEventRepository.findPendingIds(eq(3), any())).thenReturn(List.of(1L, 2L));
+        when(outboxEventRepository.findPendingForUpdate(List.of(1L, 2L))).thenReturn(List.of(good, bad));
+        when(outboxEventRepository.findPendingForUpdate(List.of(1L))).thenReturn(List.of(good));
+        when(outboxEventRepository.findPendingForUpdate(List.of(2L))).thenReturn(List.of(bad));
+        when(outboxEventRepository.findById(2L)).thenReturn(Optional.of(bad));
+        when(outboxService.readPayload(any())).thenReturn(payload);
+        doThrow(new RuntimeException("boom")).when(projection).apply(same(bad), any());
+
+        // When
+        dispatcher.dispatchBatch();
+
+        // Then
+        assertThat(good.getProcessedAt()).isNotNull();
+        assertThat(bad.getProcessedAt()).isNull();
+        assertThat(bad.getAttempts()).isEqualTo(1);
+        assertThat(bad.getLastError()).isEqualTo("boom");
+    }
+
+    @Test
+    void rebuild_ShouldRebuildOnlyThatProjectionWithoutReadingEvents() {
+        // When
+        dispatcher.rebuild("test");
+
+        // Then
+        verify(projection).rebuild();
+        verify(projection, never()).apply(any(), any());
+        verifyNoInteractions(outboxEventRepository);
+    }
+
+    @Test
+    void rebuild_WhenProjectionUnknown_ShouldThrowException() {
+        assertThatThrownBy(() -> dispatcher.rebuild("missing"))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Unknown projection: missing");
+    }
+
+    private OutboxEvent event(Long id) {
+        return OutboxEvent.builder()
+                .id(id)
+                .type(OutboxEvent.Type.BATCH_CREATED)
+                .aggregateId(UUID.randomUUID())
+                .locationId(UUID.randomUUID())
+                .payload("{}")
+                .build();
+    }
+}
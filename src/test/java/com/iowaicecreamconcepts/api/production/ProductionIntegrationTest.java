@@ -2,11 +2,13 @@ package com.iowaicecreamconcepts.api.production;
 
 import com.iowaicecreamconcepts.api.testconfig.IntegrationTestBase;
 import io.restassured.http.ContentType;
+import io.restassured.response.Response;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.context.jdbc.Sql;
 
 import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 
 @DisplayName("Production Management Integration Tests")
@@ -147,7 +149,7 @@ class ProductionIntegrationTest extends IntegrationTestBase {
             .get("/api/production/batches")
         .then()
             .statusCode(200)
-            .body("find { it.id == '" + batchId + "' }.status", equalTo("RUN_OUT"));
+            .body("items.find { it.id == '" + batchId + "' }.status", equalTo("RUN_OUT"));
     }
 
     @Test
@@ -228,6 +230,41 @@ class ProductionIntegrationTest extends IntegrationTestBase {
             .body("size()", equalTo(1))
             .body("[0].reason", equalTo("TEMP_EXCURSION"))
             .body("[0].quantity", equalTo(3.0f));
+
+        // Verify waste appears in the streaming exports
+        given()
+            .header("Authorization", "Bearer " + authToken)
+        .when()
+            .get("/api/production/waste/export?from=2000-01-01T00:00:00&to=2100-01-01T00:00:00")
+        .then()
+            .statusCode(200)
+            .contentType(startsWith("application/x-ndjson"))
+            .body(containsString("\"batchId\":\"" + batchId + "\""));
+
+        given()
+            .header("Authorization", "Bearer " + authToken)
+        .when()
+            .get("/api/production/waste/export?from=2000-01-01T00:00:00&to=2100-01-01T00:00:00&format=csv")
+        .then()
+            .statusCode(200)
+            .contentType(startsWith("text/csv"))
+            .body(startsWith("id,batchId,itemId,quantity,unit,reason,recordedBy,recordedAt,notes\n"))
+            .body(containsString(batchId + "," + productItemId + ",3.0,gallons,TEMP_EXCURSION"));
+
+        // Bad parameters are rejected before anything is streamed
+        given()
+            .header("Authorization", "Bearer " + authToken)
+        .when()
+            .get("/api/production/waste/export?from=2000-01-01T00:00:00&to=2100-01-01T00:00:00&format=xml")
+        .then()
+            .statusCode(400);
+
+        given()
+            .header("Authorization", "Bearer " + authToken)
+        .when()
+            .get("/api/production/waste/export?from=2100-01-01T00:00:00&to=2000-01-01T00:00:00")
+        .then()
+            .statusCode(400);
     }
 
     @Test
@@ -427,4 +464,69 @@ class ProductionIntegrationTest extends IntegrationTestBase {
         .then()
             .statusCode(200);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("TC-PROD-007: Listing batches runs the same statements regardless of batch count")
+    void listingBatchesStatementCountDoesNotGrowWithBatches() {
+        loginAsProductionLead();
+
+        String locationId = given()
+            .header("Authorization", "Bearer " + authToken)
+        .when()
+            .get("/api/locations")
+        .then()
+            .extract()
+            .path("[0].id");
+
+        String productItemId = given()
+            .header("Authorization", "Bearer " + authToken)
+        .when()
+            .get("/api/inventory")
+        .then()
+            .extract()
+            .path("[0].id");
+
+        createBatch(productItemId, locationId);
+        Response fewBatches = listBatches(locationId);
+
+        for (int i = 0; i < 10; i++) {
+            createBatch(productItemId, locationId);
+        }
+        Response manyBatches = listBatches(locationId);
+
+        assertThat(statementCount(manyBatches)).isEqualTo(statementCount(fewBatches));
+        assertStatementCountAtMost(manyBatches, 5);
+    }
+
+    private void createBatch(String productItemId, String locationId) {
+        String batchJson = String.format("""
+            {
+                "productItemId": "%s",
+                "quantityMade": 5.0,
+                "unit": "gallons",
+                "storageLocationId": "%s",
+                "madeBy": "%s",
+                "notes": "Statement count test batch"
+            }
+            """, productItemId, locationId, getCurrentUserId());
+
+        given()
+            .header("Authorization", "Bearer " + authToken)
+            .contentType(ContentType.JSON)
+            .body(batchJson)
+        .when()
+            .post("/api/production/batches")
+        .then()
+            .statusCode(200);
+    }
+
+    private Response listBatches(String locationId) {
+        Response response = given()
+            .header("Authorization", "Bearer " + authToken)
+        .when()
+            .get("/api/production/batches?limit=200&storageLocationId=" + locationId);
+        response.then()
+            .statusCode(200);
+        return response;
+    }
+}
@@ -0,0 +1,100 @@
+package com.iowaicecreamconcepts.api.production;
+
+import com.iowaicecreamconcepts.api.inventory.model.CurrentStock;
+import com.iowaicecreamconcepts.api.inventory.repository.CurrentStockRepository;
+import com.iowaicecreamconcepts.api.production.model.ProductionBatch;
+import com.iowaicecreamconcepts.api.production.model.WasteEvent;
+import com.iowaicecreamconcepts.api.production.service.ProductionService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Stresses the atomic stock delta path: 32 threads log batches and waste for the same items at once
+ * and every operation must commit, leaving the final quantity equal to the sum of all changes.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class ProductionStockConcurrencyTest {
+
+    private static final int THREADS = 32;
+    private static final int OPERATIONS_PER_THREAD = 20;
+
+    @Autowired
+    private ProductionService productionService;
+
+    @Autowired
+    private CurrentStockRepository currentStockRepository;
+
+    @Test
+    void concurrentBatchesAndWaste_ShouldNotLoseStockUpdates() throws Exception {
+        // Given
+        UUID locationId = UUID.randomUUID();
+        UUID wastedItemId = UUID.randomUUID();
+        UUID producedItemId = UUID.randomUUID();  // no stock row yet, so threads race to create it
+        UUID userId = UUID.randomUUID();
+
+        ProductionBatch seedBatch = productionService.createBatch(
+                wastedItemId, 1000.0, "gallons", locationId, userId, "Seed batch");
+
+        DoubleAdder expectedWasted = new DoubleAdder();
+        DoubleAdder expectedProduced = new DoubleAdder();
+        LongAdder failures = new LongAdder();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                    try {
+                        if (i % 2 == 0) {
+                            productionService.recordWaste(seedBatch.getId(), wastedItemId, 0.5, "gallons",
+                                    WasteEvent.WasteReason.SPOILAGE, userId, null);
+                            expectedWasted.add(0.5);
+                        } else {
+                            productionService.createBatch(producedItemId, 1.0, "gallons", locationId, userId, null);
+                            expectedProduced.add(1.0);
+                        }
+                    } catch (RuntimeException e) {
+                        // Pool timeouts, lock timeouts and deadlocks all land here and fail the test below
+                        failures.increment();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        // When
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(failures.sum()).isZero();
+        assertThat(expectedWasted.sum()).isEqualTo(THREADS * OPERATIONS_PER_THREAD / 2 * 0.5);
+        assertThat(expectedProduced.sum()).isEqualTo(THREADS * OPERATIONS_PER_THREAD / 2 * 1.0);
+        assertThat(quantity(wastedItemId, locationId)).isEqualTo(1000.0 - expectedWasted.sum());
+        assertThat(quantity(producedItemId, locationId)).isEqualTo(expectedProduced.sum());
+        assertThat(currentStockRepository.findByLocationId(locationId)).hasSize(2);
+    }
+
+    private double quantity(UUID itemId, UUID locationId) {
+        return currentStockRepository.findByItemIdAndLocationId(itemId, locationId)
+                .map(CurrentStock::getQuantity)
+                .orElseThrow();
+    }
+}
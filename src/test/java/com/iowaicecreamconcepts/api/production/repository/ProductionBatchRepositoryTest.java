@@ -0,0 +1,112 @@
+package com.iowaicecreamconcepts.api.production.repository;
+
+import com.iowaicecreamconcepts.api.common.dto.KeysetCursor;
+import com.iowaicecreamconcepts.api.production.dto.BatchSearchCriteria;
+import com.iowaicecreamconcepts.api.production.model.ProductionBatch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class ProductionBatchRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ProductionBatchRepository batchRepository;
+
+    private UUID productItemId;
+    private UUID locationId;
+    private List<ProductionBatch> batches;
+
+    @BeforeEach
+    void setUp() {
+        productItemId = UUID.randomUUID();
+        locationId = UUID.randomUUID();
+        batches = new ArrayList<>();
+
+        for (int i = 0; i < 7; i++) {
+            ProductionBatch batch = entityManager.persist(ProductionBatch.builder()
+                    .productItemId(i % 2 == 0 ? productItemId : UUID.randomUUID())
+                    .quantityMade(10.0)
+                    .unit("gallons")
+                    .storageLocationId(locationId)
+                    .madeBy(UUID.randomUUID())
+                    .lotCode("20250822-10" + i)
+                    .status(i < 3 ? ProductionBatch.Status.COMPLETED : ProductionBatch.Status.IN_PROGRESS)
+                    .build());
+            batches.add(batch);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findPage_ShouldWalkAllBatchesWithoutDuplicatesOrGaps() {
+        // Given
+        BatchSearchCriteria criteria = BatchSearchCriteria.builder().storageLocationId(locationId).build();
+        Set<UUID> seen = new HashSet<>();
+        KeysetCursor cursor = null;
+
+        // When
+        List<ProductionBatch> page;
+        do {
+            page = batchRepository.findPage(criteria, cursor, 3);
+            page.forEach(batch -> assertThat(seen.add(batch.getId())).isTrue());
+            if (!page.isEmpty()) {
+                ProductionBatch last = page.getLast();
+                cursor = new KeysetCursor(last.getCreatedAt(), last.getId());
+            }
+        } while (page.size() == 3);
+
+        // Then
+        assertThat(seen).hasSize(batches.size());
+    }
+
+    @Test
+    void findPage_ShouldApplyFilters() {
+        // Given
+        BatchSearchCriteria criteria = BatchSearchCriteria.builder()
+                .status(ProductionBatch.Status.COMPLETED)
+                .productItemId(productItemId)
+                .from(LocalDateTime.now().minusDays(1))
+                .to(LocalDateTime.now().plusDays(1))
+                .build();
+
+        // When
+        List<ProductionBatch> result = batchRepository.findPage(criteria, null, 50);
+
+        // Then
+        assertThat(result).hasSize(2);
+        assertThat(result).allSatisfy(batch -> {
+            assertThat(batch.getStatus()).isEqualTo(ProductionBatch.Status.COMPLETED);
+            assertThat(batch.getProductItemId()).isEqualTo(productItemId);
+        });
+    }
+
+    @Test
+    void findPage_ShouldReturnNewestFirst() {
+        // When
+        List<ProductionBatch> result = batchRepository.findPage(
+                BatchSearchCriteria.builder().storageLocationId(locationId).build(), null, 50);
+
+        // Then
+        for (int i = 1; i < result.size(); i++) {
+            assertThat(result.get(i - 1).getCreatedAt()).isAfterOrEqualTo(result.get(i).getCreatedAt());
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.iowaicecreamconcepts.api.production.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.iowaicecreamconcepts.api.outbox.dto.StockEventPayload;
+import com.iowaicecreamconcepts.api.outbox.model.OutboxEvent;
+import com.iowaicecreamconcepts.api.outbox.repository.OutboxEventRepository;
+import com.iowaicecreamconcepts.api.outbox.service.OutboxDispatcher;
+import com.iowaicecreamconcepts.api.outbox.service.OutboxService;
+import com.iowaicecreamconcepts.api.production.dto.WasteReportRow;
+import com.iowaicecreamconcepts.api.production.model.WasteEvent;
+import com.iowaicecreamconcepts.api.production.model.WasteRollup;
+import com.iowaicecreamconcepts.api.production.service.WasteRollupProjection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class WasteRollupRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private WasteRollupRepository wasteRollupRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private OutboxDispatcher dispatcher;
+    private UUID itemId;
+
+    @BeforeEach
+    void setUp() {
+        OutboxService outboxService = new OutboxService(outboxEventRepository, objectMapper);
+        dispatcher = new OutboxDispatcher(outboxEventRepository, outboxService,
+                List.of(new WasteRollupProjection(wasteRollupRepository)), transactionManager, 100, 5, 30);
+        itemId = UUID.randomUUID();
+    }
+
+    @Test
+    void rebuild_WhenWasteEventIsStillPending_ShouldLeaveItToTheDispatch() throws Exception {
+        // Given
+        recordWaste(1.0, LocalDateTime.now());
+        recordWaste(2.0, null);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        wasteRollupRepository.rebuild();
+        List<WasteReportRow> rebuilt = today();
+        dispatcher.dispatchPending();
+        List<WasteReportRow> dispatched = today();
+
+        // Then
+        assertThat(rebuilt).singleElement().satisfies(row -> {
+            assertThat(row.getEventCount()).isEqualTo(1);
+            assertThat(row.getQuantity()).isEqualTo(1.0);
+        });
+        assertThat(dispatched).singleElement().satisfies(row -> {
+            assertThat(row.getEventCount()).isEqualTo(2);
+            assertThat(row.getQuantity()).isEqualTo(3.0);
+        });
+    }
+
+    private void recordWaste(double quantity, LocalDateTime processedAt) throws Exception {
+        WasteEvent wasteEvent = entityManager.persist(WasteEvent.builder()
+                .itemId(itemId)
+                .quantity(quantity)
+                .unit("gallons")
+                .reason(WasteEvent.WasteReason.SPOILAGE)
+                .recordedBy(UUID.randomUUID())
+                .build());
+        StockEventPayload payload = StockEventPayload.builder()
+                .quantities(Map.of(itemId, quantity))
+                .unit("gallons")
+                .reason(WasteEvent.WasteReason.SPOILAGE.name())
+                .recordedAt(wasteEvent.getRecordedAt())
+                .build();
+        entityManager.persist(OutboxEvent.builder()
+                .type(OutboxEvent.Type.WASTE_RECORDED)
+                .aggregateId(wasteEvent.getId())
+                .payload(objectMapper.writeValueAsString(payload))
+                .processedAt(processedAt)
+                .build());
+    }
+
+    private List<WasteReportRow> today() {
+        LocalDate today = LocalDate.now();
+        return wasteRollupRepository.sumByGroup(WasteRollup.Granularity.DAY, today, today.plusDays(1), null,
+                WasteReportRow.GroupBy.REASON);
+    }
+}
@@ -0,0 +1,122 @@
+package com.iowaicecreamconcepts.api.production.service;
+
+import com.iowaicecreamconcepts.api.production.model.LotCodeSequence;
+import com.iowaicecreamconcepts.api.production.repository.LotCodeSequenceRepository;
+import com.iowaicecreamconcepts.api.production.repository.ProductionBatchRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LotCodeAllocatorTest {
+
+    private static final String TODAY = "20250822";
+
+    @Mock
+    private LotCodeSequenceRepository sequenceRepository;
+
+    @Mock
+    private ProductionBatchRepository batchRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void nextLotCode_ShouldServeCodesFromReservedBlock() {
+        // Given
+        LotCodeAllocator allocator = allocator(20);
+        LotCodeSequence sequence = new LotCodeSequence(TODAY, 5L);
+        when(sequenceRepository.findForUpdate(TODAY)).thenReturn(Optional.of(sequence));
+
+        // When
+        String first = allocator.nextLotCode(TODAY);
+        String second = allocator.nextLotCode(TODAY);
+
+        // Then
+        assertThat(first).isEqualTo("20250822-005");
+        assertThat(second).isEqualTo("20250822-006");
+        assertThat(sequence.getNextValue()).isEqualTo(25L);
+        verify(sequenceRepository, times(1)).findForUpdate(TODAY);
+        verifyNoInteractions(batchRepository);
+    }
+
+    @Test
+    void nextLotCode_WhenBlockExhausted_ShouldReserveNextBlock() {
+        // Given
+        LotCodeAllocator allocator = allocator(2);
+        when(sequenceRepository.findForUpdate(TODAY)).thenReturn(Optional.of(new LotCodeSequence(TODAY, 1L)));
+
+        // When
+        allocator.nextLotCode(TODAY);
+        allocator.nextLotCode(TODAY);
+        String third = allocator.nextLotCode(TODAY);
+
+        // Then
+        assertThat(third).isEqualTo("20250822-003");
+        verify(sequenceRepository, times(2)).findForUpdate(TODAY);
+    }
+
+    @Test
+    void nextLotCode_WhenNoCounterForDay_ShouldSeedFromExistingBatches() {
+        // Given
+        LotCodeAllocator allocator = allocator(20);
+        when(batchRepository.countByLotCodeStartingWith(TODAY)).thenReturn(7L);
+        when(sequenceRepository.findForUpdate(TODAY))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(new LotCodeSequence(TODAY, 8L)));
+
+        // When
+        String lotCode = allocator.nextLotCode(TODAY);
+
+        // Then
+        ArgumentCaptor<LotCodeSequence> created = ArgumentCaptor.forClass(LotCodeSequence.class);
+        verify(sequenceRepository).saveAndFlush(created.capture());
+        assertThat(created.getValue().getNextValue()).isEqualTo(8L);
+        assertThat(lotCode).isEqualTo("20250822-008");
+    }
+
+    @Test
+    void nextLotCode_WhenDayChanges_ShouldStartNewDayCounter() {
+        // Given
+        LotCodeAllocator allocator = allocator(20);
+        when(sequenceRepository.findForUpdate(TODAY)).thenReturn(Optional.of(new LotCodeSequence(TODAY, 1L)));
+        when(sequenceRepository.findForUpdate("20250823")).thenReturn(Optional.of(new LotCodeSequence("20250823", 1L)));
+
+        // When
+        allocator.nextLotCode(TODAY);
+        String tomorrow = allocator.nextLotCode("20250823");
+
+        // Then
+        assertThat(tomorrow).isEqualTo("20250823-001");
+    }
+
+    @Test
+    void nextLotCode_InsideTransaction_ShouldFail() {
+        // Given
+        LotCodeAllocator allocator = allocator(20);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // When / Then
+        try {
+            assertThatThrownBy(() -> allocator.nextLotCode(TODAY))
+                    .isInstanceOf(IllegalStateException.class);
+            verifyNoInteractions(sequenceRepository);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+    }
+
+    private LotCodeAllocator allocator(int blockSize) {
+        return new LotCodeAllocator(sequenceRepository, batchRepository, transactionManager, blockSize);
+    }
+}
@@ -0,0 +1,143 @@
+package com.iowaicecreamconcepts.api.production.service;
+
+import com.iowaicecreamconcepts.api.inventory.model.InventoryItem;
+import com.iowaicecreamconcepts.api.production.dto.ProductionItemView;
+import com.iowaicecreamconcepts.api.production.dto.RecipeIngredientView;
+import com.iowaicecreamconcepts.api.production.dto.RecipeView;
+import com.iowaicecreamconcepts.api.production.model.ProductionItem;
+import com.iowaicecreamconcepts.api.production.model.Recipe;
+import com.iowaicecreamconcepts.api.production.model.RecipeIngredient;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import(ProductionCatalogService.class)
+class ProductionCatalogServiceTest {
+
+    private static final int RECIPES = 20;
+    private static final int INGREDIENTS_PER_RECIPE = 5;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ProductionCatalogService productionCatalogService;
+
+    private Statistics statistics;
+    private List<InventoryItem> ingredients;
+    private Recipe firstRecipe;
+
+    @BeforeEach
+    void setUp() {
+        ingredients = new ArrayList<>();
+        for (int i = 0; i < INGREDIENTS_PER_RECIPE; i++) {
+            ingredients.add(entityManager.persist(InventoryItem.builder()
+                    .name("Ingredient " + i)
+                    .category(InventoryItem.Category.BASE)
+                    .unit("lb")
+                    .parStockLevel(10.0)
+                    .unitCost(BigDecimal.ONE)
+                    .build()));
+        }
+
+        for (int r = 0; r < RECIPES; r++) {
+            ProductionItem product = entityManager.persist(ProductionItem.builder()
+                    .name(String.format("Product %02d", r))
+                    .category(ProductionItem.Category.ICE_CREAM)
+                    .unit("pint")
+                    .parStockLevel(5.0)
+                    .build());
+            Recipe recipe = entityManager.persist(Recipe.builder()
+                    .name(String.format("Recipe %02d", r))
+                    .productItemId(product.getId())
+                    .yieldQuantity(1.0)
+                    .yieldUnit("pint")
+                    .totalCost(BigDecimal.valueOf(INGREDIENTS_PER_RECIPE))
+                    .costPerUnit(BigDecimal.valueOf(INGREDIENTS_PER_RECIPE))
+                    .build());
+            product.setRecipe(recipe);
+            for (InventoryItem ingredient : ingredients) {
+                entityManager.persist(RecipeIngredient.builder()
+                        .recipe(recipe)
+                        .ingredientItemId(ingredient.getId())
+                        .quantity(1.0)
+                        .unit("lb")
+                        .unitCost(BigDecimal.ONE)
+                        .totalCost(BigDecimal.ONE)
+                        .build());
+            }
+            if (firstRecipe == null) {
+                firstRecipe = recipe;
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void getRecipes_ShouldLoadWholeCatalogInTwoQueries() {
+        // When
+        List<RecipeView> recipes = productionCatalogService.getRecipes();
+
+        // Then
+        assertThat(recipes).hasSize(RECIPES);
+        assertThat(recipes).allSatisfy(recipe -> assertThat(recipe.getIngredients()).hasSize(INGREDIENTS_PER_RECIPE));
+        assertThat(recipes.getFirst().getIngredients())
+                .extracting(RecipeIngredientView::getIngredientName)
+                .contains("Ingredient 0");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void getRecipe_ShouldLoadRecipeAndIngredientsInTwoQueries() {
+        // When
+        RecipeView recipe = productionCatalogService.getRecipe(firstRecipe.getId());
+
+        // Then
+        assertThat(recipe.getName()).isEqualTo("Recipe 00");
+        assertThat(recipe.getIngredients()).hasSize(INGREDIENTS_PER_RECIPE);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void getProductionItems_ShouldLoadProductsAndRecipesInOneQuery() {
+        // When
+        List<ProductionItemView> items = productionCatalogService.getProductionItems();
+
+        // Then
+        assertThat(items).hasSize(RECIPES);
+        assertThat(items.getFirst().getRecipeName()).isEqualTo("Recipe 00");
+        assertThat(items.getFirst().getRecipeCostPerUnit()).isEqualByComparingTo("5");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getRecipe_WhenRecipeNotExists_ShouldThrowException() {
+        // When/Then
+        assertThatThrownBy(() -> productionCatalogService.getRecipe(UUID.randomUUID()))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Recipe not found");
+    }
+}
@@ -0,0 +1,138 @@
+package com.iowaicecreamconcepts.api.production.service;
+
+import com.iowaicecreamconcepts.api.inventory.model.CurrentStock;
+import com.iowaicecreamconcepts.api.production.dto.IngredientShortage;
+import com.iowaicecreamconcepts.api.production.dto.ProductionPlan;
+import com.iowaicecreamconcepts.api.production.dto.RecipeIngredientView;
+import com.iowaicecreamconcepts.api.production.dto.RecipeView;
+import com.iowaicecreamconcepts.api.production.model.ProductionRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ProductionPlannerTest {
+
+    private UUID locationId;
+    private UUID cream;
+    private UUID sugar;
+    private UUID base;
+    private UUID pint;
+    private LocalDateTime monday;
+    private ProductionPlanner planner;
+
+    @BeforeEach
+    void setUp() {
+        locationId = UUID.randomUUID();
+        cream = UUID.randomUUID();
+        sugar = UUID.randomUUID();
+        base = UUID.randomUUID();
+        pint = UUID.randomUUID();
+        monday = LocalDateTime.of(2025, 9, 1, 8, 0);
+
+        // 2 base from 1 cream + 2 sugar; 1 pint from 2 base + 1 sugar
+        RecipeView baseRecipe = recipe(base, "Vanilla Base", 2.0, ingredient(cream, "Cream", 1.0), ingredient(sugar, "Sugar", 2.0));
+        RecipeView pintRecipe = recipe(pint, "Vanilla Pint", 1.0, ingredient(base, "Vanilla Base", 2.0), ingredient(sugar, "Sugar", 1.0));
+        planner = new ProductionPlanner(Map.of(base, baseRecipe, pint, pintRecipe));
+    }
+
+    @Test
+    void plan_ShouldExplodeThroughSubRecipesAndNetAgainstStock() {
+        // Given: 4 pints need 8 base (4 cream, 8 sugar) and 4 sugar; 2 base and 5 sugar on hand
+        List<ProductionRequest> requests = List.of(request(pint, 4.0, monday));
+        List<CurrentStock> stock = List.of(stock(base, 2.0), stock(sugar, 5.0));
+
+        // When
+        ProductionPlan plan = planner.plan(requests, stock);
+
+        // Then: 6 base still to make, needing 3 cream and 6 sugar; 4 + 6 sugar against 5 on hand
+        assertThat(plan.getShortages()).extracting(IngredientShortage::getItemName).containsExactly("Cream", "Sugar");
+        IngredientShortage sugarShortage = plan.getShortages().get(1);
+        assertThat(sugarShortage.getRequired()).isEqualTo(10.0);
+        assertThat(sugarShortage.getOnHand()).isEqualTo(5.0);
+        assertThat(sugarShortage.getShortage()).isEqualTo(5.0);
+        assertThat(plan.getShortages().getFirst().getShortage()).isEqualTo(3.0);
+    }
+
+    @Test
+    void plan_ShouldDateShortageByFirstRequestStockCannotCover() {
+        // Given: cream for the first request only
+        List<ProductionRequest> requests = List.of(
+                request(base, 2.0, monday),
+                request(base, 2.0, monday.plusDays(1)),
+                request(base, 2.0, monday.plusDays(2)));
+        List<CurrentStock> stock = List.of(stock(cream, 1.0), stock(sugar, 100.0));
+
+        // When
+        ProductionPlan plan = planner.plan(requests, stock);
+
+        // Then
+        assertThat(plan.getShortages()).singleElement().satisfies(shortage -> {
+            assertThat(shortage.getItemId()).isEqualTo(cream);
+            assertThat(shortage.getShortage()).isEqualTo(2.0);
+            assertThat(shortage.getNeededBy()).isEqualTo(monday.plusDays(1));
+        });
+    }
+
+    @Test
+    void plan_ShouldNetEachLocationSeparately() {
+        // Given
+        UUID otherLocationId = UUID.randomUUID();
+        ProductionRequest elsewhere = request(base, 2.0, monday);
+        elsewhere.setLocationId(otherLocationId);
+        List<ProductionRequest> requests = List.of(request(base, 2.0, monday), elsewhere);
+        List<CurrentStock> stock = List.of(stock(cream, 1.0), stock(sugar, 2.0));
+
+        // When
+        ProductionPlan plan = planner.plan(requests, stock);
+
+        // Then
+        assertThat(plan.getShortages())
+                .allSatisfy(shortage -> assertThat(shortage.getLocationId()).isEqualTo(otherLocationId))
+                .extracting(IngredientShortage::getItemName)
+                .containsExactly("Cream", "Sugar");
+    }
+
+    @Test
+    void plan_WhenProductHasNoRecipe_ShouldReportRequestAsUnplanned() {
+        // Given
+        ProductionRequest request = request(UUID.randomUUID(), 1.0, monday);
+
+        // When
+        ProductionPlan plan = planner.plan(List.of(request), List.of());
+
+        // Then
+        assertThat(plan.getUnplannedRequestIds()).containsExactly(request.getId());
+        assertThat(plan.getShortages()).isEmpty();
+    }
+
+    private ProductionRequest request(UUID productItemId, double quantity, LocalDateTime neededBy) {
+        return ProductionRequest.builder()
+                .id(UUID.randomUUID())
+                .productItemId(productItemId)
+                .locationId(locationId)
+                .targetQuantity(quantity)
+                .neededBy(neededBy)
+                .build();
+    }
+
+    private CurrentStock stock(UUID itemId, double quantity) {
+        return CurrentStock.builder().itemId(itemId).locationId(locationId).quantity(quantity).build();
+    }
+
+    private static RecipeView recipe(UUID productItemId, String name, double yield, RecipeIngredientView... ingredients) {
+        RecipeView recipe = new RecipeView(UUID.randomUUID(), name, productItemId, yield, "unit", BigDecimal.ZERO, BigDecimal.ZERO);
+        recipe.getIngredients().addAll(List.of(ingredients));
+        return recipe;
+    }
+
+    private static RecipeIngredientView ingredient(UUID itemId, String name, double quantity) {
+        return new RecipeIngredientView(null, UUID.randomUUID(), itemId, name, quantity, "unit", null, null);
+    }
+}
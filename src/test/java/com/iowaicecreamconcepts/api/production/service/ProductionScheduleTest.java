@@ -0,0 +1,196 @@
+package com.iowaicecreamconcepts.api.production.service;
+
+import com.iowaicecreamconcepts.api.production.model.ProductionRequest;
+import com.iowaicecreamconcepts.api.production.repository.ProductionRequestRepository;
+import com.iowaicecreamconcepts.api.stream.dto.ChangeEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductionScheduleTest {
+
+    @Mock
+    private ProductionRequestRepository productionRequestRepository;
+
+    private ProductionSchedule schedule;
+    private UUID locationId;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        schedule = new ProductionSchedule(productionRequestRepository, 50);
+        locationId = UUID.randomUUID();
+        now = LocalDateTime.of(2025, 9, 1, 12, 0);
+    }
+
+    @Test
+    void nextJobs_ShouldOrderByPriorityThenNeededByThenCreatedAt() {
+        // Given
+        ProductionRequest later = request(ProductionRequest.Priority.NORMAL, now.plusHours(5), now.minusHours(2));
+        ProductionRequest sooner = request(ProductionRequest.Priority.NORMAL, now.plusHours(1), now.minusHours(1));
+        ProductionRequest soonerButNewer = request(ProductionRequest.Priority.NORMAL, now.plusHours(1), now);
+        ProductionRequest urgent = request(ProductionRequest.Priority.HIGH, now.plusHours(8), now);
+        List.of(later, sooner, soonerButNewer, urgent).forEach(schedule::update);
+
+        // When
+        List<ProductionRequest> next = schedule.nextJobs(locationId, 10);
+
+        // Then
+        assertThat(next).containsExactly(urgent, sooner, soonerButNewer, later);
+        assertThat(schedule.nextJobs(locationId, 2)).containsExactly(urgent, sooner);
+        assertThat(schedule.nextJobs(UUID.randomUUID(), 10)).isEmpty();
+    }
+
+    @Test
+    void update_WhenRequestLeavesOpen_ShouldDropItFromNextJobs() {
+        // Given
+        ProductionRequest first = request(ProductionRequest.Priority.NORMAL, now.plusHours(1), now);
+        ProductionRequest second = request(ProductionRequest.Priority.NORMAL, now.plusHours(2), now);
+        schedule.update(first);
+        schedule.update(second);
+        assertThat(schedule.nextJobs(locationId, 10)).containsExactly(first, second);
+
+        // When
+        first.setStatus(ProductionRequest.Status.IN_PROGRESS);
+        schedule.onChange(ChangeEvent.request(first));
+
+        // Then
+        assertThat(schedule.nextJobs(locationId, 10)).containsExactly(second);
+    }
+
+    @Test
+    void onChange_WhenRequestDeleted_ShouldRemoveIt() {
+        // Given
+        ProductionRequest request = request(ProductionRequest.Priority.NORMAL, now.minusHours(1), now.minusHours(3));
+        schedule.update(request);
+
+        // When
+        schedule.onChange(ChangeEvent.requestDeleted(request));
+
+        // Then
+        assertThat(schedule.nextJobs(locationId, 10)).isEmpty();
+        assertThat(schedule.overdue(now, null)).isEmpty();
+    }
+
+    @Test
+    void overdue_ShouldReturnOpenAndInProgressRequestsPastTheirDeadline() {
+        // Given
+        ProductionRequest overdueOpen = request(ProductionRequest.Priority.NORMAL, now.minusHours(2), now.minusDays(1));
+        ProductionRequest overdueInProgress = request(ProductionRequest.Priority.NORMAL, now.minusHours(1), now.minusDays(1));
+        overdueInProgress.setStatus(ProductionRequest.Status.IN_PROGRESS);
+        ProductionRequest completed = request(ProductionRequest.Priority.NORMAL, now.minusHours(3), now.minusDays(1));
+        completed.setStatus(ProductionRequest.Status.COMPLETED);
+        ProductionRequest onTime = request(ProductionRequest.Priority.HIGH, now.plusHours(1), now.minusDays(1));
+        List.of(overdueOpen, overdueInProgress, completed, onTime).forEach(schedule::update);
+
+        // When
+        List<ProductionRequest> overdue = schedule.overdue(now, null);
+
+        // Then
+        assertThat(overdue).containsExactly(overdueOpen, overdueInProgress);
+        assertThat(schedule.overdue(now, Set.of(UUID.randomUUID()))).isEmpty();
+    }
+
+    @Test
+    void nextJobs_AfterRandomUpdatesAndRemovals_ShouldMatchFullSort() {
+        // Given
+        Random random = new Random(7);
+        List<ProductionRequest> open = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            ProductionRequest request = request(random.nextBoolean() ? ProductionRequest.Priority.HIGH : ProductionRequest.Priority.NORMAL,
+                    now.plusMinutes(random.nextInt(10_000)), now.minusMinutes(random.nextInt(1_000)));
+            schedule.update(request);
+            open.add(request);
+        }
+        for (int i = 0; i < 200; i++) {
+            ProductionRequest request = open.get(random.nextInt(open.size()));
+            if (random.nextBoolean()) {
+                schedule.remove(request.getId());
+                open.remove(request);
+            } else {
+                request.setNeededBy(now.plusMinutes(random.nextInt(10_000)));
+                schedule.update(request);
+            }
+        }
+
+        // When
+        List<ProductionRequest> next = schedule.nextJobs(locationId, 50);
+
+        // Then
+        open.sort(ProductionSchedule.JOB_ORDER);
+        assertThat(next).containsExactlyElementsOf(open.subList(0, 50));
+    }
+
+    @Test
+    void reload_ShouldReplaceScheduleWithDatabaseState() {
+        // Given
+        schedule.update(request(ProductionRequest.Priority.NORMAL, now.plusHours(1), now));
+        ProductionRequest stored = request(ProductionRequest.Priority.HIGH, now.plusHours(2), now);
+        when(productionRequestRepository.findByStatusInOrderByNeededByAsc(anyCollection())).thenReturn(List.of(stored));
+
+        // When
+        schedule.reload();
+
+        // Then
+        assertThat(schedule.nextJobs(locationId, 10)).containsExactly(stored);
+    }
+
+    @Test
+    void reload_ShouldKeepChangesCommittedWhileItsQueryRuns() {
+        // Given - the snapshot is read, then a request is created and another is started before the swap
+        ProductionRequest stored = request(ProductionRequest.Priority.NORMAL, now.plusHours(2), now);
+        ProductionRequest started = request(ProductionRequest.Priority.NORMAL, now.plusHours(3), now);
+        ProductionRequest created = request(ProductionRequest.Priority.HIGH, now.plusHours(1), now);
+        when(productionRequestRepository.findByStatusInOrderByNeededByAsc(anyCollection())).thenAnswer(invocation -> {
+            List<ProductionRequest> snapshot = List.of(copy(stored), copy(started));
+            schedule.onChange(ChangeEvent.request(created));
+            started.setStatus(ProductionRequest.Status.IN_PROGRESS);
+            schedule.onChange(ChangeEvent.request(started));
+            return snapshot;
+        });
+
+        // When
+        schedule.reload();
+
+        // Then
+        assertThat(schedule.nextJobs(locationId, 10)).containsExactly(created, stored);
+    }
+
+    private static ProductionRequest copy(ProductionRequest request) {
+        return ProductionRequest.builder()
+                .id(request.getId())
+                .productItemId(request.getProductItemId())
+                .locationId(request.getLocationId())
+                .neededBy(request.getNeededBy())
+                .createdAt(request.getCreatedAt())
+                .priority(request.getPriority())
+                .status(request.getStatus())
+                .build();
+    }
+
+    private ProductionRequest request(ProductionRequest.Priority priority, LocalDateTime neededBy, LocalDateTime createdAt) {
+        return ProductionRequest.builder()
+                .id(UUID.randomUUID())
+                .productItemId(UUID.randomUUID())
+                .locationId(locationId)
+                .neededBy(neededBy)
+                .createdAt(createdAt)
+                .priority(priority)
+                .status(ProductionRequest.Status.OPEN)
+                .build();
+    }
+}
@@ -1,18 +1,31 @@
 package com.iowaicecreamconcepts.api.production.service;
 
-import com.iowaicecreamconcepts.api.inventory.model.CurrentStock;
+import com.iowaicecreamconcepts.api.common.metrics.OperationMetrics;
+import com.iowaicecreamconcepts.api.common.metrics.OperationMetricsAspect;
+import com.iowaicecreamconcepts.api.inventory.model.StockMovement;
 import com.iowaicecreamconcepts.api.inventory.repository.CurrentStockRepository;
+import com.iowaicecreamconcepts.api.inventory.service.StockLedgerService;
+import com.iowaicecreamconcepts.api.outbox.model.OutboxEvent;
+import com.iowaicecreamconcepts.api.outbox.service.OutboxService;
 import com.iowaicecreamconcepts.api.production.model.ProductionBatch;
 import com.iowaicecreamconcepts.api.production.model.WasteEvent;
 import com.iowaicecreamconcepts.api.production.repository.ProductionBatchRepository;
 import com.iowaicecreamconcepts.api.production.repository.WasteEventRepository;
+import com.iowaicecreamconcepts.api.stream.dto.ChangeEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.*;
@@ -31,6 +44,26 @@ class ProductionServiceTest {
     @Mock
     private CurrentStockRepository currentStockRepository;
 
+    @Mock
+    private StockLedgerService stockLedgerService;
+
+    @Mock
+    private LotCodeAllocator lotCodeAllocator;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private OperationMetrics operationMetrics = new OperationMetrics(meterRegistry);
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
     @InjectMocks
     private ProductionService productionService;
 
@@ -62,20 +95,27 @@ class ProductionServiceTest {
     @Test
     void createBatch_ShouldCreateBatchAndUpdateStock() {
         // Given
-        when(batchRepository.countByLotCodeStartingWith(anyString())).thenReturn(0L);
+        when(lotCodeAllocator.nextLotCode()).thenReturn("20250822-001");
         when(batchRepository.save(any(ProductionBatch.class))).thenReturn(testBatch);
-        when(currentStockRepository.findByItemIdAndLocationId(productItemId, storageLocationId))
-                .thenReturn(Optional.empty());
-        when(currentStockRepository.save(any(CurrentStock.class))).thenReturn(new CurrentStock());
 
         // When
-        ProductionBatch result = productionService.createBatch(
+        ProductionBatch result = timed(productionService).createBatch(
                 productItemId, 10.0, "gallons", storageLocationId, madeBy, "Test batch");
 
         // Then
         assertThat(result).isEqualTo(testBatch);
         verify(batchRepository).save(any(ProductionBatch.class));
-        verify(currentStockRepository).save(any(CurrentStock.class));
+        verify(currentStockRepository).applyDelta(productItemId, storageLocationId, 10.0);
+        verify(stockLedgerService).recordDelta(productItemId, storageLocationId, StockMovement.Type.PRODUCED, 10.0, testBatch.getId());
+        verify(outboxService).append(eq(OutboxEvent.Type.BATCH_CREATED), any(), eq(storageLocationId),
+                argThat(payload -> payload.getQuantities().equals(Map.of(productItemId, 10.0))));
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof ChangeEvent change
+                && change.getType() == ChangeEvent.Type.STOCK && change.getItemIds().equals(List.of(productItemId))));
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof ChangeEvent change
+                && change.getType() == ChangeEvent.Type.BATCH && change.getData() == testBatch));
+        assertThat(meterRegistry.get(OperationMetrics.OPERATION_TIMER)
+                .tags("operation", "production.batch.create", "location", storageLocationId.toString(), "outcome", "success")
+                .timer().count()).isEqualTo(1);
     }
 
     @Test
@@ -114,13 +154,6 @@ class ProductionServiceTest {
         testBatch.setStatus(ProductionBatch.Status.COMPLETED);
         when(batchRepository.findById(batchId)).thenReturn(Optional.of(testBatch));
         when(batchRepository.save(testBatch)).thenReturn(testBatch);
-        when(currentStockRepository.findByItemIdAndLocationId(productItemId, storageLocationId))
-                .thenReturn(Optional.of(CurrentStock.builder()
-                        .itemId(productItemId)
-                        .locationId(storageLocationId)
-                        .quantity(10.0)
-                        .build()));
-        when(currentStockRepository.save(any(CurrentStock.class))).thenReturn(new CurrentStock());
 
         // When
         ProductionBatch result = productionService.runOutBatch(batchId);
@@ -128,7 +161,7 @@ class ProductionServiceTest {
         // Then
         assertThat(result.getStatus()).isEqualTo(ProductionBatch.Status.RUN_OUT);
         verify(batchRepository).save(testBatch);
-        verify(currentStockRepository).save(any(CurrentStock.class));
+        verify(currentStockRepository).applyDelta(productItemId, storageLocationId, -10.0);
     }
 
     @Test
@@ -137,9 +170,13 @@ class ProductionServiceTest {
         when(batchRepository.findById(batchId)).thenReturn(Optional.of(testBatch));
 
         // When/Then
-        assertThatThrownBy(() -> productionService.runOutBatch(batchId))
+        assertThatThrownBy(() -> timed(productionService).runOutBatch(batchId))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessage("Can only run out completed batches");
+
+        assertThat(meterRegistry.get(OperationMetrics.OPERATION_TIMER)
+                .tags("operation", "production.batch.runout", "location", storageLocationId.toString(), "outcome", "error")
+                .timer().count()).isEqualTo(1);
     }
 
     @Test
@@ -155,16 +192,10 @@ class ProductionServiceTest {
                 .unit("gallons")
                 .reason(WasteEvent.WasteReason.SPOILAGE)
                 .recordedBy(madeBy)
+                .recordedAt(LocalDateTime.of(2025, 8, 22, 23, 59))
                 .build();
         
         when(wasteEventRepository.save(any(WasteEvent.class))).thenReturn(expectedWaste);
-        when(currentStockRepository.findByItemIdAndLocationId(productItemId, storageLocationId))
-                .thenReturn(Optional.of(CurrentStock.builder()
-                        .itemId(productItemId)
-                        .locationId(storageLocationId)
-                        .quantity(10.0)
-                        .build()));
-        when(currentStockRepository.save(any(CurrentStock.class))).thenReturn(new CurrentStock());
 
         // When
         WasteEvent result = productionService.recordWaste(
@@ -173,7 +204,11 @@ class ProductionServiceTest {
         // Then
         assertThat(result).isEqualTo(expectedWaste);
         verify(wasteEventRepository).save(any(WasteEvent.class));
-        verify(currentStockRepository).save(any(CurrentStock.class));
+        verify(currentStockRepository).applyDelta(productItemId, storageLocationId, -2.0);
+        verify(stockLedgerService).recordDelta(eq(productItemId), eq(storageLocationId), eq(StockMovement.Type.WASTED), eq(-2.0), any());
+        verify(outboxService).append(eq(OutboxEvent.Type.WASTE_RECORDED), any(), eq(storageLocationId),
+                argThat(payload -> "SPOILAGE".equals(payload.getReason()) && batchId.equals(payload.getBatchId())
+                        && expectedWaste.getRecordedAt().equals(payload.getRecordedAt())));
     }
 
     @Test
@@ -270,4 +305,11 @@ class ProductionServiceTest {
         assertThat(result.getFirst().getItemId()).isEqualTo(productItemId);
         verify(wasteEventRepository).findByItemIdOrderByRecordedAtDesc(productItemId);
     }
-}
\ No newline at end of file
+
+    /** The service behind the aspect that times it in the application context. */
+    private ProductionService timed(ProductionService service) {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(service);
+        proxyFactory.addAspect(new OperationMetricsAspect(operationMetrics));
+        return proxyFactory.getProxy();
+    }
+}
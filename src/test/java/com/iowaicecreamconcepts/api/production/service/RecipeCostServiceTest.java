@@ -0,0 +1,165 @@
+package com.iowaicecreamconcepts.api.production.service;
+
+import com.iowaicecreamconcepts.api.inventory.model.InventoryItem;
+import com.iowaicecreamconcepts.api.production.model.ProductionItem;
+import com.iowaicecreamconcepts.api.production.model.Recipe;
+import com.iowaicecreamconcepts.api.production.model.RecipeIngredient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(RecipeCostService.class)
+class RecipeCostServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private RecipeCostService recipeCostService;
+
+    private InventoryItem cream;
+    private InventoryItem sugar;
+    private ProductionItem base;
+    private Recipe baseRecipe;
+    private Recipe pintRecipe;
+    private Recipe sorbetRecipe;
+
+    @BeforeEach
+    void setUp() {
+        cream = inventoryItem("Cream", "2.00");
+        sugar = inventoryItem("Sugar", "1.00");
+        InventoryItem lemons = inventoryItem("Lemons", "0.50");
+
+        // Base: 1 cream + 2 sugar = 4.00 for 2 units; pint: 3 base + 1 sugar = 7.00
+        base = productionItem("Vanilla Base", "2.00");
+        ProductionItem pint = productionItem("Vanilla Pint", "7.00");
+        ProductionItem sorbet = productionItem("Lemon Sorbet", "2.00");
+        baseRecipe = recipe(base, 2.0, "4.00", "2.00", List.of(cream, sugar), List.of(1.0, 2.0));
+        pintRecipe = recipe(pint, 1.0, "7.00", "7.00", List.of(base, sugar), List.of(3.0, 1.0));
+        sorbetRecipe = recipe(sorbet, 1.0, "2.00", "2.00", List.of(lemons), List.of(4.0));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void recompute_ShouldRecostRecipesUsingTheItemDirectlyAndThroughSubRecipes() {
+        // Given
+        updateUnitCost(cream, "4.00");
+
+        // When
+        int recosted = recipeCostService.recompute(Set.of(cream.getId()));
+
+        // Then
+        assertThat(recosted).isEqualTo(2);
+        Recipe recostedBase = entityManager.find(Recipe.class, baseRecipe.getId());
+        assertThat(recostedBase.getTotalCost()).isEqualByComparingTo("6.00");
+        assertThat(recostedBase.getCostPerUnit()).isEqualByComparingTo("3.00");
+        assertThat(entityManager.find(ProductionItem.class, base.getId()).getProductionCost()).isEqualByComparingTo("3.00");
+        Recipe recostedPint = entityManager.find(Recipe.class, pintRecipe.getId());
+        assertThat(recostedPint.getTotalCost()).isEqualByComparingTo("10.00");
+        assertThat(recostedPint.getIngredients())
+                .filteredOn(ingredient -> ingredient.getIngredientItemId().equals(base.getId()))
+                .singleElement()
+                .satisfies(ingredient -> {
+                    assertThat(ingredient.getUnitCost()).isEqualByComparingTo("3.00");
+                    assertThat(ingredient.getTotalCost()).isEqualByComparingTo("9.00");
+                });
+    }
+
+    @Test
+    void recompute_ShouldNotTouchRecipesThatDoNotUseTheItem() {
+        // Given
+        updateUnitCost(cream, "4.00");
+        Recipe before = entityManager.find(Recipe.class, sorbetRecipe.getId());
+        entityManager.clear();
+
+        // When
+        recipeCostService.recompute(Set.of(cream.getId()));
+
+        // Then
+        Recipe after = entityManager.find(Recipe.class, sorbetRecipe.getId());
+        assertThat(after.getUpdatedAt()).isEqualTo(before.getUpdatedAt());
+        assertThat(after.getTotalCost()).isEqualByComparingTo("2.00");
+    }
+
+    @Test
+    void recompute_WhenCostsAlreadyCurrent_ShouldWriteNothing() {
+        // When
+        int recosted = recipeCostService.recompute(Set.of(sugar.getId()));
+
+        // Then
+        assertThat(recosted).isZero();
+    }
+
+    private void updateUnitCost(InventoryItem item, String unitCost) {
+        InventoryItem managed = entityManager.find(InventoryItem.class, item.getId());
+        managed.setUnitCost(new BigDecimal(unitCost));
+        entityManager.flush();
+    }
+
+    private InventoryItem inventoryItem(String name, String unitCost) {
+        return entityManager.persist(InventoryItem.builder()
+                .name(name)
+                .category(InventoryItem.Category.BASE)
+                .unit("lb")
+                .parStockLevel(10.0)
+                .unitCost(new BigDecimal(unitCost))
+                .build());
+    }
+
+    private ProductionItem productionItem(String name, String productionCost) {
+        return entityManager.persist(ProductionItem.builder()
+                .name(name)
+                .category(ProductionItem.Category.ICE_CREAM)
+                .unit("pint")
+                .parStockLevel(5.0)
+                .productionCost(new BigDecimal(productionCost))
+                .build());
+    }
+
+    private Recipe recipe(ProductionItem product, double yield, String totalCost, String costPerUnit,
+                          List<Object> items, List<Double> quantities) {
+        Recipe recipe = entityManager.persist(Recipe.builder()
+                .name(product.getName())
+                .productItemId(product.getId())
+                .yieldQuantity(yield)
+                .yieldUnit("unit")
+                .totalCost(new BigDecimal(totalCost))
+                .costPerUnit(new BigDecimal(costPerUnit))
+                .build());
+        for (int i = 0; i < items.size(); i++) {
+            UUID itemId;
+            BigDecimal unitCost;
+            if (items.get(i) instanceof InventoryItem inventoryItem) {
+                itemId = inventoryItem.getId();
+                unitCost = inventoryItem.getUnitCost();
+            } else {
+                ProductionItem productionItem = (ProductionItem) items.get(i);
+                itemId = productionItem.getId();
+                unitCost = productionItem.getProductionCost();
+            }
+            entityManager.persist(RecipeIngredient.builder()
+                    .recipe(recipe)
+                    .ingredientItemId(itemId)
+                    .quantity(quantities.get(i))
+                    .unit("unit")
+                    .unitCost(unitCost)
+                    .totalCost(unitCost.multiply(BigDecimal.valueOf(quantities.get(i))))
+                    .build());
+        }
+        return recipe;
+    }
+}
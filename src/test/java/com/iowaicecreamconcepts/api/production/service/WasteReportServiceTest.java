@@ -0,0 +1,95 @@
+package com.iowaicecreamconcepts.api.production.service;
+
+import com.iowaicecreamconcepts.api.production.dto.WasteReportRow;
+import com.iowaicecreamconcepts.api.production.dto.WasteReportRow.GroupBy;
+import com.iowaicecreamconcepts.api.production.model.WasteRollup.Granularity;
+import com.iowaicecreamconcepts.api.production.repository.WasteRollupRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WasteReportServiceTest {
+
+    @Mock
+    private WasteRollupRepository wasteRollupRepository;
+
+    @InjectMocks
+    private WasteReportService wasteReportService;
+
+    @Test
+    void getReport_ShouldReadWholeMonthsFromMonthlyRowsAndEdgesFromDailyRows() {
+        // Given
+        LocalDate from = LocalDate.of(2024, 1, 20);
+        LocalDate to = LocalDate.of(2024, 4, 10);
+        when(wasteRollupRepository.sumByGroup(Granularity.DAY, from, LocalDate.of(2024, 2, 1), null, GroupBy.REASON))
+                .thenReturn(List.of(row("SPOILAGE", 1, 2.0, "3.00")));
+        when(wasteRollupRepository.sumByGroup(Granularity.MONTH, LocalDate.of(2024, 2, 1), LocalDate.of(2024, 4, 1), null, GroupBy.REASON))
+                .thenReturn(List.of(row("SPOILAGE", 4, 8.0, "12.00"), row("ACCIDENT", 1, 1.0, "40.00")));
+        when(wasteRollupRepository.sumByGroup(Granularity.DAY, LocalDate.of(2024, 4, 1), to, null, GroupBy.REASON))
+                .thenReturn(List.of());
+
+        // When
+        List<WasteReportRow> report = wasteReportService.getReport(from, to, null, GroupBy.REASON);
+
+        // Then
+        assertThat(report).extracting(WasteReportRow::getGroup).containsExactly("ACCIDENT", "SPOILAGE");
+        assertThat(report.get(1).getEventCount()).isEqualTo(5);
+        assertThat(report.get(1).getQuantity()).isEqualTo(10.0);
+        assertThat(report.get(1).getTotalCost()).isEqualByComparingTo("15.00");
+    }
+
+    @Test
+    void getReport_WhenRangeWithinOneMonth_ShouldOnlyReadDailyRows() {
+        // Given
+        LocalDate from = LocalDate.of(2024, 3, 5);
+        LocalDate to = LocalDate.of(2024, 3, 12);
+        when(wasteRollupRepository.sumByGroup(Granularity.DAY, from, to, null, GroupBy.ITEM)).thenReturn(List.of());
+
+        // When
+        wasteReportService.getReport(from, to, null, GroupBy.ITEM);
+
+        // Then
+        verify(wasteRollupRepository, never()).sumByGroup(eq(Granularity.MONTH), any(), any(), any(), any());
+    }
+
+    @Test
+    void getReport_GroupedByMonth_ShouldFoldEdgeDaysIntoTheirMonth() {
+        // Given
+        LocalDate from = LocalDate.of(2024, 1, 20);
+        LocalDate to = LocalDate.of(2024, 3, 1);
+        when(wasteRollupRepository.sumByGroup(Granularity.DAY, from, LocalDate.of(2024, 2, 1), null, GroupBy.MONTH))
+                .thenReturn(List.of(row("2024-01-20", 1, 1.0, "1.00"), row("2024-01-25", 2, 2.0, "2.00")));
+        when(wasteRollupRepository.sumByGroup(Granularity.MONTH, LocalDate.of(2024, 2, 1), to, null, GroupBy.MONTH))
+                .thenReturn(List.of(row("2024-02-01", 3, 3.0, "3.00")));
+
+        // When
+        List<WasteReportRow> report = wasteReportService.getReport(from, to, null, GroupBy.MONTH);
+
+        // Then
+        assertThat(report).extracting(WasteReportRow::getGroup).containsExactly("2024-01-01", "2024-02-01");
+        assertThat(report.get(0).getEventCount()).isEqualTo(3);
+    }
+
+    @Test
+    void getReport_WhenStartAfterEnd_ShouldThrowException() {
+        // When/Then
+        assertThatThrownBy(() -> wasteReportService.getReport(LocalDate.of(2024, 3, 2), LocalDate.of(2024, 3, 1), null, GroupBy.REASON))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Report start must not be after its end");
+    }
+
+    private static WasteReportRow row(String group, long eventCount, double quantity, String totalCost) {
+        return new WasteReportRow(group, eventCount, quantity, new BigDecimal(totalCost));
+    }
+}
@@ -0,0 +1,54 @@
+package com.iowaicecreamconcepts.api.production.service;
+
+import com.iowaicecreamconcepts.api.outbox.dto.StockEventPayload;
+import com.iowaicecreamconcepts.api.outbox.model.OutboxEvent;
+import com.iowaicecreamconcepts.api.production.repository.WasteRollupRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WasteRollupProjectionTest {
+
+    @Mock
+    private WasteRollupRepository wasteRollupRepository;
+
+    @InjectMocks
+    private WasteRollupProjection projection;
+
+    @Test
+    void apply_ShouldBucketByRecordedTimeNotOutboxTime() {
+        // Given - recorded just before midnight at month end, dispatched just after
+        UUID itemId = UUID.randomUUID();
+        UUID locationId = UUID.randomUUID();
+        OutboxEvent event = OutboxEvent.builder()
+                .type(OutboxEvent.Type.WASTE_RECORDED)
+                .locationId(locationId)
+                .createdAt(LocalDateTime.of(2025, 9, 1, 0, 0, 1))
+                .build();
+        StockEventPayload payload = StockEventPayload.builder()
+                .quantities(Map.of(itemId, 2.0))
+                .reason("SPOILAGE")
+                .recordedAt(LocalDateTime.of(2025, 8, 31, 23, 59, 59))
+                .build();
+        when(wasteRollupRepository.findUnitCost(itemId)).thenReturn(BigDecimal.ONE);
+
+        // When
+        projection.apply(event, payload);
+
+        // Then
+        verify(wasteRollupRepository).increment(eq(LocalDate.of(2025, 8, 31)), eq(itemId), eq(locationId),
+                eq("SPOILAGE"), eq(2.0), any(BigDecimal.class));
+    }
+}
@@ -0,0 +1,134 @@
+package com.iowaicecreamconcepts.api.stream.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.iowaicecreamconcepts.api.auth.model.User;
+import com.iowaicecreamconcepts.api.auth.security.AuthenticatedUser;
+import com.iowaicecreamconcepts.api.auth.service.TokenVersionService;
+import com.iowaicecreamconcepts.api.inventory.repository.CurrentStockRepository;
+import com.iowaicecreamconcepts.api.stream.dto.ChangeEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.access.AccessDeniedException;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeStreamServiceTest {
+
+    @Mock
+    private CurrentStockRepository currentStockRepository;
+
+    @Mock
+    private TokenVersionService tokenVersionService;
+
+    private ChangeStreamService changeStreamService;
+    private UUID locationId;
+    private UUID otherLocationId;
+
+    @BeforeEach
+    void setUp() {
+        changeStreamService = new ChangeStreamService(currentStockRepository, tokenVersionService,
+                new ObjectMapper().registerModule(new JavaTimeModule()), 4, 60000, 60000, 1);
+        locationId = UUID.randomUUID();
+        otherLocationId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        changeStreamService.shutdown();
+    }
+
+    @Test
+    void subscribe_WhenLocationNotAssigned_ShouldDeny() {
+        // Given
+        AuthenticatedUser user = user(Set.of("inventory:item:r"), Set.of(locationId));
+
+        // When/Then
+        assertThatThrownBy(() -> changeStreamService.subscribe(user, 1L, otherLocationId))
+                .isInstanceOf(AccessDeniedException.class);
+        assertThat(changeStreamService.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    void subscribe_WithoutReadPermissions_ShouldDeny() {
+        // Given
+        AuthenticatedUser user = user(Set.of("admin:location:r"), Set.of());
+
+        // When/Then
+        assertThatThrownBy(() -> changeStreamService.subscribe(user, 1L, null))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    void dispatch_StockChange_ShouldLoadRowsOnceForMatchingSubscribers() {
+        // Given
+        UUID itemId = UUID.randomUUID();
+        changeStreamService.subscribe(user(Set.of("inventory:item:r"), Set.of(locationId)), 1L, null);
+        changeStreamService.subscribe(user(Set.of("inventory:item:r"), Set.of()), 1L, null);
+        when(currentStockRepository.findByLocationIdAndItemIdIn(locationId, List.of(itemId))).thenReturn(List.of());
+
+        // When
+        changeStreamService.dispatch(ChangeEvent.stock(locationId, List.of(itemId)));
+
+        // Then
+        verify(currentStockRepository, times(1)).findByLocationIdAndItemIdIn(locationId, List.of(itemId));
+    }
+
+    @Test
+    void dispatch_WhenNoSubscriberCanSeeChange_ShouldSkipLoadingRows() {
+        // Given
+        changeStreamService.subscribe(user(Set.of("inventory:item:r"), Set.of(locationId)), 1L, null);
+        changeStreamService.subscribe(user(Set.of("production:batch:r"), Set.of()), 1L, null);
+
+        // When
+        changeStreamService.dispatch(ChangeEvent.stock(otherLocationId, List.of(UUID.randomUUID())));
+
+        // Then
+        verify(currentStockRepository, never()).findByLocationIdAndItemIdIn(any(), anyCollection());
+    }
+
+    @Test
+    void heartbeat_WhenTokenRevoked_ShouldDisconnectOnlyThatSubscriber() {
+        // Given
+        AuthenticatedUser revoked = user(Set.of("inventory:item:r"), Set.of(locationId));
+        AuthenticatedUser current = user(Set.of("inventory:item:r"), Set.of(locationId));
+        changeStreamService.subscribe(revoked, 1L, null);
+        changeStreamService.subscribe(current, 1L, null);
+        when(tokenVersionService.isCurrent(revoked.getId(), 1L)).thenReturn(false);
+        when(tokenVersionService.isCurrent(current.getId(), 1L)).thenReturn(true);
+
+        // When
+        changeStreamService.heartbeat();
+
+        // Then
+        assertThat(changeStreamService.getSubscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    void heartbeat_WhenVersionCheckFails_ShouldKeepSubscribers() {
+        // Given
+        changeStreamService.subscribe(user(Set.of("inventory:item:r"), Set.of(locationId)), 1L, null);
+        when(tokenVersionService.isCurrent(any(), anyLong())).thenThrow(new RuntimeException("Database unavailable"));
+
+        // When
+        changeStreamService.heartbeat();
+
+        // Then
+        assertThat(changeStreamService.getSubscriberCount()).isEqualTo(1);
+    }
+
+    private AuthenticatedUser user(Set<String> permissions, Set<UUID> locations) {
+        return new AuthenticatedUser(UUID.randomUUID(), "user@sweetswirls.com", User.Role.TEAM_MEMBER, permissions, locations);
+    }
+}
@@ -1,8 +1,10 @@
 package com.iowaicecreamconcepts.api.testconfig;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.iowaicecreamconcepts.api.common.metrics.RequestStatementStatsFilter;
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
+import io.restassured.response.Response;
 import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -10,6 +12,7 @@ import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.test.context.ActiveProfiles;
 
 import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @ActiveProfiles("test")
@@ -77,4 +80,17 @@ public abstract class IntegrationTestBase {
         }
         return "ee23b4b9-532e-4340-b57b-f63171c90de1"; // Default production lead UUID
     }
-}
\ No newline at end of file
+
+    /**
+     * JDBC statements the server ran for a request, read from the header the test profile turns on.
+     */
+    protected int statementCount(Response response) {
+        String statements = response.getHeader(RequestStatementStatsFilter.STATEMENTS_HEADER);
+        assertThat(statements).as("%s header", RequestStatementStatsFilter.STATEMENTS_HEADER).isNotNull();
+        return Integer.parseInt(statements);
+    }
+
+    protected void assertStatementCountAtMost(Response response, int budget) {
+        assertThat(statementCount(response)).as("JDBC statements").isLessThanOrEqualTo(budget);
+    }
+}